@@ -0,0 +1,152 @@
+package com.produtopedidoitens.api.adapters.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import com.produtopedidoitens.api.adapters.web.projections.OrderItemProjection;
+import com.produtopedidoitens.api.adapters.web.projections.OrderProjection;
+import com.produtopedidoitens.api.application.domain.entities.OrderEntity;
+import com.produtopedidoitens.api.application.domain.enums.EnumOrderStatus;
+import com.produtopedidoitens.api.application.mapper.OrderConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LoggingBenchmark {
+
+    private static final String PATTERN = "%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5p --- [%t] %-40.40logger{39} : %m%n";
+    private static final String FULL_PAYLOAD = "bench.payload.OrderServiceImpl";
+    private static final String SUMMARY = "bench.summary.OrderServiceImpl";
+    private static final String SAMPLED_ASYNC = "bench.sampled.OrderServiceImpl";
+    private static final int ORDER_ITEMS = 10;
+
+    @Param({"1", "50"})
+    private int orders;
+
+    private LoggerContext loggerContext;
+    private Logger fullPayloadLogger;
+    private Logger summaryLogger;
+    private Logger sampledAsyncLogger;
+    private List<OrderProjection> orderProjections;
+    private long totalElements;
+
+    @Setup
+    public void setUp() {
+        loggerContext = new LoggerContext();
+        SamplingTurboFilter samplingTurboFilter = new SamplingTurboFilter();
+        samplingTurboFilter.setContext(loggerContext);
+        samplingTurboFilter.setLoggers(SAMPLED_ASYNC + "=10");
+        samplingTurboFilter.start();
+        loggerContext.addTurboFilter(samplingTurboFilter);
+
+        OutputStreamAppender<ILoggingEvent> syncAppender = nullAppender("SYNC");
+        AsyncAppender asyncAppender = new AsyncAppender();
+        asyncAppender.setContext(loggerContext);
+        asyncAppender.setName("ASYNC");
+        asyncAppender.setNeverBlock(true);
+        asyncAppender.addAppender(nullAppender("ASYNC_TARGET"));
+        asyncAppender.start();
+
+        fullPayloadLogger = logger(FULL_PAYLOAD, syncAppender);
+        summaryLogger = logger(SUMMARY, syncAppender);
+        sampledAsyncLogger = logger(SAMPLED_ASYNC, asyncAppender);
+
+        OrderConverter orderConverter = new OrderConverter(null, null);
+        orderProjections = new ArrayList<>();
+        for (int i = 0; i < orders; i++) {
+            OrderEntity orderEntity = OrderEntity.builder()
+                    .id(UUID.randomUUID())
+                    .orderNumber("PED-" + (1000 + i) + "-2024")
+                    .orderDate(LocalDate.now())
+                    .status(EnumOrderStatus.OPEN)
+                    .grossTotal(new BigDecimal("219.00"))
+                    .discount(new BigDecimal("10.00"))
+                    .netTotal(new BigDecimal("197.10"))
+                    .dthreg(LocalDateTime.now())
+                    .dthalt(LocalDateTime.now())
+                    .version(0L)
+                    .build();
+            List<OrderItemProjection> items = new ArrayList<>();
+            for (int j = 0; j < ORDER_ITEMS; j++) {
+                items.add(new OrderItemProjection(UUID.randomUUID(), orderEntity.getOrderNumber(), "Café Especial", j + 1,
+                        new BigDecimal("21.90"), new BigDecimal("19.71").multiply(BigDecimal.valueOf(j + 1L))));
+            }
+            orderProjections.add(orderConverter.toProjection(orderEntity, items));
+        }
+        totalElements = orders * 20L;
+    }
+
+    @TearDown
+    public void tearDown() {
+        loggerContext.stop();
+    }
+
+    @Benchmark
+    public void fullPayload() {
+        fullPayloadLogger.info("listAllOrders:: Pedidos encontrados: {}", orderProjections);
+    }
+
+    @Benchmark
+    public void summary() {
+        summaryLogger.info("listAllOrders:: Pedidos encontrados: {} de {}", orderProjections.size(), totalElements);
+        summaryLogger.debug("listAllOrders:: Pedidos encontrados: {}", orderProjections);
+    }
+
+    @Benchmark
+    public void summarySampledAsync() {
+        sampledAsyncLogger.info("listAllOrders:: Pedidos encontrados: {} de {}", orderProjections.size(), totalElements);
+        sampledAsyncLogger.debug("listAllOrders:: Pedidos encontrados: {}", orderProjections);
+    }
+
+    private Logger logger(String name, Appender<ILoggingEvent> appender) {
+        Logger logger = loggerContext.getLogger(name);
+        logger.setLevel(Level.INFO);
+        logger.setAdditive(false);
+        logger.addAppender(appender);
+        return logger;
+    }
+
+    private OutputStreamAppender<ILoggingEvent> nullAppender(String name) {
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(loggerContext);
+        encoder.setPattern(PATTERN);
+        encoder.start();
+        OutputStreamAppender<ILoggingEvent> appender = new OutputStreamAppender<>();
+        appender.setContext(loggerContext);
+        appender.setName(name);
+        appender.setEncoder(encoder);
+        appender.setOutputStream(OutputStream.nullOutputStream());
+        appender.start();
+        return appender;
+    }
+
+}
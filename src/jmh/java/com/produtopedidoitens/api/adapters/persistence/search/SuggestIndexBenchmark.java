@@ -0,0 +1,64 @@
+package com.produtopedidoitens.api.adapters.persistence.search;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+public class SuggestIndexBenchmark {
+
+    private static final String[] WORDS = {"café", "cafeteira", "chá", "mate", "filtro", "coador", "moedor", "xícara",
+            "caneca", "açúcar", "adoçante", "leite", "entrega", "expressa", "instalação", "manutenção", "garantia",
+            "torrado", "moído", "grãos", "especial", "orgânico", "gourmet", "elétrica", "italiana", "prensa", "francesa"};
+    private static final int LIMIT = 10;
+
+    @Param({"1000000"})
+    private int items;
+
+    private SuggestIndex index;
+    private List<String> queries;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        index = new SuggestIndex();
+        for (int i = 0; i < items; i++) {
+            String name = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)] + " " + i;
+            String description = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)] + " "
+                    + WORDS[random.nextInt(WORDS.length)];
+            index.upsert(new UUID(random.nextLong(), random.nextLong()), name, description, String.valueOf(1_000_000 + i * 100L), true, 0L);
+            if (index.needsMerge()) {
+                index.merge();
+            }
+        }
+        index.merge();
+        queries = List.of("c", "caf", "cafe tor", "xic", "manut gar", "1000", "1234567", "instalacao especial", "zz", String.valueOf(items / 2));
+    }
+
+    @Benchmark
+    public List<SuggestIndex.Suggestion> suggest() {
+        String query = queries.get(next);
+        next = (next + 1) % queries.size();
+        return index.suggest(query, LIMIT, true);
+    }
+
+}
@@ -0,0 +1,150 @@
+package com.produtopedidoitens.api.application.mapper;
+
+import com.produtopedidoitens.api.adapters.persistence.sequences.CatalogItemNumberGenerator;
+import com.produtopedidoitens.api.adapters.persistence.sequences.SequenceBlockAllocator;
+import com.produtopedidoitens.api.adapters.web.projections.OrderItemProjection;
+import com.produtopedidoitens.api.adapters.web.projections.OrderProjection;
+import com.produtopedidoitens.api.adapters.web.requests.CatalogItemRequest;
+import com.produtopedidoitens.api.adapters.web.requests.OrderItemRequest;
+import com.produtopedidoitens.api.adapters.web.responses.CatalogItemResponse;
+import com.produtopedidoitens.api.application.domain.entities.CatalogItemEntity;
+import com.produtopedidoitens.api.application.domain.entities.OrderEntity;
+import com.produtopedidoitens.api.application.domain.entities.OrderItemEntity;
+import com.produtopedidoitens.api.application.domain.enums.EnumCatalogItemType;
+import com.produtopedidoitens.api.application.domain.enums.EnumOrderStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.support.incrementer.DataFieldMaxValueIncrementer;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConverterBenchmark {
+
+    private static final int ORDER_ITEMS = 10;
+    private static final int CATALOG_ITEM_NUMBER_BLOCK = 1000;
+
+    private OrderConverter orderConverter;
+    private ProductConverter productConverter;
+    private OrderItemConverter orderItemConverter;
+    private OrderEntity orderEntity;
+    private List<OrderItemProjection> orderItems;
+    private CatalogItemRequest catalogItemRequest;
+    private CatalogItemEntity catalogItemEntity;
+    private OrderItemRequest orderItemRequest;
+
+    @Setup
+    public void setUp() {
+        orderConverter = new OrderConverter(null, null);
+        productConverter = new ProductConverter(new CatalogItemNumberGenerator(
+                new SequenceBlockAllocator(new InMemoryIncrementer(), CATALOG_ITEM_NUMBER_BLOCK)));
+        orderItemConverter = new OrderItemConverter();
+
+        orderEntity = OrderEntity.builder()
+                .id(UUID.randomUUID())
+                .orderNumber("PED-1001-2024")
+                .orderDate(LocalDate.now())
+                .status(EnumOrderStatus.OPEN)
+                .grossTotal(new BigDecimal("219.00"))
+                .discount(new BigDecimal("10.00"))
+                .netTotal(new BigDecimal("197.10"))
+                .dthreg(LocalDateTime.now())
+                .dthalt(LocalDateTime.now())
+                .version(0L)
+                .build();
+        orderItems = new ArrayList<>();
+        for (int i = 0; i < ORDER_ITEMS; i++) {
+            orderItems.add(new OrderItemProjection(UUID.randomUUID(), orderEntity.getOrderNumber(), "Café Especial", i + 1,
+                    new BigDecimal("21.90"), new BigDecimal("19.71").multiply(BigDecimal.valueOf(i + 1L))));
+        }
+
+        catalogItemRequest = CatalogItemRequest.builder()
+                .catalogItemName("Café Especial")
+                .catalogItemDescription("Café especial torrado e moído")
+                .price("21.90")
+                .type("Produto")
+                .isActive("true")
+                .build();
+        catalogItemEntity = CatalogItemEntity.builder()
+                .id(UUID.randomUUID())
+                .catalogItemName("Café Especial")
+                .catalogItemDescription("Café especial torrado e moído")
+                .catalogItemNumber("1000000")
+                .price(new BigDecimal("21.90"))
+                .type(EnumCatalogItemType.PRODUCT)
+                .isActive(true)
+                .version(0L)
+                .build();
+        orderItemRequest = OrderItemRequest.builder()
+                .quantity("3")
+                .catalogItemId(catalogItemEntity.getId().toString())
+                .orderId(orderEntity.getId().toString())
+                .build();
+    }
+
+    @Benchmark
+    public OrderProjection orderToProjection() {
+        return orderConverter.toProjection(orderEntity, orderItems);
+    }
+
+    @Benchmark
+    public CatalogItemEntity productToEntity() {
+        return productConverter.toEntity(catalogItemRequest);
+    }
+
+    @Benchmark
+    public CatalogItemResponse productToResponse() {
+        return productConverter.toResponse(catalogItemEntity);
+    }
+
+    @Benchmark
+    public EnumCatalogItemType enumFromString() {
+        return EnumConverter.fromString("Serviço", EnumCatalogItemType.class);
+    }
+
+    @Benchmark
+    public OrderItemEntity orderItemToEntity() {
+        return orderItemConverter.requestToEntity(orderItemRequest, catalogItemEntity, orderEntity);
+    }
+
+    private static class InMemoryIncrementer implements DataFieldMaxValueIncrementer {
+
+        private final AtomicLong value = new AtomicLong(1_000_000);
+
+        @Override
+        public int nextIntValue() {
+            return Math.toIntExact(nextLongValue());
+        }
+
+        @Override
+        public long nextLongValue() {
+            return value.getAndAdd(CATALOG_ITEM_NUMBER_BLOCK);
+        }
+
+        @Override
+        public String nextStringValue() {
+            return Long.toString(nextLongValue());
+        }
+    }
+
+}
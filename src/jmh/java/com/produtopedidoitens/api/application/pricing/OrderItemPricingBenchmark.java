@@ -0,0 +1,84 @@
+package com.produtopedidoitens.api.application.pricing;
+
+import com.produtopedidoitens.api.application.domain.enums.EnumCatalogItemType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderItemPricingBenchmark {
+
+    @Param({"1", "50"})
+    private int lines;
+
+    private BigDecimal[] prices;
+    private long[] priceCents;
+    private int[] quantities;
+    private EnumCatalogItemType[] types;
+    private BigDecimal discount;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        prices = new BigDecimal[lines];
+        priceCents = new long[lines];
+        quantities = new int[lines];
+        types = new EnumCatalogItemType[lines];
+        for (int i = 0; i < lines; i++) {
+            priceCents[i] = random.nextLong(1, 100_000);
+            prices[i] = BigDecimal.valueOf(priceCents[i], 2);
+            quantities[i] = random.nextInt(1, 20);
+            types[i] = random.nextBoolean() ? EnumCatalogItemType.PRODUCT : EnumCatalogItemType.SERVICE;
+        }
+        discount = new BigDecimal("12.5");
+    }
+
+    @Benchmark
+    public BigDecimal[] bigDecimalOrderTotals() {
+        BigDecimal discountPercent = discount.divide(BigDecimal.valueOf(100.00), 4, RoundingMode.HALF_EVEN);
+        BigDecimal grossTotal = BigDecimal.ZERO;
+        BigDecimal netTotal = BigDecimal.ZERO;
+        for (int i = 0; i < lines; i++) {
+            BigDecimal grossTotalItem = prices[i].multiply(BigDecimal.valueOf(quantities[i]));
+            BigDecimal netTotalItem = grossTotalItem.setScale(2, RoundingMode.HALF_EVEN);
+            if (EnumCatalogItemType.PRODUCT.equals(types[i])) {
+                BigDecimal discountAmount = netTotalItem.multiply(discountPercent).setScale(2, RoundingMode.HALF_EVEN);
+                netTotalItem = netTotalItem.subtract(discountAmount);
+            }
+            grossTotal = grossTotal.add(grossTotalItem);
+            netTotal = netTotal.add(netTotalItem);
+        }
+        return new BigDecimal[]{grossTotal, netTotal};
+    }
+
+    @Benchmark
+    public BigDecimal[] longCentsOrderTotals() {
+        long discountBasisPoints = OrderItemPricing.toBasisPoints(discount);
+        long grossCents = 0L;
+        long netCents = 0L;
+        for (int i = 0; i < lines; i++) {
+            grossCents += OrderItemPricing.grossCents(priceCents[i], quantities[i]);
+            netCents += OrderItemPricing.netCents(priceCents[i], quantities[i], types[i], discountBasisPoints);
+        }
+        return new BigDecimal[]{OrderItemPricing.fromCents(grossCents), OrderItemPricing.fromCents(netCents)};
+    }
+
+}
@@ -0,0 +1,83 @@
+package com.produtopedidoitens.api.application.validators;
+
+import com.produtopedidoitens.api.adapters.web.requests.CatalogItemRequest;
+import com.produtopedidoitens.api.adapters.web.requests.OrderItemRequest;
+import com.produtopedidoitens.api.adapters.web.requests.OrderRequest;
+import com.produtopedidoitens.api.application.domain.entities.OrderEntity;
+import com.produtopedidoitens.api.application.domain.enums.EnumOrderStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ValidatorBenchmark {
+
+    private final CatalogItemValidator catalogItemValidator = new CatalogItemValidator();
+    private final OrderValidator orderValidator = new OrderValidator();
+    private final OrderItemValidator orderItemValidator = new OrderItemValidator();
+
+    private CatalogItemRequest catalogItemRequest;
+    private OrderRequest orderRequest;
+    private OrderItemRequest orderItemRequest;
+    private OrderEntity orderEntity;
+
+    @Setup
+    public void setUp() {
+        catalogItemRequest = CatalogItemRequest.builder()
+                .catalogItemName("Café Especial")
+                .catalogItemDescription("Café especial torrado e moído")
+                .price("21.90")
+                .type("Produto")
+                .isActive("true")
+                .build();
+        orderRequest = OrderRequest.builder()
+                .orderDate(LocalDate.now())
+                .status("Aberto")
+                .discount("10.00")
+                .build();
+        orderEntity = OrderEntity.builder()
+                .id(UUID.randomUUID())
+                .status(EnumOrderStatus.OPEN)
+                .build();
+        orderItemRequest = OrderItemRequest.builder()
+                .quantity("3")
+                .catalogItemId(UUID.randomUUID().toString())
+                .orderId(orderEntity.getId().toString())
+                .build();
+    }
+
+    @Benchmark
+    public CatalogItemRequest catalogItemValidate() {
+        catalogItemValidator.validate(catalogItemRequest);
+        return catalogItemRequest;
+    }
+
+    @Benchmark
+    public OrderRequest orderValidate() {
+        orderValidator.validate(orderRequest);
+        return orderRequest;
+    }
+
+    @Benchmark
+    public OrderItemRequest orderItemValidate() {
+        orderItemValidator.validate(orderItemRequest, orderEntity);
+        return orderItemRequest;
+    }
+
+}
@@ -0,0 +1,182 @@
+package com.produtopedidoitens.api.loadtest;
+
+import com.produtopedidoitens.api.adapters.config.SequenceConfiguration;
+import com.produtopedidoitens.api.adapters.persistence.sequences.CatalogItemNumberGenerator;
+import com.produtopedidoitens.api.adapters.persistence.sequences.OrderNumberGenerator;
+import com.produtopedidoitens.api.adapters.persistence.sequences.SequenceBlockAllocator;
+import com.produtopedidoitens.api.application.domain.enums.EnumCatalogItemType;
+import com.produtopedidoitens.api.application.domain.enums.EnumOrderStatus;
+import com.produtopedidoitens.api.application.pricing.OrderItemPricing;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.jdbc.support.incrementer.PostgresSequenceMaxValueIncrementer;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+@Slf4j
+@RequiredArgsConstructor
+public class LoadTestDataSeeder {
+
+    private static final String INSERT_CATALOG_ITEM = """
+            INSERT INTO tbcatalogitem (catalogitemid, catalogitemname, catalogitemdescription, catalogitemnumber, price, type, isactive, dthreg, dthalt, version)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, 0)
+            """;
+
+    private static final String INSERT_ORDER = """
+            INSERT INTO tborder (idorder, ordernumber, orderdate, status, grosstotal, discount, nettotal, dthreg, dthalt, version)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, 0)
+            """;
+
+    private static final String INSERT_ORDER_ITEM = """
+            INSERT INTO tborderitem (idorderitem, idorder, catalogitemid, quantity, price, total, dthreg, dthalt, version)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, 0)
+            """;
+
+    private static final String CATALOG_ITEM_EXISTS = "SELECT 1 FROM tbcatalogitem WHERE catalogitemid = ?";
+
+    private static final long[] DISCOUNT_BASIS_POINTS = {0L, 500L, 1000L, 1250L, 2000L};
+
+    private final LoadTestSettings settings;
+
+    public static void main(String[] args) throws SQLException {
+        new LoadTestDataSeeder(LoadTestSettings.fromSystemProperties()).seed();
+    }
+
+    public void seed() throws SQLException {
+        SplittableRandom random = new SplittableRandom(settings.seed());
+        LocalDateTime start = LocalDateTime.now().minusDays(365);
+        try (Connection connection = DriverManager.getConnection(settings.jdbcUrl(), settings.jdbcUser(), settings.jdbcPassword())) {
+            connection.setAutoCommit(false);
+            DataSource dataSource = new SingleConnectionDataSource(connection, true);
+            CatalogItemNumberGenerator catalogItemNumbers = new CatalogItemNumberGenerator(new SequenceBlockAllocator(
+                    new PostgresSequenceMaxValueIncrementer(dataSource, SequenceConfiguration.CATALOG_ITEM_NUMBER_SEQUENCE),
+                    SequenceConfiguration.CATALOG_ITEM_NUMBER_BLOCK_SIZE));
+            OrderNumberGenerator orderNumbers = new OrderNumberGenerator(new SequenceBlockAllocator(
+                    new PostgresSequenceMaxValueIncrementer(dataSource, SequenceConfiguration.ORDER_NUMBER_SEQUENCE),
+                    SequenceConfiguration.ORDER_NUMBER_BLOCK_SIZE));
+            CatalogItem[] catalogItems = seedCatalogItems(connection, random, start, catalogItemNumbers);
+            seedOrders(connection, random, start, catalogItems, orderNumbers);
+        }
+    }
+
+    private CatalogItem[] seedCatalogItems(Connection connection, SplittableRandom random, LocalDateTime start,
+                                           CatalogItemNumberGenerator catalogItemNumbers) throws SQLException {
+        log.info("seedCatalogItems:: Gerando {} produtos/serviços", settings.catalogItems());
+        CatalogItem[] catalogItems = new CatalogItem[settings.catalogItems()];
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_CATALOG_ITEM)) {
+            for (int i = 0; i < catalogItems.length; i++) {
+                EnumCatalogItemType type = random.nextInt(4) == 0 ? EnumCatalogItemType.SERVICE : EnumCatalogItemType.PRODUCT;
+                CatalogItem catalogItem = new CatalogItem(uuid(random), random.nextLong(100, 500_000), type);
+                if (i == 0) {
+                    ensureNotSeeded(connection, catalogItem.id());
+                }
+                catalogItems[i] = catalogItem;
+                Timestamp dthreg = Timestamp.valueOf(start.plusSeconds(i));
+                statement.setObject(1, catalogItem.id());
+                statement.setString(2, (type == EnumCatalogItemType.PRODUCT ? "Produto " : "Serviço ") + i);
+                statement.setString(3, "Item gerado para teste de carga " + i);
+                statement.setString(4, catalogItemNumbers.next());
+                statement.setBigDecimal(5, OrderItemPricing.fromCents(catalogItem.priceCents()));
+                statement.setString(6, type.name());
+                statement.setBoolean(7, true);
+                statement.setTimestamp(8, dthreg);
+                statement.setTimestamp(9, dthreg);
+                statement.addBatch();
+                flushBatch(connection, statement, i + 1, catalogItems.length);
+            }
+        }
+        return catalogItems;
+    }
+
+    private void seedOrders(Connection connection, SplittableRandom random, LocalDateTime start, CatalogItem[] catalogItems,
+                            OrderNumberGenerator orderNumbers) throws SQLException {
+        log.info("seedOrders:: Gerando {} pedidos com em média {} itens", settings.orders(), settings.itemsPerOrder());
+        long items = 0;
+        try (PreparedStatement orderStatement = connection.prepareStatement(INSERT_ORDER);
+             PreparedStatement itemStatement = connection.prepareStatement(INSERT_ORDER_ITEM)) {
+            for (int i = 0; i < settings.orders(); i++) {
+                UUID orderId = uuid(random);
+                long discountBasisPoints = DISCOUNT_BASIS_POINTS[random.nextInt(DISCOUNT_BASIS_POINTS.length)];
+                LocalDateTime dthreg = start.plusSeconds(i * 30L);
+                int lines = random.nextInt(1, settings.itemsPerOrder() * 2);
+                long grossCents = 0L;
+                long netCents = 0L;
+                for (int line = 0; line < lines; line++) {
+                    CatalogItem catalogItem = catalogItems[random.nextInt(catalogItems.length)];
+                    int quantity = random.nextInt(1, 20);
+                    long lineNetCents = OrderItemPricing.netCents(catalogItem.priceCents(), quantity, catalogItem.type(), discountBasisPoints);
+                    grossCents += OrderItemPricing.grossCents(catalogItem.priceCents(), quantity);
+                    netCents += lineNetCents;
+                    Timestamp itemDthreg = Timestamp.valueOf(dthreg.plusNanos(line * 1_000_000L));
+                    itemStatement.setObject(1, uuid(random));
+                    itemStatement.setObject(2, orderId);
+                    itemStatement.setObject(3, catalogItem.id());
+                    itemStatement.setInt(4, quantity);
+                    itemStatement.setBigDecimal(5, OrderItemPricing.fromCents(catalogItem.priceCents()));
+                    itemStatement.setBigDecimal(6, OrderItemPricing.fromCents(lineNetCents));
+                    itemStatement.setTimestamp(7, itemDthreg);
+                    itemStatement.setTimestamp(8, itemDthreg);
+                    itemStatement.addBatch();
+                }
+                items += lines;
+                orderStatement.setObject(1, orderId);
+                orderStatement.setString(2, orderNumbers.next());
+                orderStatement.setDate(3, Date.valueOf(dthreg.toLocalDate()));
+                orderStatement.setString(4, random.nextInt(5) == 0 ? EnumOrderStatus.CLOSED.name() : EnumOrderStatus.OPEN.name());
+                orderStatement.setBigDecimal(5, OrderItemPricing.fromCents(grossCents));
+                orderStatement.setBigDecimal(6, BigDecimal.valueOf(discountBasisPoints, 2));
+                orderStatement.setBigDecimal(7, OrderItemPricing.fromCents(netCents));
+                orderStatement.setTimestamp(8, Timestamp.valueOf(dthreg));
+                orderStatement.setTimestamp(9, Timestamp.valueOf(dthreg));
+                orderStatement.addBatch();
+                if ((i + 1) % settings.batchSize() == 0 || i + 1 == settings.orders()) {
+                    orderStatement.executeBatch();
+                    itemStatement.executeBatch();
+                    connection.commit();
+                    log.info("seedOrders:: {} de {} pedidos gravados ({} itens)", i + 1, settings.orders(), items);
+                }
+            }
+        }
+    }
+
+    private void ensureNotSeeded(Connection connection, UUID firstCatalogItemId) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(CATALOG_ITEM_EXISTS)) {
+            statement.setObject(1, firstCatalogItemId);
+            try (ResultSet rs = statement.executeQuery()) {
+                if (rs.next()) {
+                    throw new IllegalStateException("O banco já contém os dados do seed " + settings.seed() + "; informe outro -Dloadtest.seed");
+                }
+            }
+        }
+    }
+
+    private static UUID uuid(SplittableRandom random) {
+        long mostSignificantBits = (random.nextLong() & ~0xF000L) | 0x4000L;
+        long leastSignificantBits = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+
+    private void flushBatch(Connection connection, PreparedStatement statement, int written, int total) throws SQLException {
+        if (written % settings.batchSize() == 0 || written == total) {
+            statement.executeBatch();
+            connection.commit();
+            log.info("flushBatch:: {} de {} registros gravados", written, total);
+        }
+    }
+
+    private record CatalogItem(UUID id, long priceCents, EnumCatalogItemType type) {
+    }
+
+}
@@ -0,0 +1,255 @@
+package com.produtopedidoitens.api.loadtest;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+
+@Slf4j
+@RequiredArgsConstructor
+public class LoadTestRunner {
+
+    private static final String CATALOG_ITEM_IDS = "SELECT catalogitemid FROM tbcatalogitem WHERE isactive = TRUE LIMIT ?";
+    private static final String ORDER_IDS = "SELECT idorder, ordernumber FROM tborder WHERE status = 'OPEN' LIMIT ?";
+    private static final String ORDER_ITEM_IDS = "SELECT idorderitem FROM tborderitem LIMIT ?";
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.SECONDS.toMicros(60);
+    private static final double MICROS_PER_MILLI = 1_000.0;
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final LoadTestSettings settings;
+    private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(REQUEST_TIMEOUT).build();
+
+    public static void main(String[] args) throws Exception {
+        new LoadTestRunner(LoadTestSettings.fromSystemProperties()).run();
+    }
+
+    public void run() throws Exception {
+        List<Operation> operations = operations(loadSamples());
+        int totalWeight = operations.stream().mapToInt(Operation::weight).sum();
+        AtomicBoolean recording = new AtomicBoolean(false);
+        AtomicBoolean running = new AtomicBoolean(true);
+
+        long intervalNanos = TimeUnit.SECONDS.toNanos(settings.threads()) / settings.requestsPerSecond();
+
+        log.info("run:: Iniciando {} threads contra {} a {} req/s (aquecimento: {}, medição: {})",
+                settings.threads(), settings.baseUrl(), settings.requestsPerSecond(), settings.warmup(), settings.duration());
+        ExecutorService executor = Executors.newFixedThreadPool(settings.threads());
+        List<Future<?>> workers = new ArrayList<>();
+        for (int i = 0; i < settings.threads(); i++) {
+            SplittableRandom random = new SplittableRandom(settings.seed() + i);
+            workers.add(executor.submit(() -> {
+                long intendedStartNanos = System.nanoTime() + random.nextLong(intervalNanos);
+                while (running.get()) {
+                    LockSupport.parkNanos(intendedStartNanos - System.nanoTime());
+                    execute(pick(operations, totalWeight, random), random, intendedStartNanos, recording.get());
+                    intendedStartNanos += intervalNanos;
+                }
+                return null;
+            }));
+        }
+        Thread.sleep(settings.warmup().toMillis());
+        checkWorkers(workers);
+        operations.forEach(operation -> operation.recorder().reset());
+        recording.set(true);
+        long startNanos = System.nanoTime();
+        Thread.sleep(settings.duration().toMillis());
+        running.set(false);
+        executor.shutdown();
+        if (!executor.awaitTermination(REQUEST_TIMEOUT.toSeconds(), TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+        double elapsedSeconds = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+        checkWorkers(workers);
+
+        report(operations, elapsedSeconds);
+    }
+
+    private static void checkWorkers(List<Future<?>> workers) throws InterruptedException {
+        for (Future<?> worker : workers) {
+            if (worker.isDone() && !worker.isCancelled()) {
+                try {
+                    worker.get();
+                } catch (ExecutionException e) {
+                    throw new IllegalStateException("Uma thread de carga foi interrompida por erro", e.getCause());
+                }
+            }
+        }
+    }
+
+    private void execute(Operation operation, SplittableRandom random, long intendedStartNanos, boolean recording) {
+        HttpRequest request = operation.request().apply(random);
+        boolean failed;
+        try {
+            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            failed = response.statusCode() >= 400;
+        } catch (IOException e) {
+            failed = true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        if (recording) {
+            long micros = Math.min(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intendedStartNanos), HIGHEST_TRACKABLE_MICROS);
+            operation.recorder().recordValue(micros);
+            if (failed) {
+                operation.errors().increment();
+            }
+        }
+    }
+
+    private void report(List<Operation> operations, double elapsedSeconds) throws IOException {
+        Files.createDirectories(settings.outputDirectory());
+        Histogram total = new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+        log.info(String.format("%-28s %10s %10s %10s %10s %10s %10s %10s %8s",
+                "endpoint", "requests", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms", "errors"));
+        for (Operation operation : operations) {
+            Histogram histogram = operation.recorder().getIntervalHistogram();
+            total.add(histogram);
+            logLine(operation.name(), histogram, elapsedSeconds, operation.errors().sum());
+            writeHistogram(operation.name(), histogram);
+        }
+        logLine("total", total, elapsedSeconds, operations.stream().mapToLong(operation -> operation.errors().sum()).sum());
+        writeHistogram("total", total);
+        log.info("report:: Histogramas gravados em {}", settings.outputDirectory().toAbsolutePath());
+    }
+
+    private static void logLine(String name, Histogram histogram, double elapsedSeconds, long errors) {
+        log.info(String.format("%-28s %10d %10.1f %10.2f %10.2f %10.2f %10.2f %10.2f %8d",
+                name,
+                histogram.getTotalCount(),
+                histogram.getTotalCount() / elapsedSeconds,
+                histogram.getValueAtPercentile(50) / MICROS_PER_MILLI,
+                histogram.getValueAtPercentile(90) / MICROS_PER_MILLI,
+                histogram.getValueAtPercentile(99) / MICROS_PER_MILLI,
+                histogram.getValueAtPercentile(99.9) / MICROS_PER_MILLI,
+                histogram.getMaxValue() / MICROS_PER_MILLI,
+                errors));
+    }
+
+    private void writeHistogram(String name, Histogram histogram) throws IOException {
+        try (PrintStream out = new PrintStream(Files.newOutputStream(settings.outputDirectory().resolve(name.replaceAll("[^A-Za-z0-9]+", "-").replaceAll("^-|-$", "") + ".hgrm")))) {
+            histogram.outputPercentileDistribution(out, MICROS_PER_MILLI);
+        }
+    }
+
+    private static Operation pick(List<Operation> operations, int totalWeight, SplittableRandom random) {
+        int value = random.nextInt(totalWeight);
+        for (Operation operation : operations) {
+            value -= operation.weight();
+            if (value < 0) {
+                return operation;
+            }
+        }
+        return operations.get(operations.size() - 1);
+    }
+
+    private List<Operation> operations(Samples samples) {
+        List<Operation> operations = new ArrayList<>();
+        operations.add(new Operation("catalog-items/{id}", 25,
+                random -> get("/api/v1/catalog-items/" + samples.any(samples.catalogItemIds(), random))));
+        operations.add(new Operation("catalog-items/cursor", 10,
+                random -> get("/api/v1/catalog-items/cursor?limit=50")));
+        operations.add(new Operation("orders/{id}", 25,
+                random -> get("/api/v1/orders/" + samples.any(samples.orderIds(), random))));
+        operations.add(new Operation("orders/cursor", 10,
+                random -> get("/api/v1/orders/cursor?limit=50")));
+        operations.add(new Operation("orderitems/{id}", 15,
+                random -> get("/api/v1/orderitems/" + samples.any(samples.orderItemIds(), random))));
+        operations.add(new Operation("orderitems/order/{number}", 10,
+                random -> get("/api/v1/orderitems/order/" + samples.any(samples.orderNumbers(), random))));
+        operations.add(new Operation("POST orderitems", 5,
+                random -> {
+                    int order = random.nextInt(samples.orderIds().size());
+                    String body = String.format("{\"quantity\":\"%d\",\"catalogItemId\":\"%s\",\"orderId\":\"%s\"}",
+                            random.nextInt(1, 10), samples.any(samples.catalogItemIds(), random), samples.orderIds().get(order));
+                    return HttpRequest.newBuilder(URI.create(settings.baseUrl() + "/api/v1/orderitems"))
+                            .timeout(REQUEST_TIMEOUT)
+                            .header("Content-Type", "application/json")
+                            .POST(HttpRequest.BodyPublishers.ofString(body))
+                            .build();
+                }));
+        return operations;
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(settings.baseUrl() + path)).timeout(REQUEST_TIMEOUT).GET().build();
+    }
+
+    private Samples loadSamples() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(settings.jdbcUrl(), settings.jdbcUser(), settings.jdbcPassword())) {
+            List<String> orderIds = new ArrayList<>();
+            List<String> orderNumbers = new ArrayList<>();
+            try (PreparedStatement statement = connection.prepareStatement(ORDER_IDS)) {
+                statement.setInt(1, settings.sampleSize());
+                try (ResultSet rs = statement.executeQuery()) {
+                    while (rs.next()) {
+                        orderIds.add(rs.getString("idorder"));
+                        orderNumbers.add(rs.getString("ordernumber"));
+                    }
+                }
+            }
+            Samples samples = new Samples(querySample(connection, CATALOG_ITEM_IDS), orderIds, orderNumbers, querySample(connection, ORDER_ITEM_IDS));
+            if (samples.catalogItemIds().isEmpty() || samples.orderIds().isEmpty() || samples.orderItemIds().isEmpty()) {
+                throw new IllegalStateException("Banco sem dados para o teste de carga; execute o LoadTestDataSeeder antes");
+            }
+            log.info("loadSamples:: {} produtos/serviços, {} pedidos e {} itens amostrados",
+                    samples.catalogItemIds().size(), samples.orderIds().size(), samples.orderItemIds().size());
+            return samples;
+        }
+    }
+
+    private List<String> querySample(Connection connection, String sql) throws SQLException {
+        List<String> ids = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setInt(1, settings.sampleSize());
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    ids.add(rs.getString(1));
+                }
+            }
+        }
+        return ids;
+    }
+
+    private record Operation(String name, int weight, Function<SplittableRandom, HttpRequest> request, Recorder recorder, LongAdder errors) {
+
+        Operation(String name, int weight, Function<SplittableRandom, HttpRequest> request) {
+            this(name, weight, request, new Recorder(HIGHEST_TRACKABLE_MICROS, 3), new LongAdder());
+        }
+    }
+
+    private record Samples(List<String> catalogItemIds, List<String> orderIds, List<String> orderNumbers, List<String> orderItemIds) {
+
+        String any(List<String> values, SplittableRandom random) {
+            return values.get(random.nextInt(values.size()));
+        }
+    }
+
+}
@@ -0,0 +1,43 @@
+package com.produtopedidoitens.api.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+public record LoadTestSettings(
+        String jdbcUrl,
+        String jdbcUser,
+        String jdbcPassword,
+        int catalogItems,
+        int orders,
+        int itemsPerOrder,
+        int batchSize,
+        long seed,
+        String baseUrl,
+        int threads,
+        int requestsPerSecond,
+        Duration warmup,
+        Duration duration,
+        int sampleSize,
+        Path outputDirectory
+) {
+
+    public static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                System.getProperty("loadtest.jdbc.url", "jdbc:postgresql://localhost:5432/crud-produto-pedido-itens"),
+                System.getProperty("loadtest.jdbc.user", System.getenv().getOrDefault("POSTGRES_USER", "postgres")),
+                System.getProperty("loadtest.jdbc.password", System.getenv().getOrDefault("POSTGRES_PASSWORD", "")),
+                Integer.getInteger("loadtest.catalogItems", 10_000),
+                Integer.getInteger("loadtest.orders", 100_000),
+                Integer.getInteger("loadtest.itemsPerOrder", 5),
+                Integer.getInteger("loadtest.batchSize", 1_000),
+                Long.getLong("loadtest.seed", 42L),
+                System.getProperty("loadtest.baseUrl", "http://localhost:8080"),
+                Integer.getInteger("loadtest.threads", 16),
+                Integer.getInteger("loadtest.requestsPerSecond", 400),
+                Duration.ofSeconds(Long.getLong("loadtest.warmupSeconds", 10L)),
+                Duration.ofSeconds(Long.getLong("loadtest.durationSeconds", 60L)),
+                Integer.getInteger("loadtest.sampleSize", 10_000),
+                Path.of(System.getProperty("loadtest.outputDirectory", "target/loadtest"))
+        );
+    }
+}
@@ -0,0 +1,48 @@
+package com.produtopedidoitens.api.adapters.config;
+
+import com.produtopedidoitens.api.adapters.persistence.sequences.CatalogItemNumberGenerator;
+import com.produtopedidoitens.api.adapters.persistence.sequences.OrderNumberGenerator;
+import com.produtopedidoitens.api.adapters.persistence.sequences.SequenceBlockAllocator;
+import org.springframework.boot.jdbc.DatabaseDriver;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.jdbc.support.incrementer.DataFieldMaxValueIncrementer;
+import org.springframework.jdbc.support.incrementer.H2SequenceMaxValueIncrementer;
+import org.springframework.jdbc.support.incrementer.PostgresSequenceMaxValueIncrementer;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+
+@Configuration
+public class SequenceConfiguration {
+
+    // Os tamanhos de bloco devem ser iguais ao INCREMENT BY das sequences: cada nextval reserva um bloco inteiro de números
+    public static final int ORDER_NUMBER_BLOCK_SIZE = 50;
+    public static final String ORDER_NUMBER_SEQUENCE = "sq_tborder_ordernumber";
+    public static final int CATALOG_ITEM_NUMBER_BLOCK_SIZE = 100;
+    public static final String CATALOG_ITEM_NUMBER_SEQUENCE = "sq_tbcatalogitem_catalogitemnumber";
+
+    @Bean
+    public OrderNumberGenerator orderNumberGenerator(DataSource dataSource) {
+        return new OrderNumberGenerator(new SequenceBlockAllocator(incrementer(dataSource, ORDER_NUMBER_SEQUENCE), ORDER_NUMBER_BLOCK_SIZE));
+    }
+
+    @Bean
+    public CatalogItemNumberGenerator catalogItemNumberGenerator(DataSource dataSource) {
+        return new CatalogItemNumberGenerator(new SequenceBlockAllocator(incrementer(dataSource, CATALOG_ITEM_NUMBER_SEQUENCE), CATALOG_ITEM_NUMBER_BLOCK_SIZE));
+    }
+
+    private static DataFieldMaxValueIncrementer incrementer(DataSource dataSource, String sequenceName) {
+        try {
+            String productName = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+            if (DatabaseDriver.fromProductName(productName) == DatabaseDriver.H2) {
+                return new H2SequenceMaxValueIncrementer(dataSource, sequenceName);
+            }
+            return new PostgresSequenceMaxValueIncrementer(dataSource, sequenceName);
+        } catch (MetaDataAccessException e) {
+            throw new IllegalStateException("Não foi possível identificar o banco de dados da sequence " + sequenceName, e);
+        }
+    }
+}
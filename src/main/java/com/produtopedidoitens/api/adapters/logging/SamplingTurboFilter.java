@@ -0,0 +1,81 @@
+package com.produtopedidoitens.api.adapters.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import lombok.Setter;
+import org.slf4j.Marker;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Setter
+public class SamplingTurboFilter extends TurboFilter {
+
+    private static final Sampler NOT_SAMPLED = new Sampler(1);
+
+    private String loggers = "";
+
+    private Map<String, Integer> rates = Map.of();
+    private final Map<String, Sampler> samplers = new ConcurrentHashMap<>();
+
+    @Override
+    public void start() {
+        rates = parseRates(loggers);
+        samplers.clear();
+        super.start();
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (!isStarted() || format == null || t != null || level.isGreaterOrEqual(Level.WARN)
+                || !level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+            return FilterReply.NEUTRAL;
+        }
+        Sampler sampler = samplers.computeIfAbsent(logger.getName(), this::samplerFor);
+        return sampler.accept() ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    private Sampler samplerFor(String loggerName) {
+        return rates.entrySet().stream()
+                .filter(entry -> loggerName.equals(entry.getKey()) || loggerName.startsWith(entry.getKey() + "."))
+                .max(Comparator.comparingInt(entry -> entry.getKey().length()))
+                .map(entry -> entry.getValue() > 1 ? new Sampler(entry.getValue()) : NOT_SAMPLED)
+                .orElse(NOT_SAMPLED);
+    }
+
+    private Map<String, Integer> parseRates(String value) {
+        Map<String, Integer> parsed = new LinkedHashMap<>();
+        if (value == null || value.isBlank()) {
+            return parsed;
+        }
+        for (String entry : value.split(",")) {
+            String[] parts = entry.trim().split("=");
+            try {
+                parsed.put(parts[0].trim(), Integer.parseInt(parts[1].trim()));
+            } catch (RuntimeException e) {
+                addWarn("Amostragem de log ignorada para a entrada inválida: " + entry);
+            }
+        }
+        return parsed;
+    }
+
+    private static final class Sampler {
+
+        private final int rate;
+        private final AtomicLong count = new AtomicLong();
+
+        private Sampler(int rate) {
+            this.rate = rate;
+        }
+
+        private boolean accept() {
+            return rate <= 1 || count.getAndIncrement() % rate == 0;
+        }
+    }
+
+}
@@ -0,0 +1,129 @@
+package com.produtopedidoitens.api.adapters.metrics;
+
+import com.produtopedidoitens.api.adapters.web.responses.CursorPageResponse;
+import com.produtopedidoitens.api.application.exceptions.BadRequestException;
+import com.produtopedidoitens.api.application.exceptions.OrderItemNotFoundException;
+import com.produtopedidoitens.api.application.exceptions.OrderNotFoundException;
+import com.produtopedidoitens.api.application.exceptions.ProductNotFoundException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.validation.ConstraintViolationException;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class InputPortMetricsAspect {
+
+    static final String CALLS = "app.port.calls";
+    static final String RESULT_SIZE = "app.port.result.size";
+
+    private static final String NONE = "none";
+    private static final String UNIQUE_VIOLATION = "23505";
+    private static final String PORT_SUFFIX = "InputPort";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Class<?>, String> portNames = new ConcurrentHashMap<>();
+
+    @Around("execution(* com.produtopedidoitens.api.application.port.*InputPort.*(..))")
+    public Object measure(ProceedingJoinPoint joinPoint) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        String port = portNames.computeIfAbsent(joinPoint.getTarget().getClass(), InputPortMetricsAspect::portName);
+        String previousCall = PortCallHolder.set(port + "." + method.getName());
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            Object result = joinPoint.proceed();
+            sample.stop(timer(port, method.getName(), Outcome.SUCCESS, NONE));
+            recordResultSize(port, method.getName(), result);
+            return result;
+        } catch (Throwable e) {
+            sample.stop(timer(port, method.getName(), Outcome.of(e), e.getClass().getSimpleName()));
+            throw e;
+        } finally {
+            PortCallHolder.reset(previousCall);
+        }
+    }
+
+    private static String portName(Class<?> targetClass) {
+        return ClassUtils.getAllInterfacesForClassAsSet(targetClass).stream()
+                .map(Class::getSimpleName)
+                .filter(name -> name.endsWith(PORT_SUFFIX))
+                .findFirst()
+                .orElse(targetClass.getSimpleName());
+    }
+
+    private Timer timer(String port, String method, Outcome outcome, String exception) {
+        return Timer.builder(CALLS)
+                .description("Tempo de execução dos métodos das portas de entrada")
+                .tag("port", port)
+                .tag("method", method)
+                .tag("outcome", outcome.name())
+                .tag("exception", exception)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private void recordResultSize(String port, String method, Object result) {
+        long size;
+        if (result instanceof Slice<?> slice) {
+            size = slice.getNumberOfElements();
+        } else if (result instanceof CursorPageResponse<?> page) {
+            size = page.content().size();
+        } else if (result instanceof Collection<?> collection) {
+            size = collection.size();
+        } else {
+            return;
+        }
+        DistributionSummary.builder(RESULT_SIZE)
+                .description("Quantidade de registros retornados pelos métodos das portas de entrada")
+                .tag("port", port)
+                .tag("method", method)
+                .register(meterRegistry)
+                .record(size);
+    }
+
+    enum Outcome {
+        SUCCESS,
+        CLIENT_ERROR,
+        NOT_FOUND,
+        SERVER_ERROR;
+
+        static Outcome of(Throwable e) {
+            if (e instanceof OrderNotFoundException || e instanceof ProductNotFoundException || e instanceof OrderItemNotFoundException) {
+                return NOT_FOUND;
+            }
+            if (e instanceof BadRequestException || e instanceof ConstraintViolationException) {
+                return CLIENT_ERROR;
+            }
+            if (e instanceof DataIntegrityViolationException) {
+                return isUniqueViolation(e) ? CLIENT_ERROR : SERVER_ERROR;
+            }
+            return SERVER_ERROR;
+        }
+
+        private static boolean isUniqueViolation(Throwable e) {
+            for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+                if (cause instanceof SQLException sqlException && UNIQUE_VIOLATION.equals(sqlException.getSQLState())) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+}
@@ -0,0 +1,28 @@
+package com.produtopedidoitens.api.adapters.metrics;
+
+import lombok.experimental.UtilityClass;
+
+@UtilityClass
+public class PortCallHolder {
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    public static String get() {
+        return CURRENT.get();
+    }
+
+    public static String set(String portMethod) {
+        String previous = CURRENT.get();
+        CURRENT.set(portMethod);
+        return previous;
+    }
+
+    public static void reset(String previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+}
@@ -0,0 +1,35 @@
+package com.produtopedidoitens.api.adapters.persistence.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.jdbc.DatabaseDriver;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+@Slf4j
+@Component
+public class CacheInvalidationBus {
+
+    public static final String CHANNEL = "cache_invalidation";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean postgres;
+
+    public CacheInvalidationBus(JdbcTemplate jdbcTemplate, DataSourceProperties dataSourceProperties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.postgres = DatabaseDriver.fromJdbcUrl(dataSourceProperties.determineUrl()) == DatabaseDriver.POSTGRESQL;
+    }
+
+    public void publish(String entity, UUID id, Long version) {
+        if (!postgres) {
+            log.debug("publish:: Banco sem suporte a NOTIFY, invalidação de {} {} mantida apenas localmente", entity, id);
+            return;
+        }
+        String payload = new CacheInvalidationMessage(entity, id, version).encode();
+        jdbcTemplate.queryForObject("SELECT pg_notify(?, ?)", String.class, CHANNEL, payload);
+        log.debug("publish:: Invalidação publicada: {}", payload);
+    }
+
+}
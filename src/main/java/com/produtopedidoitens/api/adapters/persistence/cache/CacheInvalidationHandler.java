@@ -0,0 +1,13 @@
+package com.produtopedidoitens.api.adapters.persistence.cache;
+
+import java.util.UUID;
+
+public interface CacheInvalidationHandler {
+
+    String entity();
+
+    void onInvalidation(UUID id, Long version);
+
+    void invalidateAll();
+
+}
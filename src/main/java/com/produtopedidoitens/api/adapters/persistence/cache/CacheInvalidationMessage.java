@@ -0,0 +1,21 @@
+package com.produtopedidoitens.api.adapters.persistence.cache;
+
+import java.util.UUID;
+
+public record CacheInvalidationMessage(String entity, UUID id, Long version) {
+
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        return entity + SEPARATOR + id + SEPARATOR + (version == null ? "" : version);
+    }
+
+    public static CacheInvalidationMessage parse(String payload) {
+        String[] parts = payload.split("\\|", -1);
+        if (parts.length != 3) {
+            throw new IllegalArgumentException("Mensagem de invalidação de cache inválida: " + payload);
+        }
+        Long version = parts[2].isEmpty() ? null : Long.valueOf(parts[2]);
+        return new CacheInvalidationMessage(parts[0], UUID.fromString(parts[1]), version);
+    }
+}
@@ -0,0 +1,115 @@
+package com.produtopedidoitens.api.adapters.persistence.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.produtopedidoitens.api.adapters.persistence.repositories.CatalogItemRepository;
+import com.produtopedidoitens.api.application.domain.entities.CatalogItemEntity;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+public class CatalogItemCache implements CacheInvalidationHandler {
+
+    public static final String NAME = "catalogItems";
+    public static final String ENTITY = "catalogItem";
+    private static final long MAXIMUM_SIZE = 10_000;
+    private static final Duration TIME_TO_LIVE = Duration.ofMinutes(10);
+
+    private final CatalogItemRepository catalogItemRepository;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final Cache<UUID, CatalogItemEntity> cache;
+
+    public CatalogItemCache(CatalogItemRepository catalogItemRepository, CacheInvalidationBus cacheInvalidationBus) {
+        this.catalogItemRepository = catalogItemRepository;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(MAXIMUM_SIZE)
+                .expireAfterWrite(TIME_TO_LIVE)
+                .recordStats()
+                .build();
+    }
+
+    public Optional<CatalogItemEntity> findById(UUID id) {
+        CatalogItemEntity cached = cache.get(id, key -> catalogItemRepository.findById(key).map(CatalogItemCache::snapshot).orElse(null));
+        return Optional.ofNullable(cached).map(CatalogItemCache::snapshot);
+    }
+
+    public Map<UUID, CatalogItemEntity> findAllById(Collection<UUID> ids) {
+        Map<UUID, CatalogItemEntity> found = cache.getAll(ids, missing -> catalogItemRepository.findAllById(Set.copyOf(missing)).stream()
+                .collect(Collectors.toMap(CatalogItemEntity::getId, CatalogItemCache::snapshot)));
+        return found.values().stream().collect(Collectors.toMap(CatalogItemEntity::getId, CatalogItemCache::snapshot));
+    }
+
+    public void invalidate(UUID id, Long version) {
+        evict(id, version);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(id, version);
+                }
+            });
+        }
+        cacheInvalidationBus.publish(ENTITY, id, version);
+    }
+
+    @Override
+    public String entity() {
+        return ENTITY;
+    }
+
+    @Override
+    public void onInvalidation(UUID id, Long version) {
+        evict(id, version);
+    }
+
+    @Override
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    private void evict(UUID id, Long version) {
+        cache.asMap().computeIfPresent(id, (key, cached) -> {
+            if (version == null || cached.getVersion() == null || cached.getVersion() <= version) {
+                log.debug("evict:: Removendo produto/serviço {} versão {} do cache", key, cached.getVersion());
+                return null;
+            }
+            return cached;
+        });
+    }
+
+    private static CatalogItemEntity snapshot(CatalogItemEntity entity) {
+        return CatalogItemEntity.builder()
+                .id(entity.getId())
+                .catalogItemName(entity.getCatalogItemName())
+                .catalogItemDescription(entity.getCatalogItemDescription())
+                .catalogItemNumber(entity.getCatalogItemNumber())
+                .price(entity.getPrice())
+                .type(entity.getType())
+                .isActive(entity.getIsActive())
+                .dthreg(entity.getDthreg())
+                .dthalt(entity.getDthalt())
+                .version(entity.getVersion())
+                .build();
+    }
+}
@@ -0,0 +1,140 @@
+package com.produtopedidoitens.api.adapters.persistence.cache;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.boot.jdbc.DatabaseDriver;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+public class PgNotificationListener implements SmartLifecycle {
+
+    private static final int POLL_TIMEOUT_MILLIS = 5_000;
+    private static final long RECONNECT_DELAY_MILLIS = 5_000;
+    private static final String NAME = "pg-notification-listener";
+
+    private final DataSource dataSource;
+    private final Map<String, List<CacheInvalidationHandler>> handlers;
+    private volatile boolean running;
+    private Thread thread;
+
+    public PgNotificationListener(DataSource dataSource, List<CacheInvalidationHandler> handlers) {
+        this.dataSource = dataSource;
+        this.handlers = handlers.stream().collect(Collectors.groupingBy(CacheInvalidationHandler::entity));
+    }
+
+    @Override
+    public void start() {
+        HikariDataSource applicationPool = applicationPool();
+        if (applicationPool == null || DatabaseDriver.fromJdbcUrl(applicationPool.getJdbcUrl()) != DatabaseDriver.POSTGRESQL) {
+            log.info("start:: Banco sem suporte a LISTEN/NOTIFY, invalidação de cache entre instâncias desativada");
+            return;
+        }
+        HikariDataSource listenerPool = listenerPool(applicationPool);
+        running = true;
+        thread = new Thread(() -> {
+            try (listenerPool) {
+                listen(listenerPool);
+            }
+        }, NAME);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    void dispatch(String payload) {
+        try {
+            CacheInvalidationMessage message = CacheInvalidationMessage.parse(payload);
+            List<CacheInvalidationHandler> entityHandlers = handlers.get(message.entity());
+            if (entityHandlers == null) {
+                log.warn("dispatch:: Nenhum cache registrado para a entidade: {}", message.entity());
+                return;
+            }
+            entityHandlers.forEach(handler -> handler.onInvalidation(message.id(), message.version()));
+        } catch (RuntimeException e) {
+            log.error("dispatch:: Ocorreu um erro ao processar a invalidação de cache: {}", payload, e);
+        }
+    }
+
+    private HikariDataSource applicationPool() {
+        try {
+            return dataSource.isWrapperFor(HikariDataSource.class) ? dataSource.unwrap(HikariDataSource.class) : null;
+        } catch (SQLException e) {
+            log.warn("applicationPool:: Não foi possível obter a configuração do pool de conexões: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static HikariDataSource listenerPool(HikariDataSource applicationPool) {
+        HikariDataSource listenerPool = new HikariDataSource();
+        applicationPool.copyStateTo(listenerPool);
+        listenerPool.setPoolName(NAME);
+        listenerPool.setMaximumPoolSize(1);
+        listenerPool.setMinimumIdle(1);
+        listenerPool.setLeakDetectionThreshold(0);
+        return listenerPool;
+    }
+
+    private void listen(DataSource listenerPool) {
+        boolean reconnecting = false;
+        while (running) {
+            try (Connection connection = listenerPool.getConnection()) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CacheInvalidationBus.CHANNEL);
+                }
+                if (reconnecting) {
+                    log.info("listen:: Conexão de notificações restabelecida, limpando caches locais");
+                    handlers.values().stream().flatMap(List::stream).forEach(CacheInvalidationHandler::invalidateAll);
+                }
+                reconnecting = true;
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MILLIS);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            dispatch(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                if (running) {
+                    log.error("listen:: Conexão de notificações perdida, tentando reconectar em {} ms", RECONNECT_DELAY_MILLIS, e);
+                    sleepBeforeReconnect();
+                }
+            }
+        }
+    }
+
+    private void sleepBeforeReconnect() {
+        try {
+            Thread.sleep(RECONNECT_DELAY_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+}
@@ -0,0 +1,31 @@
+package com.produtopedidoitens.api.adapters.persistence.metrics;
+
+import lombok.RequiredArgsConstructor;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+@Component
+@RequiredArgsConstructor
+public class QueryCountDataSourceProxy implements BeanPostProcessor {
+
+    public static final String DATA_SOURCE_NAME = "dataSource";
+
+    private final ObjectProvider<SlowQueryRecorder> slowQueryRecorder;
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+            return ProxyDataSourceBuilder.create(DATA_SOURCE_NAME, dataSource)
+                    .countQuery()
+                    .listener(slowQueryRecorder.getObject().listener(dataSource))
+                    .build();
+        }
+        return bean;
+    }
+
+}
@@ -0,0 +1,49 @@
+package com.produtopedidoitens.api.adapters.persistence.metrics;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.QueryCount;
+import net.ttddyy.dsproxy.QueryCountHolder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+@Slf4j
+@Component
+public class QueryCountLoggingFilter extends OncePerRequestFilter {
+
+    private final int warnThreshold;
+
+    public QueryCountLoggingFilter(@Value("${app.query-count.warn-threshold:50}") int warnThreshold) {
+        this.warnThreshold = warnThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        QueryCountHolder.clear();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            QueryCount queryCount = QueryCountHolder.get(QueryCountDataSourceProxy.DATA_SOURCE_NAME);
+            if (queryCount != null) {
+                if (queryCount.getTotal() > warnThreshold) {
+                    log.warn("doFilterInternal:: {} {} executou {} comandos SQL (select: {}, insert: {}, update: {}, delete: {}) em {} ms",
+                            request.getMethod(), request.getRequestURI(), queryCount.getTotal(), queryCount.getSelect(),
+                            queryCount.getInsert(), queryCount.getUpdate(), queryCount.getDelete(), queryCount.getTime());
+                } else {
+                    log.debug("doFilterInternal:: {} {} executou {} comandos SQL (select: {}, insert: {}, update: {}, delete: {}) em {} ms",
+                            request.getMethod(), request.getRequestURI(), queryCount.getTotal(), queryCount.getSelect(),
+                            queryCount.getInsert(), queryCount.getUpdate(), queryCount.getDelete(), queryCount.getTime());
+                }
+            }
+            QueryCountHolder.clear();
+        }
+    }
+
+}
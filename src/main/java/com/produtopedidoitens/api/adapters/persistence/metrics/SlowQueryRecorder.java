@@ -0,0 +1,216 @@
+package com.produtopedidoitens.api.adapters.persistence.metrics;
+
+import com.produtopedidoitens.api.adapters.metrics.PortCallHolder;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.StringJoiner;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Component
+public class SlowQueryRecorder {
+
+    private static final String POSTGRES = "PostgreSQL";
+    private static final String EXPLAIN = "EXPLAIN ";
+    private static final String EXPLAIN_ANALYZE = "EXPLAIN (ANALYZE, BUFFERS) ";
+    private static final String SET_NULL = "setNull";
+    private static final int MAX_PARAMETER_LENGTH = 200;
+    private static final int EXPLAIN_QUEUE_SIZE = 16;
+    private static final int EXPLAIN_TIMEOUT_SECONDS = 30;
+
+    private final long thresholdMillis;
+    private final int capacity;
+    private final int explainSampleRate;
+    private final boolean explainAnalyze;
+    private final boolean includeParameters;
+    private final Deque<SlowQuery> slowQueries;
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLong explainCandidates = new AtomicLong();
+    private final ThreadPoolExecutor explainExecutor;
+
+    public SlowQueryRecorder(@Value("${app.slow-query.threshold-ms:200}") long thresholdMillis,
+                             @Value("${app.slow-query.capacity:100}") int capacity,
+                             @Value("${app.slow-query.explain-sample-rate:10}") int explainSampleRate,
+                             @Value("${app.slow-query.explain-analyze:false}") boolean explainAnalyze,
+                             @Value("${app.slow-query.include-parameters:false}") boolean includeParameters) {
+        this.thresholdMillis = thresholdMillis;
+        this.capacity = capacity;
+        this.explainSampleRate = explainSampleRate;
+        this.explainAnalyze = explainAnalyze;
+        this.includeParameters = includeParameters;
+        this.slowQueries = new ArrayDeque<>(capacity);
+        this.explainExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(EXPLAIN_QUEUE_SIZE), runnable -> {
+                    Thread thread = new Thread(runnable, "slow-query-explain");
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.DiscardPolicy());
+    }
+
+    public QueryExecutionListener listener(DataSource targetDataSource) {
+        return new SlowQueryListener(targetDataSource);
+    }
+
+    public List<SlowQuery> findAll() {
+        synchronized (slowQueries) {
+            return new ArrayList<>(slowQueries);
+        }
+    }
+
+    public void clear() {
+        synchronized (slowQueries) {
+            slowQueries.clear();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        explainExecutor.shutdownNow();
+    }
+
+    private void record(DataSource targetDataSource, ExecutionInfo executionInfo, List<QueryInfo> queryInfoList) {
+        if (capacity <= 0 || queryInfoList.isEmpty() || executionInfo.getElapsedTime() < thresholdMillis) {
+            return;
+        }
+        QueryInfo queryInfo = queryInfoList.get(0);
+        List<Object> parameters = parameters(queryInfo);
+        SlowQuery slowQuery = new SlowQuery(sequence.incrementAndGet(), LocalDateTime.now(), PortCallHolder.get(),
+                queryInfo.getQuery(), parameters.stream().map(this::format).toList(),
+                executionInfo.getElapsedTime(), executionInfo.isBatch() ? executionInfo.getBatchSize() : 1);
+        synchronized (slowQueries) {
+            if (slowQueries.size() >= capacity) {
+                slowQueries.pollLast();
+            }
+            slowQueries.addFirst(slowQuery);
+        }
+        log.warn("record:: Comando SQL lento ({} ms) em {}: {}", slowQuery.getDurationMillis(), slowQuery.getPortMethod(), slowQuery.getSql());
+        if (shouldExplain(executionInfo, slowQuery)) {
+            explainExecutor.execute(() -> explain(targetDataSource, slowQuery, parameters));
+        }
+    }
+
+    private boolean shouldExplain(ExecutionInfo executionInfo, SlowQuery slowQuery) {
+        return explainSampleRate > 0 && !executionInfo.isBatch()
+                && slowQuery.getSql().stripLeading().toLowerCase(Locale.ROOT).startsWith("select")
+                && explainCandidates.getAndIncrement() % explainSampleRate == 0;
+    }
+
+    private void explain(DataSource targetDataSource, SlowQuery slowQuery, List<Object> parameters) {
+        try (Connection connection = targetDataSource.getConnection()) {
+            if (!POSTGRES.equals(connection.getMetaData().getDatabaseProductName())) {
+                return;
+            }
+            connection.setAutoCommit(false);
+            connection.setReadOnly(true);
+            try (PreparedStatement statement = connection.prepareStatement((explainAnalyze ? EXPLAIN_ANALYZE : EXPLAIN) + slowQuery.getSql())) {
+                statement.setQueryTimeout(EXPLAIN_TIMEOUT_SECONDS);
+                for (int i = 0; i < parameters.size(); i++) {
+                    statement.setObject(i + 1, parameters.get(i));
+                }
+                StringJoiner plan = new StringJoiner("\n");
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        plan.add(resultSet.getString(1));
+                    }
+                }
+                slowQuery.plan = plan.toString();
+            } finally {
+                connection.rollback();
+            }
+        } catch (SQLException e) {
+            log.warn("explain:: Não foi possível obter o plano de execução do comando {}: {}", slowQuery.getId(), e.getMessage());
+        }
+    }
+
+    private static List<Object> parameters(QueryInfo queryInfo) {
+        if (queryInfo.getParametersList().isEmpty()) {
+            return List.of();
+        }
+        return queryInfo.getParametersList().get(0).stream()
+                .filter(operation -> operation.getArgs()[0] instanceof Integer)
+                .sorted(Comparator.comparingInt(operation -> (Integer) operation.getArgs()[0]))
+                .map(SlowQueryRecorder::value)
+                .toList();
+    }
+
+    private static Object value(ParameterSetOperation operation) {
+        if (SET_NULL.equals(operation.getMethod().getName()) || operation.getArgs().length < 2) {
+            return null;
+        }
+        return operation.getArgs()[1];
+    }
+
+    private String format(Object parameter) {
+        if (!includeParameters && parameter != null) {
+            return "<" + parameter.getClass().getSimpleName() + ">";
+        }
+        String value = String.valueOf(parameter);
+        return value.length() > MAX_PARAMETER_LENGTH ? value.substring(0, MAX_PARAMETER_LENGTH) + "..." : value;
+    }
+
+    @Getter
+    public static class SlowQuery {
+
+        private final long id;
+        private final LocalDateTime executedAt;
+        private final String portMethod;
+        private final String sql;
+        private final List<String> parameters;
+        private final long durationMillis;
+        private final int batchSize;
+        private volatile String plan;
+
+        private SlowQuery(long id, LocalDateTime executedAt, String portMethod, String sql, List<String> parameters,
+                          long durationMillis, int batchSize) {
+            this.id = id;
+            this.executedAt = executedAt;
+            this.portMethod = portMethod;
+            this.sql = sql;
+            this.parameters = parameters;
+            this.durationMillis = durationMillis;
+            this.batchSize = batchSize;
+        }
+    }
+
+    private class SlowQueryListener implements QueryExecutionListener {
+
+        private final DataSource targetDataSource;
+
+        private SlowQueryListener(DataSource targetDataSource) {
+            this.targetDataSource = targetDataSource;
+        }
+
+        @Override
+        public void beforeQuery(ExecutionInfo executionInfo, List<QueryInfo> queryInfoList) {
+        }
+
+        @Override
+        public void afterQuery(ExecutionInfo executionInfo, List<QueryInfo> queryInfoList) {
+            record(targetDataSource, executionInfo, queryInfoList);
+        }
+    }
+
+}
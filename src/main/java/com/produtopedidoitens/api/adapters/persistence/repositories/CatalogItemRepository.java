@@ -1,11 +1,29 @@
 package com.produtopedidoitens.api.adapters.persistence.repositories;
 
 import com.produtopedidoitens.api.application.domain.entities.CatalogItemEntity;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
-public interface CatalogItemRepository extends JpaRepository<CatalogItemEntity, UUID>, QuerydslPredicateExecutor<CatalogItemEntity> {
+public interface CatalogItemRepository extends JpaRepository<CatalogItemEntity, UUID>, QuerydslPredicateExecutor<CatalogItemEntity>, CatalogItemRepositoryCustom {
+
+    Optional<CatalogItemEntity> findByCatalogItemNumber(String catalogItemNumber);
+
+    @Query("SELECT CAST(COALESCE(c.version, 0) AS String) FROM CatalogItemEntity c WHERE c.id = :id")
+    Optional<String> findVersionById(@Param("id") UUID id);
+
+    @Query("SELECT c FROM CatalogItemEntity c ORDER BY c.dthreg, c.id")
+    List<CatalogItemEntity> findFirstKeysetPage(Limit limit);
+
+    @Query("SELECT c FROM CatalogItemEntity c " +
+            "WHERE c.dthreg >= :dthreg AND (c.dthreg > :dthreg OR (c.dthreg = :dthreg AND c.id > :id)) ORDER BY c.dthreg, c.id")
+    List<CatalogItemEntity> findKeysetPageAfter(@Param("dthreg") LocalDateTime dthreg, @Param("id") UUID id, Limit limit);
 
 }
@@ -0,0 +1,13 @@
+package com.produtopedidoitens.api.adapters.persistence.repositories;
+
+import com.produtopedidoitens.api.adapters.web.projections.CatalogItemProjection;
+import com.produtopedidoitens.api.application.domain.entities.CatalogItemEntity;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+public interface CatalogItemRepositoryCustom {
+
+    Page<CatalogItemProjection> findProjections(Specification<CatalogItemEntity> specification, Pageable pageable);
+
+}
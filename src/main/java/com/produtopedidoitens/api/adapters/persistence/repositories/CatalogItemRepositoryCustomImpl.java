@@ -0,0 +1,51 @@
+package com.produtopedidoitens.api.adapters.persistence.repositories;
+
+import com.produtopedidoitens.api.adapters.web.projections.CatalogItemProjection;
+import com.produtopedidoitens.api.application.domain.entities.CatalogItemEntity;
+import com.produtopedidoitens.api.application.domain.enums.EnumCatalogItemType;
+import com.produtopedidoitens.api.application.mapper.EnumConverter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public class CatalogItemRepositoryCustomImpl implements CatalogItemRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<CatalogItemProjection> findProjections(Specification<CatalogItemEntity> specification, Pageable pageable) {
+        return SpecificationProjections.findPage(entityManager, CatalogItemEntity.class, specification, pageable,
+                root -> List.of(root.get("id"), root.get("catalogItemName"), root.get("catalogItemDescription"),
+                        root.get("catalogItemNumber"), root.get("price"), root.get("type"), root.get("isActive"),
+                        root.get("dthreg"), root.get("dthalt"), root.get("version")),
+                CatalogItemRepositoryCustomImpl::toProjection);
+    }
+
+    private static CatalogItemProjection toProjection(Tuple tuple) {
+        EnumCatalogItemType type = tuple.get(5, EnumCatalogItemType.class);
+        return CatalogItemProjection.builder()
+                .id(tuple.get(0, UUID.class))
+                .catalogItemName(tuple.get(1, String.class))
+                .catalogItemDescription(tuple.get(2, String.class))
+                .catalogItemNumber(tuple.get(3, String.class))
+                .price(tuple.get(4, BigDecimal.class))
+                .type(type == null ? null : EnumConverter.toString(type))
+                .isActive(tuple.get(6, Boolean.class))
+                .dthreg(tuple.get(7, LocalDateTime.class))
+                .dthalt(tuple.get(8, LocalDateTime.class))
+                .version(tuple.get(9, Long.class))
+                .build();
+    }
+
+}
@@ -0,0 +1,68 @@
+package com.produtopedidoitens.api.adapters.persistence.repositories;
+
+import com.produtopedidoitens.api.adapters.web.responses.IndexUsageResponse;
+import com.produtopedidoitens.api.adapters.web.responses.TableScanResponse;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.jdbc.DatabaseDriver;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public class IndexUsageRepository {
+
+    private static final String TABLE_SCANS_QUERY = """
+            SELECT relname, seq_scan, seq_tup_read, COALESCE(idx_scan, 0) AS idx_scan, n_live_tup
+            FROM pg_stat_user_tables
+            WHERE schemaname = current_schema()
+            ORDER BY seq_scan DESC, relname
+            """;
+
+    private static final String INDEX_USAGE_QUERY = """
+            SELECT relname, indexrelname, idx_scan, idx_tup_read, idx_tup_fetch, pg_relation_size(indexrelid) AS size_bytes
+            FROM pg_stat_user_indexes
+            WHERE schemaname = current_schema()
+            ORDER BY idx_scan, relname, indexrelname
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean postgres;
+
+    public IndexUsageRepository(JdbcTemplate jdbcTemplate, DataSourceProperties dataSourceProperties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.postgres = DatabaseDriver.fromJdbcUrl(dataSourceProperties.determineUrl()) == DatabaseDriver.POSTGRESQL;
+    }
+
+    public boolean isAvailable() {
+        return postgres;
+    }
+
+    public List<TableScanResponse> findTableScans() {
+        if (!postgres) {
+            return List.of();
+        }
+        return jdbcTemplate.query(TABLE_SCANS_QUERY, (rs, rowNum) -> TableScanResponse.builder()
+                .tableName(rs.getString("relname"))
+                .sequentialScans(rs.getLong("seq_scan"))
+                .sequentialTuplesRead(rs.getLong("seq_tup_read"))
+                .indexScans(rs.getLong("idx_scan"))
+                .liveTuples(rs.getLong("n_live_tup"))
+                .build());
+    }
+
+    public List<IndexUsageResponse> findIndexUsage() {
+        if (!postgres) {
+            return List.of();
+        }
+        return jdbcTemplate.query(INDEX_USAGE_QUERY, (rs, rowNum) -> IndexUsageResponse.builder()
+                .tableName(rs.getString("relname"))
+                .indexName(rs.getString("indexrelname"))
+                .indexScans(rs.getLong("idx_scan"))
+                .tuplesRead(rs.getLong("idx_tup_read"))
+                .tuplesFetched(rs.getLong("idx_tup_fetch"))
+                .sizeBytes(rs.getLong("size_bytes"))
+                .build());
+    }
+
+}
@@ -0,0 +1,93 @@
+package com.produtopedidoitens.api.adapters.persistence.repositories;
+
+import com.produtopedidoitens.api.adapters.web.projections.OrderItemProjection;
+import com.produtopedidoitens.api.adapters.web.projections.OrderProjection;
+import com.produtopedidoitens.api.application.domain.enums.EnumOrderStatus;
+import com.produtopedidoitens.api.application.mapper.EnumConverter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+@Repository
+@RequiredArgsConstructor
+public class OrderExportRepository {
+
+    private static final int FETCH_SIZE = 1000;
+
+    private static final String EXPORT_QUERY = """
+            SELECT o.idorder, o.ordernumber, o.orderdate, o.status, o.grosstotal, o.discount, o.nettotal,
+                   i.idorderitem, i.quantity, i.price, i.total, c.catalogitemname
+            FROM tborder o
+            LEFT JOIN tborderitem i ON i.idorder = o.idorder
+            LEFT JOIN tbcatalogitem c ON c.catalogitemid = i.catalogitemid
+            ORDER BY o.dthreg, o.idorder, i.dthreg, i.idorderitem
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void streamOrders(Consumer<OrderProjection> consumer) {
+        OrderRowHandler handler = new OrderRowHandler(consumer);
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(EXPORT_QUERY, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(FETCH_SIZE);
+            return statement;
+        }, handler);
+        handler.flush();
+    }
+
+    @RequiredArgsConstructor
+    private static class OrderRowHandler implements RowCallbackHandler {
+
+        private final Consumer<OrderProjection> consumer;
+        private OrderProjection current;
+        private List<OrderItemProjection> items;
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            UUID orderId = rs.getObject("idorder", UUID.class);
+            if (current == null || !orderId.equals(current.id())) {
+                flush();
+                items = new ArrayList<>();
+                current = OrderProjection.builder()
+                        .id(orderId)
+                        .orderNumber(rs.getString("ordernumber"))
+                        .orderDate(rs.getObject("orderdate", LocalDate.class))
+                        .status(EnumConverter.toString(EnumOrderStatus.valueOf(rs.getString("status"))))
+                        .grossTotal(rs.getBigDecimal("grosstotal"))
+                        .discount(rs.getBigDecimal("discount"))
+                        .netTotal(rs.getBigDecimal("nettotal"))
+                        .build();
+            }
+            UUID itemId = rs.getObject("idorderitem", UUID.class);
+            if (itemId != null) {
+                items.add(OrderItemProjection.builder()
+                        .id(itemId)
+                        .orderNumber(rs.getString("ordernumber"))
+                        .catalogItemName(rs.getString("catalogitemname"))
+                        .quantity(rs.getInt("quantity"))
+                        .price(rs.getBigDecimal("price"))
+                        .total(rs.getBigDecimal("total"))
+                        .build());
+            }
+        }
+
+        void flush() {
+            if (current != null) {
+                consumer.accept(new OrderProjection(current.id(), current.orderNumber(), current.orderDate(), current.status(),
+                        items, current.grossTotal(), current.discount(), current.netTotal()));
+                current = null;
+                items = null;
+            }
+        }
+    }
+}
@@ -1,15 +1,28 @@
 package com.produtopedidoitens.api.adapters.persistence.repositories;
 
 import com.produtopedidoitens.api.application.domain.entities.OrderItemEntity;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface OrderItemRepository extends JpaRepository<OrderItemEntity, UUID>, OrderItemRepositoryCustom {
 
-    @Query("SELECT CASE WHEN COUNT(o) > 0 THEN TRUE ELSE FALSE END FROM OrderItemEntity o WHERE o.catalogItem.id = :productId")
-    Boolean existsByProductId(UUID productId);
+    @Query("SELECT CONCAT(CAST(COALESCE(i.version, 0) AS String), '.', CAST(COALESCE(c.version, 0) AS String)) " +
+            "FROM OrderItemEntity i JOIN i.catalogItem c WHERE i.id = :id")
+    Optional<String> findVersionById(@Param("id") UUID id);
+
+    @Query("SELECT i FROM OrderItemEntity i JOIN FETCH i.order JOIN FETCH i.catalogItem ORDER BY i.dthreg, i.id")
+    List<OrderItemEntity> findFirstKeysetPage(Limit limit);
+
+    @Query("SELECT i FROM OrderItemEntity i JOIN FETCH i.order JOIN FETCH i.catalogItem " +
+            "WHERE i.dthreg >= :dthreg AND (i.dthreg > :dthreg OR (i.dthreg = :dthreg AND i.id > :id)) ORDER BY i.dthreg, i.id")
+    List<OrderItemEntity> findKeysetPageAfter(@Param("dthreg") LocalDateTime dthreg, @Param("id") UUID id, Limit limit);
 }
@@ -1,11 +1,17 @@
 package com.produtopedidoitens.api.adapters.persistence.repositories;
 
 import com.produtopedidoitens.api.adapters.web.projections.OrderByOrderNumber;
+import com.produtopedidoitens.api.adapters.web.projections.OrderItemProjection;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
 public interface OrderItemRepositoryCustom {
 
     List<OrderByOrderNumber> findOrdersByOrderNumber(String orderNumber);
 
+    Map<UUID, List<OrderItemProjection>> findItemProjectionsByOrderIds(Collection<UUID> orderIds);
+
 }
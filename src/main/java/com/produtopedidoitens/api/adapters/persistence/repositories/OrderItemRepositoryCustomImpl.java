@@ -1,16 +1,23 @@
 package com.produtopedidoitens.api.adapters.persistence.repositories;
 
 import com.produtopedidoitens.api.adapters.web.projections.OrderByOrderNumber;
+import com.produtopedidoitens.api.adapters.web.projections.OrderItemProjection;
 import com.produtopedidoitens.api.application.domain.entities.QCatalogItemEntity;
 import com.produtopedidoitens.api.application.domain.entities.QOrderEntity;
 import com.produtopedidoitens.api.application.domain.entities.QOrderItemEntity;
+import com.querydsl.core.types.ConstructorExpression;
 import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Repository
 public class OrderItemRepositoryCustomImpl implements OrderItemRepositoryCustom {
@@ -32,7 +39,7 @@ public class OrderItemRepositoryCustomImpl implements OrderItemRepositoryCustom
                         order.orderNumber,
                         order.status.stringValue(),
                         orderItem.quantity,
-                        catalogItem.price))
+                        orderItem.price))
                 .from(orderItem)
                 .innerJoin(orderItem.catalogItem, catalogItem)
                 .innerJoin(orderItem.order, order)
@@ -40,4 +47,36 @@ public class OrderItemRepositoryCustomImpl implements OrderItemRepositoryCustom
                 .fetch();
     }
 
+    @Override
+    public Map<UUID, List<OrderItemProjection>> findItemProjectionsByOrderIds(Collection<UUID> orderIds) {
+        if (orderIds.isEmpty()) {
+            return Map.of();
+        }
+
+        JPAQueryFactory queryFactory = new JPAQueryFactory(entityManager);
+        QOrderEntity order = QOrderEntity.orderEntity;
+        QOrderItemEntity orderItem = QOrderItemEntity.orderItemEntity;
+        QCatalogItemEntity catalogItem = QCatalogItemEntity.catalogItemEntity;
+
+        ConstructorExpression<OrderItemProjection> itemProjection = Projections.constructor(OrderItemProjection.class,
+                orderItem.id,
+                order.orderNumber,
+                catalogItem.catalogItemName,
+                orderItem.quantity,
+                orderItem.price,
+                orderItem.total);
+
+        return queryFactory
+                .select(order.id, itemProjection)
+                .from(orderItem)
+                .innerJoin(orderItem.catalogItem, catalogItem)
+                .innerJoin(orderItem.order, order)
+                .where(order.id.in(orderIds))
+                .orderBy(orderItem.dthreg.asc(), orderItem.id.asc())
+                .fetch()
+                .stream()
+                .collect(Collectors.groupingBy(tuple -> tuple.get(order.id), LinkedHashMap::new,
+                        Collectors.mapping(tuple -> tuple.get(itemProjection), Collectors.toList())));
+    }
+
 }
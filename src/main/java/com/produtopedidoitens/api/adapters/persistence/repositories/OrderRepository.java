@@ -1,17 +1,42 @@
 package com.produtopedidoitens.api.adapters.persistence.repositories;
 
 import com.produtopedidoitens.api.application.domain.entities.OrderEntity;
-import com.produtopedidoitens.api.application.domain.entities.OrderItemEntity;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
 import org.springframework.data.repository.query.Param;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
-public interface OrderRepository extends JpaRepository<OrderEntity, UUID>, QuerydslPredicateExecutor<OrderEntity> {
+public interface OrderRepository extends JpaRepository<OrderEntity, UUID>, QuerydslPredicateExecutor<OrderEntity>, OrderRepositoryCustom {
 
-    @Query(value = "SELECT i FROM OrderEntity o INNER JOIN OrderItemEntity i ON i.order.id = o.id WHERE o.id = :orderId")
-    List<OrderItemEntity> getOrderItems(@Param("orderId") UUID orderId);
+    Slice<OrderEntity> findAllBy(Pageable pageable);
+
+    @Query("SELECT o FROM OrderEntity o ORDER BY o.dthreg, o.id")
+    List<OrderEntity> findFirstKeysetPage(Limit limit);
+
+    @Query("SELECT o FROM OrderEntity o " +
+            "WHERE o.dthreg >= :dthreg AND (o.dthreg > :dthreg OR (o.dthreg = :dthreg AND o.id > :id)) ORDER BY o.dthreg, o.id")
+    List<OrderEntity> findKeysetPageAfter(@Param("dthreg") LocalDateTime dthreg, @Param("id") UUID id, Limit limit);
+
+    @Query("SELECT CONCAT(CAST(COALESCE(o.version, 0) AS String), '.', CAST(COALESCE(SUM(c.version), 0) AS String)) " +
+            "FROM OrderEntity o LEFT JOIN o.items i LEFT JOIN i.catalogItem c WHERE o.id = :id GROUP BY o.id, o.version")
+    Optional<String> findVersionById(@Param("id") UUID id);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE OrderEntity o SET o.grossTotal = COALESCE(o.grossTotal, 0) + :grossTotal, " +
+            "o.netTotal = COALESCE(o.netTotal, 0) + :netTotal, o.version = COALESCE(o.version, 0) + 1 WHERE o.id = :id")
+    int addTotals(@Param("id") UUID id, @Param("grossTotal") BigDecimal grossTotal, @Param("netTotal") BigDecimal netTotal);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE OrderEntity o SET o.version = COALESCE(o.version, 0) + 1 WHERE o.id = :id")
+    int incrementVersion(@Param("id") UUID id);
 }
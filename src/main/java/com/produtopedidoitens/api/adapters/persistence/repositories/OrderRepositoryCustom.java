@@ -0,0 +1,19 @@
+package com.produtopedidoitens.api.adapters.persistence.repositories;
+
+import com.produtopedidoitens.api.adapters.web.projections.OrderProjection;
+import com.produtopedidoitens.api.application.domain.entities.OrderEntity;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.UUID;
+
+public interface OrderRepositoryCustom {
+
+    Page<OrderProjection> findProjections(Specification<OrderEntity> specification, Pageable pageable);
+
+    Long refreshVersion(UUID id);
+
+    void refreshItems(OrderEntity entity);
+
+}
@@ -0,0 +1,62 @@
+package com.produtopedidoitens.api.adapters.persistence.repositories;
+
+import com.produtopedidoitens.api.adapters.web.projections.OrderProjection;
+import com.produtopedidoitens.api.application.domain.entities.OrderEntity;
+import com.produtopedidoitens.api.application.domain.enums.EnumOrderStatus;
+import com.produtopedidoitens.api.application.mapper.EnumConverter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public class OrderRepositoryCustomImpl implements OrderRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<OrderProjection> findProjections(Specification<OrderEntity> specification, Pageable pageable) {
+        return SpecificationProjections.findPage(entityManager, OrderEntity.class, specification, pageable,
+                root -> List.of(root.get("id"), root.get("orderNumber"), root.get("orderDate"), root.get("status"),
+                        root.get("grossTotal"), root.get("discount"), root.get("netTotal")),
+                OrderRepositoryCustomImpl::toProjection);
+    }
+
+    @Override
+    public Long refreshVersion(UUID id) {
+        OrderEntity entity = entityManager.getReference(OrderEntity.class, id);
+        entityManager.refresh(entity);
+        return entity.getVersion();
+    }
+
+    @Override
+    public void refreshItems(OrderEntity entity) {
+        if (entityManager.getEntityManagerFactory().getPersistenceUnitUtil().isLoaded(entity, "items")) {
+            entity.getItems().forEach(entityManager::refresh);
+        }
+    }
+
+    private static OrderProjection toProjection(Tuple tuple) {
+        EnumOrderStatus status = tuple.get(3, EnumOrderStatus.class);
+        return OrderProjection.builder()
+                .id(tuple.get(0, UUID.class))
+                .orderNumber(tuple.get(1, String.class))
+                .orderDate(tuple.get(2, LocalDate.class))
+                .status(status == null ? null : EnumConverter.toString(status))
+                .items(List.of())
+                .grossTotal(tuple.get(4, BigDecimal.class))
+                .discount(tuple.get(5, BigDecimal.class))
+                .netTotal(tuple.get(6, BigDecimal.class))
+                .build();
+    }
+
+}
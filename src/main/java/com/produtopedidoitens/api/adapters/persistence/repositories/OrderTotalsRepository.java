@@ -0,0 +1,114 @@
+package com.produtopedidoitens.api.adapters.persistence.repositories;
+
+import com.produtopedidoitens.api.application.pricing.OrderItemPricing;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Repository
+@RequiredArgsConstructor
+public class OrderTotalsRepository {
+
+    private static final String SUM_TOTALS_QUERY = """
+            SELECT o.idorder,
+                   COALESCE(SUM(i.price * i.quantity), 0) AS grosstotal,
+                   COALESCE(SUM(i.total), 0) AS nettotal
+            FROM tborder o
+            LEFT JOIN tborderitem i ON i.idorder = o.idorder
+            WHERE o.idorder IN (:ids)
+            GROUP BY o.idorder
+            """;
+
+    private static final String LOCK_QUERY = """
+            SELECT idorder, grosstotal, nettotal
+            FROM tborder
+            WHERE idorder IN (:ids)
+            ORDER BY idorder
+            FOR UPDATE
+            """;
+
+    private static final String UPDATE_TOTALS = """
+            UPDATE tborder
+            SET grosstotal = ?, nettotal = ?, version = COALESCE(version, 0) + 1
+            WHERE idorder = ?
+            """;
+
+    private static final String REPRICE_PRODUCT_ITEMS = """
+            UPDATE tborderitem
+            SET total = %s, version = COALESCE(version, 0) + 1
+            WHERE idorder = :id
+              AND catalogitemid IN (SELECT catalogitemid FROM tbcatalogitem WHERE type = 'PRODUCT')
+            """.formatted(OrderItemPricing.productNetTotalSql("price", "quantity", ":discountBasisPoints"));
+
+    private static final String FIRST_IDS_QUERY = "SELECT idorder FROM tborder ORDER BY idorder LIMIT ?";
+    private static final String IDS_AFTER_QUERY = "SELECT idorder FROM tborder WHERE idorder > ? ORDER BY idorder LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Map<UUID, OrderTotals> sumTotals(Collection<UUID> orderIds) {
+        Map<UUID, OrderTotals> totals = new HashMap<>();
+        if (orderIds.isEmpty()) {
+            return totals;
+        }
+        new NamedParameterJdbcTemplate(jdbcTemplate).query(SUM_TOTALS_QUERY, new MapSqlParameterSource("ids", orderIds), rs -> {
+            BigDecimal grossTotal = rs.getBigDecimal("grosstotal").setScale(2, RoundingMode.HALF_EVEN);
+            BigDecimal netTotal = rs.getBigDecimal("nettotal").setScale(2, RoundingMode.HALF_EVEN);
+            totals.put(rs.getObject("idorder", UUID.class), new OrderTotals(grossTotal, netTotal));
+        });
+        return totals;
+    }
+
+    public int repriceProductItems(UUID orderId, long discountBasisPoints) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource("id", orderId)
+                .addValue("discountBasisPoints", discountBasisPoints);
+        return new NamedParameterJdbcTemplate(jdbcTemplate).update(REPRICE_PRODUCT_ITEMS, parameters);
+    }
+
+    public int recompute(Collection<UUID> orderIds) {
+        if (orderIds.isEmpty()) {
+            return 0;
+        }
+        Map<UUID, OrderTotals> current = new HashMap<>();
+        new NamedParameterJdbcTemplate(jdbcTemplate).query(LOCK_QUERY, new MapSqlParameterSource("ids", orderIds), rs -> {
+            current.put(rs.getObject("idorder", UUID.class), new OrderTotals(rs.getBigDecimal("grosstotal"), rs.getBigDecimal("nettotal")));
+        });
+
+        List<Object[]> changes = sumTotals(current.keySet()).entrySet().stream()
+                .filter(entry -> !entry.getValue().sameAs(current.get(entry.getKey())))
+                .map(entry -> new Object[]{entry.getValue().grossTotal(), entry.getValue().netTotal(), entry.getKey()})
+                .toList();
+        if (!changes.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_TOTALS, changes);
+        }
+        return changes.size();
+    }
+
+    public List<UUID> findOrderIdsAfter(UUID after, int limit) {
+        if (after == null) {
+            return jdbcTemplate.queryForList(FIRST_IDS_QUERY, UUID.class, limit);
+        }
+        return jdbcTemplate.queryForList(IDS_AFTER_QUERY, UUID.class, after, limit);
+    }
+
+    public record OrderTotals(BigDecimal grossTotal, BigDecimal netTotal) {
+
+        boolean sameAs(OrderTotals other) {
+            return other != null && sameAmount(grossTotal, other.grossTotal) && sameAmount(netTotal, other.netTotal);
+        }
+
+        private static boolean sameAmount(BigDecimal left, BigDecimal right) {
+            return left == null ? right == null : right != null && left.compareTo(right) == 0;
+        }
+    }
+
+}
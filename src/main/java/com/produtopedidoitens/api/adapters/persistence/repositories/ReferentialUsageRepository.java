@@ -0,0 +1,58 @@
+package com.produtopedidoitens.api.adapters.persistence.repositories;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+@Repository
+@RequiredArgsConstructor
+public class ReferentialUsageRepository {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private static final String CATALOG_ITEM_REFERENCED_QUERY = """
+            SELECT 1
+            FROM tborderitem
+            WHERE catalogitemid = ?
+            LIMIT 1
+            """;
+
+    private static final String REFERENCED_CATALOG_ITEMS_QUERY = """
+            SELECT c.catalogitemid
+            FROM tbcatalogitem c
+            WHERE c.catalogitemid IN (:ids)
+              AND EXISTS (SELECT 1 FROM tborderitem i WHERE i.catalogitemid = c.catalogitemid)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public boolean isCatalogItemReferenced(UUID catalogItemId) {
+        return !jdbcTemplate.queryForList(CATALOG_ITEM_REFERENCED_QUERY, Integer.class, catalogItemId).isEmpty();
+    }
+
+    public List<UUID> findReferencedCatalogItems(Collection<UUID> catalogItemIds) {
+        List<UUID> ids = catalogItemIds.stream()
+                .filter(Objects::nonNull)
+                .collect(LinkedHashSet<UUID>::new, LinkedHashSet::add, LinkedHashSet::addAll)
+                .stream()
+                .toList();
+        NamedParameterJdbcTemplate namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        List<UUID> referenced = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += BATCH_SIZE) {
+            List<UUID> batch = ids.subList(from, Math.min(from + BATCH_SIZE, ids.size()));
+            referenced.addAll(namedJdbcTemplate.queryForList(REFERENCED_CATALOG_ITEMS_QUERY,
+                    new MapSqlParameterSource("ids", batch), UUID.class));
+        }
+        return referenced;
+    }
+
+}
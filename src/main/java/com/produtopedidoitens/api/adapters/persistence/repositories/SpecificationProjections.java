@@ -0,0 +1,59 @@
+package com.produtopedidoitens.api.adapters.persistence.repositories;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import lombok.experimental.UtilityClass;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.List;
+import java.util.function.Function;
+
+@UtilityClass
+class SpecificationProjections {
+
+    static <E, T> Page<T> findPage(EntityManager entityManager, Class<E> entityType, Specification<E> specification,
+                                   Pageable pageable, Function<Root<E>, List<Selection<?>>> columns,
+                                   Function<Tuple, T> mapper) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = criteriaBuilder.createTupleQuery();
+        Root<E> root = query.from(entityType);
+        query.multiselect(columns.apply(root));
+        where(query, root, criteriaBuilder, specification);
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, criteriaBuilder));
+
+        List<T> content = entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList()
+                .stream()
+                .map(mapper)
+                .toList();
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(entityManager, entityType, specification));
+    }
+
+    private static <E> long count(EntityManager entityManager, Class<E> entityType, Specification<E> specification) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = criteriaBuilder.createQuery(Long.class);
+        Root<E> root = query.from(entityType);
+        query.select(criteriaBuilder.count(root));
+        where(query, root, criteriaBuilder, specification);
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private static <E> void where(CriteriaQuery<?> query, Root<E> root, CriteriaBuilder criteriaBuilder, Specification<E> specification) {
+        Predicate predicate = specification.toPredicate(root, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+    }
+
+}
@@ -0,0 +1,110 @@
+package com.produtopedidoitens.api.adapters.persistence.repositories;
+
+import com.produtopedidoitens.api.adapters.web.requests.SearchCursor;
+import com.produtopedidoitens.api.application.domain.enums.EnumOrderStatus;
+import com.produtopedidoitens.api.utils.LikePattern;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.jdbc.DatabaseDriver;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public class TrigramSearchRepository {
+
+    public static final int MIN_TERM_LENGTH = 3;
+
+    private static final String CATALOG_ITEM_SEARCH_QUERY = """
+            SELECT catalogitemid AS id, %1$s AS distance
+            FROM tbcatalogitem
+            WHERE lower(catalogitemname) LIKE :pattern ESCAPE '!'%2$s
+            ORDER BY %3$s, catalogitemid
+            LIMIT :limit
+            """;
+
+    private static final String ORDER_SEARCH_QUERY = """
+            SELECT idorder AS id, %1$s AS distance
+            FROM tborder
+            WHERE lower(ordernumber) LIKE :pattern ESCAPE '!'%2$s
+            ORDER BY %3$s, idorder
+            LIMIT :limit
+            """;
+
+    private static final String IS_ACTIVE_FILTER = " AND isactive = :isActive";
+    private static final String STATUS_FILTER = " AND status = :status";
+    private static final String AFTER_FILTER = " AND (%1$s > :distance OR (%1$s = :distance AND %2$s > :id))";
+    private static final String POSTGRES_DISTANCE = "lower(%s) <-> :term";
+    // O <-> devolve real: o cursor compara a distância em double e a ordenação mantém o operador puro para usar o índice GiST
+    private static final String POSTGRES_CURSOR_DISTANCE = "CAST(%s AS DOUBLE PRECISION)";
+    private static final String FALLBACK_DISTANCE = "CAST(1 - CAST(LENGTH(:term) AS DOUBLE PRECISION) / LENGTH(%s) AS DOUBLE PRECISION)";
+    private static final RowMapper<SearchHit> SEARCH_HIT_MAPPER = (rs, rowNum) ->
+            new SearchHit(rs.getObject("id", UUID.class), rs.getDouble("distance"));
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final boolean postgres;
+
+    public TrigramSearchRepository(NamedParameterJdbcTemplate jdbcTemplate, DataSourceProperties dataSourceProperties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.postgres = DatabaseDriver.fromJdbcUrl(dataSourceProperties.determineUrl()) == DatabaseDriver.POSTGRESQL;
+    }
+
+    public List<SearchHit> searchCatalogItems(String term, Boolean isActive, SearchCursor after, int limit) {
+        MapSqlParameterSource parameters = parameters(term, limit);
+        String ordering = ordering("catalogitemname");
+        String distance = distance(ordering);
+        StringBuilder filter = new StringBuilder();
+        if (isActive != null) {
+            filter.append(IS_ACTIVE_FILTER);
+            parameters.addValue("isActive", isActive);
+        }
+        appendAfter(filter, parameters, distance, "catalogitemid", after);
+        String sql = CATALOG_ITEM_SEARCH_QUERY.formatted(distance, filter, ordering);
+        return jdbcTemplate.query(sql, parameters, SEARCH_HIT_MAPPER);
+    }
+
+    public List<SearchHit> searchOrders(String term, EnumOrderStatus status, SearchCursor after, int limit) {
+        MapSqlParameterSource parameters = parameters(term, limit);
+        String ordering = ordering("ordernumber");
+        String distance = distance(ordering);
+        StringBuilder filter = new StringBuilder();
+        if (status != null) {
+            filter.append(STATUS_FILTER);
+            parameters.addValue("status", status.name());
+        }
+        appendAfter(filter, parameters, distance, "idorder", after);
+        String sql = ORDER_SEARCH_QUERY.formatted(distance, filter, ordering);
+        return jdbcTemplate.query(sql, parameters, SEARCH_HIT_MAPPER);
+    }
+
+    private String ordering(String column) {
+        return (postgres ? POSTGRES_DISTANCE : FALLBACK_DISTANCE).formatted(column);
+    }
+
+    private String distance(String ordering) {
+        return postgres ? POSTGRES_CURSOR_DISTANCE.formatted(ordering) : ordering;
+    }
+
+    private static void appendAfter(StringBuilder filter, MapSqlParameterSource parameters, String distance, String idColumn, SearchCursor after) {
+        if (after == null) {
+            return;
+        }
+        filter.append(AFTER_FILTER.formatted(distance, idColumn));
+        parameters.addValue("distance", after.distance());
+        parameters.addValue("id", after.id());
+    }
+
+    private static MapSqlParameterSource parameters(String term, int limit) {
+        return new MapSqlParameterSource()
+                .addValue("term", LikePattern.normalize(term))
+                .addValue("pattern", LikePattern.contains(term))
+                .addValue("limit", limit);
+    }
+
+    public record SearchHit(UUID id, double distance) {
+    }
+
+}
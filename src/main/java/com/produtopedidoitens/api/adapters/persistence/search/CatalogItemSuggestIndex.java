@@ -0,0 +1,198 @@
+package com.produtopedidoitens.api.adapters.persistence.search;
+
+import com.produtopedidoitens.api.adapters.persistence.cache.CacheInvalidationBus;
+import com.produtopedidoitens.api.adapters.persistence.cache.CacheInvalidationHandler;
+import com.produtopedidoitens.api.adapters.persistence.cache.CatalogItemCache;
+import com.produtopedidoitens.api.adapters.persistence.repositories.CatalogItemRepository;
+import com.produtopedidoitens.api.application.domain.entities.CatalogItemEntity;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Slf4j
+@Component
+public class CatalogItemSuggestIndex implements CacheInvalidationHandler {
+
+    private static final int FETCH_SIZE = 1000;
+
+    private static final String LOAD_QUERY = """
+            SELECT catalogitemid, catalogitemname, catalogitemdescription, catalogitemnumber, isactive, version
+            FROM tbcatalogitem
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CatalogItemRepository catalogItemRepository;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final ExecutorService executor;
+    private final AtomicBoolean mergeScheduled = new AtomicBoolean();
+    private volatile SuggestIndex index = new SuggestIndex();
+    private volatile SuggestIndex loading;
+    private volatile boolean ready;
+
+    public CatalogItemSuggestIndex(JdbcTemplate jdbcTemplate, CatalogItemRepository catalogItemRepository,
+                                   CacheInvalidationBus cacheInvalidationBus) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.catalogItemRepository = catalogItemRepository;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "catalog-suggest-index");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reload();
+    }
+
+    public void reload() {
+        executor.execute(this::load);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+    public List<SuggestIndex.Suggestion> suggest(String query, int limit) {
+        return index.suggest(query, limit, true);
+    }
+
+    public void onCreated(CatalogItemEntity entity) {
+        Item item = Item.of(entity);
+        afterCommit(() -> apply(item));
+        cacheInvalidationBus.publish(CatalogItemCache.ENTITY, item.id(), item.version());
+    }
+
+    public void onUpdated(CatalogItemEntity entity) {
+        Item item = Item.of(entity);
+        afterCommit(() -> apply(item));
+    }
+
+    public void onDeleted(UUID id) {
+        afterCommit(() -> remove(id));
+    }
+
+    @Override
+    public String entity() {
+        return CatalogItemCache.ENTITY;
+    }
+
+    @Override
+    public void onInvalidation(UUID id, Long version) {
+        if (version != null && index.version(id) >= version) {
+            return;
+        }
+        catalogItemRepository.findById(id).map(Item::of).ifPresentOrElse(this::apply, () -> remove(id));
+    }
+
+    @Override
+    public void invalidateAll() {
+        reload();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void load() {
+        long start = System.nanoTime();
+        SuggestIndex target = new SuggestIndex();
+        loading = target;
+        try {
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(LOAD_QUERY, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                statement.setFetchSize(FETCH_SIZE);
+                return statement;
+            }, rs -> {
+                target.upsert(rs.getObject("catalogitemid", UUID.class), rs.getString("catalogitemname"),
+                        rs.getString("catalogitemdescription"), rs.getString("catalogitemnumber"),
+                        !Boolean.FALSE.equals(rs.getObject("isactive", Boolean.class)), rs.getLong("version"));
+                if (target.needsMerge()) {
+                    target.merge();
+                }
+            });
+            target.merge();
+            synchronized (this) {
+                index = target;
+                loading = null;
+            }
+            ready = true;
+            log.info("load:: Índice de sugestões carregado com {} produtos/serviços em {} ms", target.size(),
+                    (System.nanoTime() - start) / 1_000_000);
+        } catch (RuntimeException e) {
+            loading = null;
+            log.error("load:: Ocorreu um erro ao carregar o índice de sugestões de produtos/serviços", e);
+        }
+    }
+
+    private synchronized void apply(Item item) {
+        item.upsertInto(index);
+        if (loading != null) {
+            item.upsertInto(loading);
+        }
+        scheduleMerge();
+    }
+
+    private synchronized void remove(UUID id) {
+        index.remove(id);
+        if (loading != null) {
+            loading.remove(id);
+        }
+        scheduleMerge();
+    }
+
+    private void scheduleMerge() {
+        SuggestIndex current = index;
+        if (current.needsMerge() && mergeScheduled.compareAndSet(false, true)) {
+            executor.execute(() -> {
+                mergeScheduled.set(false);
+                current.merge();
+            });
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private record Item(UUID id, String name, String description, String number, boolean active, Long version) {
+
+        private static Item of(CatalogItemEntity entity) {
+            return new Item(entity.getId(), entity.getCatalogItemName(), entity.getCatalogItemDescription(),
+                    entity.getCatalogItemNumber(), !Boolean.FALSE.equals(entity.getIsActive()), entity.getVersion());
+        }
+
+        private void upsertInto(SuggestIndex target) {
+            target.upsert(id, name, description, number, active, version == null ? 0L : version);
+        }
+    }
+
+}
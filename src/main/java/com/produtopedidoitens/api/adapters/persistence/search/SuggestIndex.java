@@ -0,0 +1,957 @@
+package com.produtopedidoitens.api.adapters.persistence.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntPredicate;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+
+public class SuggestIndex {
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int TERMS_PER_DOC = 8;
+    private static final int MIN_MERGE_DOCS = 4096;
+    private static final int MERGE_RATIO = 16;
+    private static final int COMPACT_RATIO = 4;
+    private static final int MAX_MERGED_TERMS = 1024;
+    private static final int NOT_FOUND = -1;
+    private static final int REMOVED = -2;
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{Alnum}]+");
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private UuidSlots slots = new UuidSlots(INITIAL_CAPACITY);
+    private BitSet inactive = new BitSet();
+    private BitSet deleted = new BitSet();
+    private long[] idHigh = new long[INITIAL_CAPACITY];
+    private long[] idLow = new long[INITIAL_CAPACITY];
+    private long[] versions = new long[INITIAL_CAPACITY];
+    private String[] names = new String[INITIAL_CAPACITY];
+    private String[] numbers = new String[INITIAL_CAPACITY];
+    private int[] termStarts = new int[INITIAL_CAPACITY + 1];
+    private String[] termPool = new String[INITIAL_CAPACITY * TERMS_PER_DOC];
+    private int docCount;
+    private int liveCount;
+    private int deletedCount;
+    private Segment base = Segment.EMPTY;
+    private TreeMap<String, IntList> delta = new TreeMap<>();
+
+    public record Suggestion(UUID id, String name, String number) {
+    }
+
+    public void upsert(UUID id, String name, String description, String number, boolean active, long version) {
+        List<String> terms = tokens(String.join(" ", nullToEmpty(name), nullToEmpty(number), nullToEmpty(description)));
+        lock.writeLock().lock();
+        try {
+            int previous = slots.get(id);
+            if (previous == REMOVED || previous >= 0 && versions[previous] > version) {
+                return;
+            }
+            if (previous >= 0) {
+                tombstone(previous);
+            }
+            int doc = docCount;
+            int position = termStarts[doc];
+            ensureCapacity(doc + 1, position + terms.size());
+            idHigh[doc] = id.getMostSignificantBits();
+            idLow[doc] = id.getLeastSignificantBits();
+            versions[doc] = version;
+            names[doc] = name;
+            numbers[doc] = number;
+            for (String term : terms) {
+                String canonical = canonical(term);
+                termPool[position++] = canonical;
+                delta.computeIfAbsent(canonical, key -> new IntList()).add(doc);
+            }
+            termStarts[doc + 1] = position;
+            inactive.set(doc, !active);
+            slots.put(id, doc);
+            docCount++;
+            liveCount++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(UUID id) {
+        lock.writeLock().lock();
+        try {
+            int previous = slots.get(id);
+            if (previous >= 0) {
+                tombstone(previous);
+            }
+            slots.put(id, REMOVED);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public long version(UUID id) {
+        lock.readLock().lock();
+        try {
+            int doc = slots.get(id);
+            return doc >= 0 ? versions[doc] : NOT_FOUND;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return liveCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int capacity() {
+        lock.readLock().lock();
+        try {
+            return docCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean needsMerge() {
+        lock.readLock().lock();
+        try {
+            return docCount - base.maxDoc() >= Math.max(MIN_MERGE_DOCS, base.maxDoc() / MERGE_RATIO) || needsCompaction();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public synchronized void merge() {
+        Segment current;
+        TreeMap<String, int[]> pending = new TreeMap<>();
+        BitSet removed;
+        BitSet inactiveDocs;
+        int maxDoc;
+        boolean compact;
+        Documents documents;
+        lock.readLock().lock();
+        try {
+            current = base;
+            maxDoc = docCount;
+            delta.forEach((term, docs) -> pending.put(term, docs.toArray()));
+            removed = (BitSet) deleted.clone();
+            compact = needsCompaction();
+            inactiveDocs = compact ? (BitSet) inactive.clone() : null;
+            documents = new Documents(idHigh, idLow, versions, names, numbers, termStarts, termPool);
+        } finally {
+            lock.readLock().unlock();
+        }
+        Segment merged = Segment.merge(current, pending, removed, maxDoc, documents);
+        if (compact) {
+            compact(merged, documents, removed, inactiveDocs, maxDoc);
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            TreeMap<String, IntList> remaining = new TreeMap<>();
+            delta.forEach((term, docs) -> {
+                IntList tail = docs.tailFrom(maxDoc, 0);
+                if (tail.size > 0) {
+                    remaining.put(term, tail);
+                }
+            });
+            base = merged;
+            delta = remaining;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<Suggestion> suggest(String query, int limit, boolean activeOnly) {
+        List<String> tokens = tokens(nullToEmpty(query));
+        if (tokens.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            String driver = tokens.stream().min(Comparator.comparingLong(this::estimate)).orElseThrow();
+            Query matcher = new Query(tokens, driver, activeOnly);
+            TopDocs top = new TopDocs(limit);
+            Postings leading = base.leading();
+            String first = tokens.get(0);
+            int from = leading.from(first);
+            int to = tokens.size() == 1 ? leading.to(first) : leading.exactTo(first, from);
+            int[] phrases = ranked(leading, from, to, limit, matcher::phraseMatch);
+            for (int doc : phrases) {
+                top.offer(doc, true);
+            }
+            if (phrases.length < limit) {
+                Postings terms = base.terms();
+                for (int doc : ranked(terms, terms.from(driver), terms.to(driver), limit - phrases.length, matcher::otherMatch)) {
+                    top.offer(doc, false);
+                }
+            }
+            for (Map.Entry<String, IntList> entry : prefixRange(driver).entrySet()) {
+                IntList docs = entry.getValue();
+                for (int i = 0; i < docs.size; i++) {
+                    int doc = docs.values[i];
+                    if (matcher.live(doc) && matcher.firstMatch(doc, entry.getKey()) && matcher.matchesAll(doc)) {
+                        top.offer(doc, matcher.phrase(doc));
+                    }
+                }
+            }
+            return Arrays.stream(top.sorted())
+                    .mapToObj(doc -> new Suggestion(new UUID(idHigh[doc], idLow[doc]), names[doc], numbers[doc]))
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static List<String> tokens(String value) {
+        String folded = DIACRITICS.matcher(Normalizer.normalize(value, Normalizer.Form.NFD)).replaceAll("").toLowerCase(Locale.ROOT);
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String token : SEPARATORS.split(folded)) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return List.copyOf(tokens);
+    }
+
+    private int[] ranked(Postings postings, int from, int to, int limit, IntPredicate accept) {
+        if (from >= to || limit <= 0) {
+            return new int[0];
+        }
+        return to - from <= MAX_MERGED_TERMS
+                ? mergeRanked(postings, from, to, limit, accept)
+                : scanRanked(postings, from, to, limit, accept);
+    }
+
+    private int[] mergeRanked(Postings postings, int from, int to, int limit, IntPredicate accept) {
+        int[] ranks = base.ranks();
+        int[][] lists = postings.docs();
+        int[] found = new int[limit];
+        int size = 0;
+        if (to - from == 1) {
+            for (int doc : lists[from]) {
+                if (accept.test(doc)) {
+                    found[size++] = doc;
+                    if (size == limit) {
+                        break;
+                    }
+                }
+            }
+            return Arrays.copyOf(found, size);
+        }
+        int[] terms = new int[to - from];
+        int[] positions = new int[to - from];
+        int cursors = 0;
+        for (int t = from; t < to; t++) {
+            terms[cursors] = t;
+            positions[cursors] = 0;
+            siftUp(terms, positions, cursors++, lists, ranks);
+        }
+        int last = NOT_FOUND;
+        while (cursors > 0 && size < limit) {
+            int term = terms[0];
+            int doc = lists[term][positions[0]];
+            if (++positions[0] == lists[term].length) {
+                terms[0] = terms[--cursors];
+                positions[0] = positions[cursors];
+            }
+            siftDown(terms, positions, cursors, lists, ranks);
+            if (doc != last && accept.test(doc)) {
+                found[size++] = doc;
+            }
+            last = doc;
+        }
+        return Arrays.copyOf(found, size);
+    }
+
+    private int[] scanRanked(Postings postings, int from, int to, int limit, IntPredicate accept) {
+        int[] ranks = base.ranks();
+        int[] heap = new int[limit];
+        int size = 0;
+        for (int t = from; t < to; t++) {
+            for (int doc : postings.docs()[t]) {
+                if (size == limit && ranks[doc] >= ranks[heap[0]] || contains(heap, size, doc) || !accept.test(doc)) {
+                    continue;
+                }
+                if (size < limit) {
+                    heap[size++] = doc;
+                    for (int i = size - 1; i > 0 && ranks[heap[i]] > ranks[heap[(i - 1) >>> 1]]; i = (i - 1) >>> 1) {
+                        swap(heap, i, (i - 1) >>> 1);
+                    }
+                } else {
+                    heap[0] = doc;
+                    for (int i = 0, worst = 0; ; i = worst) {
+                        for (int child = 2 * i + 1; child <= 2 * i + 2 && child < size; child++) {
+                            if (ranks[heap[child]] > ranks[heap[worst]]) {
+                                worst = child;
+                            }
+                        }
+                        if (worst == i) {
+                            break;
+                        }
+                        swap(heap, i, worst);
+                    }
+                }
+            }
+        }
+        return IntStream.of(Arrays.copyOf(heap, size)).boxed()
+                .sorted(Comparator.comparingInt(doc -> ranks[doc]))
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    private static void siftUp(int[] terms, int[] positions, int index, int[][] lists, int[] ranks) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (ranks[lists[terms[index]][positions[index]]] >= ranks[lists[terms[parent]][positions[parent]]]) {
+                return;
+            }
+            swap(terms, index, parent);
+            swap(positions, index, parent);
+            index = parent;
+        }
+    }
+
+    private static void siftDown(int[] terms, int[] positions, int size, int[][] lists, int[] ranks) {
+        int index = 0;
+        while (true) {
+            int best = index;
+            for (int child = 2 * index + 1; child <= 2 * index + 2 && child < size; child++) {
+                if (ranks[lists[terms[child]][positions[child]]] < ranks[lists[terms[best]][positions[best]]]) {
+                    best = child;
+                }
+            }
+            if (best == index) {
+                return;
+            }
+            swap(terms, index, best);
+            swap(positions, index, best);
+            index = best;
+        }
+    }
+
+    private static boolean contains(int[] docs, int size, int doc) {
+        for (int i = 0; i < size; i++) {
+            if (docs[i] == doc) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void swap(int[] values, int i, int j) {
+        int value = values[i];
+        values[i] = values[j];
+        values[j] = value;
+    }
+
+    private void compact(Segment merged, Documents documents, BitSet removed, BitSet inactiveDocs, int maxDoc) {
+        int[] remap = new int[maxDoc];
+        int count = 0;
+        for (int doc = 0; doc < maxDoc; doc++) {
+            remap[doc] = removed.get(doc) ? NOT_FOUND : count++;
+        }
+        Segment compacted = merged.remap(remap, count);
+        Documents kept = documents.compact(remap, count);
+        BitSet keptInactive = new BitSet(count);
+        for (int doc = inactiveDocs.nextSetBit(0); doc >= 0 && doc < maxDoc; doc = inactiveDocs.nextSetBit(doc + 1)) {
+            if (remap[doc] >= 0) {
+                keptInactive.set(remap[doc]);
+            }
+        }
+        UuidSlots keptSlots = new UuidSlots(Integer.highestOneBit(Math.max(INITIAL_CAPACITY, count) * 2) << 1);
+        for (int doc = 0; doc < count; doc++) {
+            keptSlots.put(kept.idHigh()[doc], kept.idLow()[doc], doc);
+        }
+        lock.writeLock().lock();
+        try {
+            int shift = maxDoc - count;
+            int tail = docCount - maxDoc;
+            int tailTerms = termStarts[docCount] - termStarts[maxDoc];
+            idHigh = append(kept.idHigh(), count, idHigh, maxDoc, tail);
+            idLow = append(kept.idLow(), count, idLow, maxDoc, tail);
+            versions = append(kept.versions(), count, versions, maxDoc, tail);
+            names = append(kept.names(), count, names, maxDoc, tail);
+            numbers = append(kept.numbers(), count, numbers, maxDoc, tail);
+            String[] pool = Arrays.copyOf(kept.termPool(), Math.max(kept.termPool().length, kept.termStarts()[count] + tailTerms));
+            System.arraycopy(termPool, termStarts[maxDoc], pool, kept.termStarts()[count], tailTerms);
+            int[] starts = Arrays.copyOf(kept.termStarts(), idHigh.length + 1);
+            int termShift = termStarts[maxDoc] - kept.termStarts()[count];
+            for (int doc = maxDoc; doc <= docCount; doc++) {
+                starts[doc - shift] = termStarts[doc] - termShift;
+            }
+            BitSet keptDeleted = new BitSet(count + tail);
+            for (int doc = deleted.nextSetBit(0); doc >= 0; doc = deleted.nextSetBit(doc + 1)) {
+                if (doc >= maxDoc) {
+                    keptDeleted.set(doc - shift);
+                } else if (remap[doc] >= 0) {
+                    keptDeleted.set(remap[doc]);
+                    keptSlots.put(idHigh[remap[doc]], idLow[remap[doc]], REMOVED);
+                }
+            }
+            for (int doc = inactive.nextSetBit(maxDoc); doc >= 0; doc = inactive.nextSetBit(doc + 1)) {
+                keptInactive.set(doc - shift);
+            }
+            TreeMap<String, IntList> remaining = new TreeMap<>();
+            delta.forEach((term, docs) -> {
+                IntList moved = docs.tailFrom(maxDoc, shift);
+                if (moved.size > 0) {
+                    remaining.put(term, moved);
+                }
+            });
+            termPool = pool;
+            termStarts = starts;
+            deleted = keptDeleted;
+            inactive = keptInactive;
+            docCount = count + tail;
+            deletedCount = keptDeleted.cardinality();
+            base = compacted;
+            delta = remaining;
+            for (int doc = count; doc < docCount; doc++) {
+                if (!deleted.get(doc)) {
+                    keptSlots.put(idHigh[doc], idLow[doc], doc);
+                }
+            }
+            slots = keptSlots;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private boolean needsCompaction() {
+        return deletedCount >= Math.max(MIN_MERGE_DOCS, liveCount / COMPACT_RATIO);
+    }
+
+    private String canonical(String term) {
+        String pending = delta.ceilingKey(term);
+        if (term.equals(pending)) {
+            return pending;
+        }
+        Postings terms = base.terms();
+        int index = terms.from(term);
+        return index < terms.terms().length && terms.terms()[index].equals(term) ? terms.terms()[index] : term;
+    }
+
+    private long estimate(String prefix) {
+        Postings terms = base.terms();
+        long count = terms.count(terms.from(prefix), terms.to(prefix));
+        for (IntList docs : prefixRange(prefix).values()) {
+            count += docs.size;
+        }
+        return count;
+    }
+
+    private NavigableMap<String, IntList> prefixRange(String prefix) {
+        return delta.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+    }
+
+    private void tombstone(int doc) {
+        if (!deleted.get(doc)) {
+            deleted.set(doc);
+            liveCount--;
+            deletedCount++;
+        }
+    }
+
+    private void ensureCapacity(int capacity, int terms) {
+        if (capacity > idHigh.length) {
+            int length = Math.max(capacity, idHigh.length + (idHigh.length >> 1));
+            idHigh = Arrays.copyOf(idHigh, length);
+            idLow = Arrays.copyOf(idLow, length);
+            versions = Arrays.copyOf(versions, length);
+            names = Arrays.copyOf(names, length);
+            numbers = Arrays.copyOf(numbers, length);
+            termStarts = Arrays.copyOf(termStarts, length + 1);
+        }
+        if (terms > termPool.length) {
+            termPool = Arrays.copyOf(termPool, Math.max(terms, termPool.length + (termPool.length >> 1)));
+        }
+    }
+
+    private static long[] append(long[] kept, int count, long[] current, int from, int length) {
+        long[] values = kept.length - count >= length ? kept : Arrays.copyOf(kept, count + length + (count >> 2));
+        System.arraycopy(current, from, values, count, length);
+        return values;
+    }
+
+    private static String[] append(String[] kept, int count, String[] current, int from, int length) {
+        String[] values = kept.length - count >= length ? kept : Arrays.copyOf(kept, count + length + (count >> 2));
+        System.arraycopy(current, from, values, count, length);
+        return values;
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+
+    private final class Query {
+
+        private final List<String> tokens;
+        private final String driver;
+        private final boolean activeOnly;
+
+        private Query(List<String> tokens, String driver, boolean activeOnly) {
+            this.tokens = tokens;
+            this.driver = driver;
+            this.activeOnly = activeOnly;
+        }
+
+        private boolean phraseMatch(int doc) {
+            return live(doc) && phrase(doc);
+        }
+
+        private boolean otherMatch(int doc) {
+            return live(doc) && !phrase(doc) && matchesAll(doc);
+        }
+
+        private boolean live(int doc) {
+            return !deleted.get(doc) && !(activeOnly && inactive.get(doc));
+        }
+
+        private boolean firstMatch(int doc, String term) {
+            for (int k = termStarts[doc], end = termStarts[doc + 1]; k < end; k++) {
+                if (termPool[k].startsWith(driver)) {
+                    return termPool[k].equals(term);
+                }
+            }
+            return false;
+        }
+
+        private boolean matchesAll(int doc) {
+            int start = termStarts[doc];
+            int end = termStarts[doc + 1];
+            for (String token : tokens) {
+                if (token.equals(driver)) {
+                    continue;
+                }
+                boolean found = false;
+                for (int k = start; k < end && !found; k++) {
+                    found = termPool[k].startsWith(token);
+                }
+                if (!found) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean phrase(int doc) {
+            int start = termStarts[doc];
+            int last = tokens.size() - 1;
+            if (termStarts[doc + 1] - start <= last) {
+                return false;
+            }
+            for (int k = 0; k < last; k++) {
+                if (!termPool[start + k].equals(tokens.get(k))) {
+                    return false;
+                }
+            }
+            return termPool[start + last].startsWith(tokens.get(last));
+        }
+    }
+
+    private final class TopDocs {
+
+        private final int[] heap;
+        private final boolean[] phrases;
+        private int size;
+
+        private TopDocs(int limit) {
+            this.heap = new int[limit];
+            this.phrases = new boolean[limit];
+        }
+
+        private void offer(int doc, boolean phrase) {
+            if (size < heap.length) {
+                heap[size] = doc;
+                phrases[size] = phrase;
+                up(size++);
+            } else if (compare(doc, phrase, heap[0], phrases[0]) < 0) {
+                heap[0] = doc;
+                phrases[0] = phrase;
+                down(0);
+            }
+        }
+
+        private int[] sorted() {
+            int[] docs = new int[size];
+            for (int i = size - 1; i >= 0; i--) {
+                docs[i] = heap[0];
+                heap[0] = heap[--size];
+                phrases[0] = phrases[size];
+                down(0);
+            }
+            return docs;
+        }
+
+        private int compare(int doc, boolean phrase, int other, boolean otherPhrase) {
+            if (phrase != otherPhrase) {
+                return phrase ? -1 : 1;
+            }
+            return Documents.compare(names, doc, other);
+        }
+
+        private void up(int index) {
+            while (index > 0) {
+                int parent = (index - 1) >>> 1;
+                if (compare(heap[index], phrases[index], heap[parent], phrases[parent]) <= 0) {
+                    return;
+                }
+                swap(index, parent);
+                index = parent;
+            }
+        }
+
+        private void down(int index) {
+            while (true) {
+                int worst = index;
+                for (int child = 2 * index + 1; child <= 2 * index + 2 && child < size; child++) {
+                    if (compare(heap[child], phrases[child], heap[worst], phrases[worst]) > 0) {
+                        worst = child;
+                    }
+                }
+                if (worst == index) {
+                    return;
+                }
+                swap(index, worst);
+                index = worst;
+            }
+        }
+
+        private void swap(int i, int j) {
+            SuggestIndex.swap(heap, i, j);
+            boolean phrase = phrases[i];
+            phrases[i] = phrases[j];
+            phrases[j] = phrase;
+        }
+    }
+
+    private record Documents(long[] idHigh, long[] idLow, long[] versions, String[] names, String[] numbers,
+                             int[] termStarts, String[] termPool) {
+
+        private static int compare(String[] names, int doc, int other) {
+            String name = nullToEmpty(names[doc]);
+            String otherName = nullToEmpty(names[other]);
+            if (name.length() != otherName.length()) {
+                return Integer.compare(name.length(), otherName.length());
+            }
+            int byName = name.compareTo(otherName);
+            return byName != 0 ? byName : Integer.compare(doc, other);
+        }
+
+        private int compare(int doc, int other) {
+            return compare(names, doc, other);
+        }
+
+        private String leadingTerm(int doc) {
+            return termStarts[doc + 1] > termStarts[doc] ? termPool[termStarts[doc]] : null;
+        }
+
+        private Documents compact(int[] remap, int count) {
+            int capacity = Math.max(INITIAL_CAPACITY, count + (count >> 2));
+            long[] high = new long[capacity];
+            long[] low = new long[capacity];
+            long[] docVersions = new long[capacity];
+            String[] docNames = new String[capacity];
+            String[] docNumbers = new String[capacity];
+            int[] starts = new int[capacity + 1];
+            int terms = 0;
+            for (int doc = 0; doc < remap.length; doc++) {
+                if (remap[doc] >= 0) {
+                    terms += termStarts[doc + 1] - termStarts[doc];
+                }
+            }
+            String[] pool = new String[Math.max(INITIAL_CAPACITY * TERMS_PER_DOC, terms + (terms >> 2))];
+            int position = 0;
+            for (int doc = 0; doc < remap.length; doc++) {
+                int target = remap[doc];
+                if (target < 0) {
+                    continue;
+                }
+                high[target] = idHigh[doc];
+                low[target] = idLow[doc];
+                docVersions[target] = versions[doc];
+                docNames[target] = names[doc];
+                docNumbers[target] = numbers[doc];
+                int length = termStarts[doc + 1] - termStarts[doc];
+                System.arraycopy(termPool, termStarts[doc], pool, position, length);
+                position += length;
+                starts[target + 1] = position;
+            }
+            return new Documents(high, low, docVersions, docNames, docNumbers, starts, pool);
+        }
+    }
+
+    private record Segment(Postings terms, Postings leading, int[] ranks, int[] byRank, int maxDoc) {
+
+        private static final Segment EMPTY = new Segment(Postings.EMPTY, Postings.EMPTY, new int[0], new int[0], 0);
+
+        private Segment remap(int[] remap, int count) {
+            int[] docs = new int[byRank.length];
+            int[] docRanks = new int[count];
+            for (int rank = 0; rank < byRank.length; rank++) {
+                docs[rank] = remap[byRank[rank]];
+                docRanks[docs[rank]] = rank;
+            }
+            return new Segment(terms.remap(remap), leading.remap(remap), docRanks, docs, count);
+        }
+
+        private static Segment merge(Segment current, TreeMap<String, int[]> pending, BitSet removed, int maxDoc,
+                                     Documents documents) {
+            int[] added = IntStream.range(current.maxDoc, maxDoc)
+                    .filter(doc -> !removed.get(doc))
+                    .boxed()
+                    .sorted(documents::compare)
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+            int[] byRank = new int[current.byRank.length + added.length];
+            int size = 0;
+            int i = 0;
+            for (int doc : added) {
+                while (i < current.byRank.length && (removed.get(current.byRank[i]) || documents.compare(current.byRank[i], doc) < 0)) {
+                    if (!removed.get(current.byRank[i])) {
+                        byRank[size++] = current.byRank[i];
+                    }
+                    i++;
+                }
+                byRank[size++] = doc;
+            }
+            for (; i < current.byRank.length; i++) {
+                if (!removed.get(current.byRank[i])) {
+                    byRank[size++] = current.byRank[i];
+                }
+            }
+            byRank = Arrays.copyOf(byRank, size);
+            int[] ranks = new int[maxDoc];
+            for (int rank = 0; rank < size; rank++) {
+                ranks[byRank[rank]] = rank;
+            }
+            TreeMap<String, IntList> leadingTerms = new TreeMap<>();
+            for (int doc : added) {
+                String term = documents.leadingTerm(doc);
+                if (term != null) {
+                    leadingTerms.computeIfAbsent(term, key -> new IntList()).add(doc);
+                }
+            }
+            TreeMap<String, int[]> pendingLeading = new TreeMap<>();
+            leadingTerms.forEach((term, docs) -> pendingLeading.put(term, docs.toArray()));
+            return new Segment(Postings.merge(current.terms, pending, removed, ranks, byRank),
+                    Postings.merge(current.leading, pendingLeading, removed, ranks, byRank), ranks, byRank, maxDoc);
+        }
+    }
+
+    private record Postings(String[] terms, int[][] docs, long[] offsets) {
+
+        private static final Postings EMPTY = new Postings(new String[0], new int[0][], new long[1]);
+
+        private int from(String prefix) {
+            int index = Arrays.binarySearch(terms, prefix);
+            return index >= 0 ? index : -index - 1;
+        }
+
+        private int to(String prefix) {
+            return from(prefix + Character.MAX_VALUE);
+        }
+
+        private int exactTo(String term, int from) {
+            return from < terms.length && terms[from].equals(term) ? from + 1 : from;
+        }
+
+        private long count(int from, int to) {
+            return offsets[to] - offsets[from];
+        }
+
+        private Postings remap(int[] remap) {
+            int[][] moved = new int[docs.length][];
+            for (int t = 0; t < docs.length; t++) {
+                moved[t] = new int[docs[t].length];
+                for (int i = 0; i < docs[t].length; i++) {
+                    moved[t][i] = remap[docs[t][i]];
+                }
+            }
+            return new Postings(terms, moved, offsets);
+        }
+
+        private static Postings merge(Postings current, TreeMap<String, int[]> pending, BitSet removed, int[] ranks, int[] byRank) {
+            List<String> terms = new ArrayList<>(current.terms.length + pending.size());
+            List<int[]> docs = new ArrayList<>(current.terms.length + pending.size());
+            int i = 0;
+            for (Map.Entry<String, int[]> entry : pending.entrySet()) {
+                while (i < current.terms.length && current.terms[i].compareTo(entry.getKey()) < 0) {
+                    add(terms, docs, current.terms[i], live(current.docs[i], removed), new int[0], ranks);
+                    i++;
+                }
+                int[] older = new int[0];
+                if (i < current.terms.length && current.terms[i].equals(entry.getKey())) {
+                    older = live(current.docs[i], removed);
+                    i++;
+                }
+                add(terms, docs, entry.getKey(), older, byRank(live(entry.getValue(), removed), ranks, byRank), ranks);
+            }
+            for (; i < current.terms.length; i++) {
+                add(terms, docs, current.terms[i], live(current.docs[i], removed), new int[0], ranks);
+            }
+            long[] offsets = new long[terms.size() + 1];
+            for (int t = 0; t < terms.size(); t++) {
+                offsets[t + 1] = offsets[t] + docs.get(t).length;
+            }
+            return new Postings(terms.toArray(String[]::new), docs.toArray(int[][]::new), offsets);
+        }
+
+        private static void add(List<String> terms, List<int[]> docs, String term, int[] older, int[] newer, int[] ranks) {
+            if (older.length + newer.length == 0) {
+                return;
+            }
+            int[] merged = new int[older.length + newer.length];
+            for (int i = 0, j = 0, k = 0; k < merged.length; k++) {
+                merged[k] = j == newer.length || i < older.length && ranks[older[i]] < ranks[newer[j]] ? older[i++] : newer[j++];
+            }
+            terms.add(term);
+            docs.add(merged);
+        }
+
+        private static int[] byRank(int[] docs, int[] ranks, int[] byRank) {
+            int[] sorted = new int[docs.length];
+            for (int i = 0; i < docs.length; i++) {
+                sorted[i] = ranks[docs[i]];
+            }
+            Arrays.sort(sorted);
+            for (int i = 0; i < sorted.length; i++) {
+                sorted[i] = byRank[sorted[i]];
+            }
+            return sorted;
+        }
+
+        private static int[] live(int[] docs, BitSet removed) {
+            int count = 0;
+            int[] kept = new int[docs.length];
+            for (int doc : docs) {
+                if (!removed.get(doc)) {
+                    kept[count++] = doc;
+                }
+            }
+            return count == docs.length ? docs : Arrays.copyOf(kept, count);
+        }
+    }
+
+    private static final class IntList {
+
+        private int[] values = new int[4];
+        private int size;
+
+        private void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size << 1);
+            }
+            values[size++] = value;
+        }
+
+        private int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+
+        private IntList tailFrom(int minValue, int shift) {
+            int index = Arrays.binarySearch(values, 0, size, minValue);
+            int from = index >= 0 ? index : -index - 1;
+            IntList tail = new IntList();
+            tail.values = Arrays.copyOfRange(values, from, Math.max(from + 4, size));
+            tail.size = size - from;
+            for (int i = 0; i < tail.size; i++) {
+                tail.values[i] -= shift;
+            }
+            return tail;
+        }
+    }
+
+    private static final class UuidSlots {
+
+        private static final int EMPTY = 0;
+        private static final int OFFSET = 3;
+
+        private long[] high;
+        private long[] low;
+        private int[] values;
+        private int size;
+
+        private UuidSlots(int capacity) {
+            high = new long[capacity];
+            low = new long[capacity];
+            values = new int[capacity];
+        }
+
+        private int get(UUID id) {
+            long msb = id.getMostSignificantBits();
+            long lsb = id.getLeastSignificantBits();
+            int mask = values.length - 1;
+            for (int i = slot(msb, lsb, mask); values[i] != EMPTY; i = (i + 1) & mask) {
+                if (high[i] == msb && low[i] == lsb) {
+                    return values[i] - OFFSET;
+                }
+            }
+            return NOT_FOUND;
+        }
+
+        private void put(UUID id, int value) {
+            put(id.getMostSignificantBits(), id.getLeastSignificantBits(), value);
+        }
+
+        private void put(long msb, long lsb, int value) {
+            if ((size + 1) * 2 > values.length) {
+                resize();
+            }
+            insert(msb, lsb, value + OFFSET);
+        }
+
+        private void insert(long msb, long lsb, int stored) {
+            int mask = values.length - 1;
+            int i = slot(msb, lsb, mask);
+            while (values[i] != EMPTY) {
+                if (high[i] == msb && low[i] == lsb) {
+                    values[i] = stored;
+                    return;
+                }
+                i = (i + 1) & mask;
+            }
+            high[i] = msb;
+            low[i] = lsb;
+            values[i] = stored;
+            size++;
+        }
+
+        private void resize() {
+            long[] oldHigh = high;
+            long[] oldLow = low;
+            int[] oldValues = values;
+            high = new long[oldValues.length << 1];
+            low = new long[oldValues.length << 1];
+            values = new int[oldValues.length << 1];
+            size = 0;
+            for (int i = 0; i < oldValues.length; i++) {
+                if (oldValues[i] != EMPTY) {
+                    insert(oldHigh[i], oldLow[i], oldValues[i]);
+                }
+            }
+        }
+
+        private static int slot(long msb, long lsb, int mask) {
+            long hash = msb ^ lsb;
+            int mixed = (int) (hash ^ (hash >>> 32)) * 0x9E3779B9;
+            return (mixed ^ (mixed >>> 16)) & mask;
+        }
+    }
+
+}
@@ -0,0 +1,13 @@
+package com.produtopedidoitens.api.adapters.persistence.sequences;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class CatalogItemNumberGenerator {
+
+    private final SequenceBlockAllocator allocator;
+
+    public String next() {
+        return Long.toString(allocator.next());
+    }
+}
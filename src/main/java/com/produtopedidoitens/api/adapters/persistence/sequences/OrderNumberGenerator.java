@@ -0,0 +1,15 @@
+package com.produtopedidoitens.api.adapters.persistence.sequences;
+
+import lombok.RequiredArgsConstructor;
+
+import java.time.Year;
+
+@RequiredArgsConstructor
+public class OrderNumberGenerator {
+
+    private final SequenceBlockAllocator allocator;
+
+    public String next() {
+        return "PED-" + allocator.next() + "-" + Year.now();
+    }
+}
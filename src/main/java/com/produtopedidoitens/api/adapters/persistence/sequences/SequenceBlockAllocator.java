@@ -0,0 +1,40 @@
+package com.produtopedidoitens.api.adapters.persistence.sequences;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.support.incrementer.DataFieldMaxValueIncrementer;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+@RequiredArgsConstructor
+public class SequenceBlockAllocator {
+
+    private final DataFieldMaxValueIncrementer incrementer;
+    private final int blockSize;
+    private final AtomicReference<Block> current = new AtomicReference<>(new Block(0, 0));
+
+    public long next() {
+        while (true) {
+            Block block = current.get();
+            long value = block.next().getAndIncrement();
+            if (value < block.limit()) {
+                return value;
+            }
+            refill(block);
+        }
+    }
+
+    private synchronized void refill(Block exhausted) {
+        if (current.get() == exhausted) {
+            long hi = incrementer.nextLongValue();
+            current.set(new Block(hi, hi + blockSize));
+        }
+    }
+
+    private record Block(AtomicLong next, long limit) {
+
+        Block(long first, long limit) {
+            this(new AtomicLong(first), limit);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.produtopedidoitens.api.adapters.web.controllers;
+
+import com.produtopedidoitens.api.adapters.web.responses.CacheStatsResponse;
+import com.produtopedidoitens.api.adapters.web.responses.IndexUsageReportResponse;
+import com.produtopedidoitens.api.adapters.web.responses.OrderTotalsRepairResponse;
+import com.produtopedidoitens.api.adapters.web.responses.SlowQueryResponse;
+import com.produtopedidoitens.api.application.port.AdminInputPort;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@Tag(name = "Admin", description = "API de administração e diagnóstico")
+@Slf4j
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/admin")
+@RestController
+public class AdminController {
+
+    private final AdminInputPort adminInputPort;
+
+    @Operation(summary = "Endpoint responsável por retornar as estatísticas dos caches da aplicação")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Estatísticas retornadas com sucesso",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = CacheStatsResponse.class)))),
+            @ApiResponse(responseCode = "500", description = "Erro interno do servidor",
+                    content = @Content(schema = @Schema(implementation = String.class)))
+    })
+    @GetMapping("/caches")
+    public ResponseEntity<List<CacheStatsResponse>> getCacheStats() {
+        log.info("getCacheStats:: Recebendo requisição para consultar as estatísticas dos caches");
+        return ResponseEntity.ok(adminInputPort.getCacheStats());
+    }
+
+    @Operation(summary = "Endpoint responsável por iniciar, em segundo plano, o recálculo dos totais de todos os pedidos a partir dos seus itens")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Recálculo iniciado ou já em execução",
+                    content = @Content(schema = @Schema(implementation = OrderTotalsRepairResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Erro interno do servidor",
+                    content = @Content(schema = @Schema(implementation = String.class)))
+    })
+    @PostMapping("/order-totals:repair")
+    public ResponseEntity<OrderTotalsRepairResponse> repairOrderTotals() {
+        log.info("repairOrderTotals:: Recebendo requisição para recalcular os totais dos pedidos");
+        return ResponseEntity.accepted().body(adminInputPort.repairOrderTotals());
+    }
+
+    @Operation(summary = "Endpoint responsável por retornar o andamento do recálculo dos totais dos pedidos")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Andamento retornado com sucesso",
+                    content = @Content(schema = @Schema(implementation = OrderTotalsRepairResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Erro interno do servidor",
+                    content = @Content(schema = @Schema(implementation = String.class)))
+    })
+    @GetMapping("/order-totals:repair")
+    public ResponseEntity<OrderTotalsRepairResponse> getOrderTotalsRepairStatus() {
+        log.info("getOrderTotalsRepairStatus:: Recebendo requisição para consultar o andamento do recálculo dos totais");
+        return ResponseEntity.ok(adminInputPort.getOrderTotalsRepairStatus());
+    }
+
+    @Operation(summary = "Endpoint responsável por retornar os comandos SQL lentos registrados mais recentemente")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Comandos SQL lentos retornados com sucesso",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = SlowQueryResponse.class)))),
+            @ApiResponse(responseCode = "500", description = "Erro interno do servidor",
+                    content = @Content(schema = @Schema(implementation = String.class)))
+    })
+    @GetMapping("/slow-queries")
+    public ResponseEntity<List<SlowQueryResponse>> listSlowQueries() {
+        log.info("listSlowQueries:: Recebendo requisição para consultar os comandos SQL lentos");
+        return ResponseEntity.ok(adminInputPort.listSlowQueries());
+    }
+
+    @Operation(summary = "Endpoint responsável por limpar os comandos SQL lentos registrados")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Registros removidos com sucesso"),
+            @ApiResponse(responseCode = "500", description = "Erro interno do servidor",
+                    content = @Content(schema = @Schema(implementation = String.class)))
+    })
+    @DeleteMapping("/slow-queries")
+    public ResponseEntity<Void> clearSlowQueries() {
+        log.info("clearSlowQueries:: Recebendo requisição para limpar os comandos SQL lentos");
+        adminInputPort.clearSlowQueries();
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(summary = "Endpoint responsável por retornar o uso dos índices e as leituras sequenciais de cada tabela")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Estatísticas retornadas com sucesso",
+                    content = @Content(schema = @Schema(implementation = IndexUsageReportResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Erro interno do servidor",
+                    content = @Content(schema = @Schema(implementation = String.class)))
+    })
+    @GetMapping("/index-usage")
+    public ResponseEntity<IndexUsageReportResponse> getIndexUsage() {
+        log.info("getIndexUsage:: Recebendo requisição para consultar o uso dos índices");
+        return ResponseEntity.ok(adminInputPort.getIndexUsage());
+    }
+
+}
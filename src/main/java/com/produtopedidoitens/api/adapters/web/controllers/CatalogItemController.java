@@ -1,11 +1,15 @@
 package com.produtopedidoitens.api.adapters.web.controllers;
 
 import com.produtopedidoitens.api.adapters.web.projections.CatalogItemProjection;
+import com.produtopedidoitens.api.adapters.web.requests.CatalogItemFilterRequest;
 import com.produtopedidoitens.api.adapters.web.requests.CatalogItemRequest;
 import com.produtopedidoitens.api.adapters.web.responses.CatalogItemResponse;
-import com.produtopedidoitens.api.application.domain.entities.CatalogItemEntity;
+import com.produtopedidoitens.api.adapters.web.responses.CatalogItemSuggestionResponse;
+import com.produtopedidoitens.api.adapters.web.responses.CursorPageResponse;
+import com.produtopedidoitens.api.application.mapper.ETagConverter;
 import com.produtopedidoitens.api.application.port.CatalogItemInputPort;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -16,6 +20,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -42,7 +48,7 @@ public class CatalogItemController {
     })
     @PostMapping
     public ResponseEntity<CatalogItemResponse> createCatalogItem(@Valid @RequestBody CatalogItemRequest catalogItemRequest) {
-        log.info("createCatalogItem:: Recebendo requisição para cadastrar um item com os dados: {}", catalogItemRequest);
+        log.info("createCatalogItem:: Recebendo requisição para cadastrar um item");
         return ResponseEntity.ok(catalogItemInputPort.createCatalogItem(catalogItemRequest));
     }
 
@@ -59,35 +65,122 @@ public class CatalogItemController {
         return ResponseEntity.ok(catalogItemInputPort.listAllItems(pageable));
     }
 
+    @Operation(summary = "Endpoint responsável por listar itens paginados por cursor (keyset)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Página de itens retornada com sucesso",
+                    content = @Content(schema = @Schema(implementation = CursorPageResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Cursor inválido",
+                    content = @Content(schema = @Schema(implementation = String.class))),
+            @ApiResponse(responseCode = "500", description = "Erro interno do servidor",
+                    content = @Content(schema = @Schema(implementation = String.class)))
+    })
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPageResponse<CatalogItemProjection>> listItemsAfter(
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
+        log.info("listItemsAfter:: Recebendo requisição para listar itens a partir do cursor: {}", after);
+        return ResponseEntity.ok(catalogItemInputPort.listItemsAfter(after, limit));
+    }
+
     @Operation(summary = "Endpoint responsável por buscar um item pelo id")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Item encontrado com sucesso",
                     content = @Content(schema = @Schema(implementation = CatalogItemProjection.class))),
+            @ApiResponse(responseCode = "304", description = "Recurso não modificado desde a versão informada em If-None-Match"),
             @ApiResponse(responseCode = "404", description = "Item não encontrado",
                     content = @Content(schema = @Schema(implementation = String.class))),
             @ApiResponse(responseCode = "500", description = "Erro interno do servidor",
                     content = @Content(schema = @Schema(implementation = String.class)))
     })
     @GetMapping("/{id}")
-    public ResponseEntity<CatalogItemProjection> getItemById(@PathVariable String id) {
+    public ResponseEntity<CatalogItemProjection> getItemById(@PathVariable String id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         log.info("read:: Recebendo requisição para buscar um item pelo id: {}", id);
-        return ResponseEntity.ok(catalogItemInputPort.getItemById(UUID.fromString(id)));
+        UUID uuid = UUID.fromString(id);
+        String eTag = ETagConverter.toETag(uuid, catalogItemInputPort.getItemVersion(uuid));
+        if (ETagConverter.matches(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).body(catalogItemInputPort.getItemById(uuid));
+    }
+
+    @Operation(summary = "Endpoint responsável por buscar um item pelo número do item")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Item encontrado com sucesso",
+                    content = @Content(schema = @Schema(implementation = CatalogItemProjection.class))),
+            @ApiResponse(responseCode = "404", description = "Item não encontrado",
+                    content = @Content(schema = @Schema(implementation = String.class))),
+            @ApiResponse(responseCode = "500", description = "Erro interno do servidor",
+                    content = @Content(schema = @Schema(implementation = String.class)))
+    })
+    @GetMapping("/number/{catalogItemNumber}")
+    public ResponseEntity<CatalogItemProjection> getItemByCatalogItemNumber(@PathVariable String catalogItemNumber) {
+        log.info("getItemByCatalogItemNumber:: Recebendo requisição para buscar um item pelo número: {}", catalogItemNumber);
+        return ResponseEntity.ok(catalogItemInputPort.getItemByCatalogItemNumber(catalogItemNumber));
     }
 
     @Operation(summary = "Endpoint responsável por buscar itens com filtros")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Lista de itens filtrados retornada com sucesso",
+            @ApiResponse(responseCode = "200", description = "Página de itens filtrados retornada com sucesso",
                     content = @Content(schema = @Schema(implementation = Page.class))),
             @ApiResponse(responseCode = "400", description = "Requisição inválida",
                     content = @Content(schema = @Schema(implementation = String.class))),
             @ApiResponse(responseCode = "500", description = "Erro interno do servidor",
                     content = @Content(schema = @Schema(implementation = String.class)))
     })
-    @GetMapping("/catalog-items")
-    public List<CatalogItemEntity> getCatalogItems(
-            @RequestParam(required = false) String catalogItemName,
-            @RequestParam(required = false) Boolean isActive) {
-        return catalogItemInputPort.getItemsWithFilters(catalogItemName, isActive);
+    @GetMapping("/filter")
+    public ResponseEntity<Page<CatalogItemProjection>> filterItems(CatalogItemFilterRequest filter, Pageable pageable) {
+        log.info("filterItems:: Recebendo requisição para buscar itens com filtros: {}", filter);
+        return ResponseEntity.ok(catalogItemInputPort.filterItems(filter, pageable));
+    }
+
+    @Operation(summary = "Endpoint responsável por buscar itens pelo nome, ordenados por similaridade")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Página de itens encontrados retornada com sucesso",
+                    content = @Content(schema = @Schema(implementation = CursorPageResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Cursor inválido",
+                    content = @Content(schema = @Schema(implementation = String.class))),
+            @ApiResponse(responseCode = "500", description = "Erro interno do servidor",
+                    content = @Content(schema = @Schema(implementation = String.class)))
+    })
+    @GetMapping("/search")
+    public ResponseEntity<CursorPageResponse<CatalogItemProjection>> searchItemsByName(
+            @RequestParam String q,
+            @RequestParam(required = false) Boolean isActive,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
+        log.info("searchItemsByName:: Recebendo requisição para buscar itens pelo nome: {}", q);
+        return ResponseEntity.ok(catalogItemInputPort.searchItemsByName(q, isActive, after, limit));
+    }
+
+    @Operation(summary = "Endpoint responsável por sugerir itens ativos para autocompletar pelo nome, descrição ou código")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Sugestões retornadas com sucesso",
+                    content = @Content(schema = @Schema(implementation = CatalogItemSuggestionResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Erro interno do servidor",
+                    content = @Content(schema = @Schema(implementation = String.class)))
+    })
+    @GetMapping("/suggest")
+    public ResponseEntity<List<CatalogItemSuggestionResponse>> suggestItems(
+            @RequestParam String q,
+            @RequestParam(required = false) Integer limit) {
+        log.debug("suggestItems:: Recebendo requisição para sugerir itens: {}", q);
+        return ResponseEntity.ok(catalogItemInputPort.suggestItems(q, limit));
+    }
+
+    @Operation(summary = "Endpoint responsável por retornar, dentre os ids informados, os itens vinculados a itens de pedido")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Itens vinculados retornados com sucesso",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = UUID.class)))),
+            @ApiResponse(responseCode = "400", description = "Requisição inválida",
+                    content = @Content(schema = @Schema(implementation = String.class))),
+            @ApiResponse(responseCode = "500", description = "Erro interno do servidor",
+                    content = @Content(schema = @Schema(implementation = String.class)))
+    })
+    @PostMapping("/referenced")
+    public ResponseEntity<List<UUID>> findReferencedItems(@RequestBody List<UUID> ids) {
+        log.info("findReferencedItems:: Recebendo requisição para verificar {} itens vinculados a pedidos", ids.size());
+        return ResponseEntity.ok(catalogItemInputPort.findReferencedItems(ids));
     }
 
     @Operation(summary = "Endpoint responsável por atualizar um item")
@@ -103,7 +196,7 @@ public class CatalogItemController {
     })
     @PutMapping("/{id}")
     public ResponseEntity<CatalogItemResponse> updateCatalogItem(@PathVariable String id, @Valid @RequestBody CatalogItemRequest catalogItemRequest) {
-        log.info("updateCatalogItem:: Recebendo requisição para atualizar um item com os dados: {}", catalogItemRequest);
+        log.info("updateCatalogItem:: Recebendo requisição para atualizar um item pelo id: {}", id);
         return ResponseEntity.ok(catalogItemInputPort.updateCatalogItem(UUID.fromString(id), catalogItemRequest));
     }
 
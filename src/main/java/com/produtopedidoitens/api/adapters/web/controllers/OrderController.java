@@ -1,24 +1,46 @@
 package com.produtopedidoitens.api.adapters.web.controllers;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.produtopedidoitens.api.adapters.web.projections.OrderProjection;
+import com.produtopedidoitens.api.adapters.web.requests.OrderItemBatchRequest;
+import com.produtopedidoitens.api.adapters.web.requests.OrderFilterRequest;
 import com.produtopedidoitens.api.adapters.web.requests.OrderRequest;
+import com.produtopedidoitens.api.adapters.web.responses.CursorPageResponse;
+import com.produtopedidoitens.api.adapters.web.responses.OrderItemResponse;
 import com.produtopedidoitens.api.adapters.web.responses.OrderResponse;
 import com.produtopedidoitens.api.application.domain.enums.EnumOrderStatus;
+import com.produtopedidoitens.api.application.mapper.ETagConverter;
 import com.produtopedidoitens.api.application.port.OrderInputPort;
+import com.produtopedidoitens.api.application.port.OrderItemInputPort;
+import com.produtopedidoitens.api.utils.MessagesConstants;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.MediaType;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncTask;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
 import java.util.List;
 import java.util.UUID;
 
@@ -27,9 +49,15 @@ import java.util.UUID;
 @RequiredArgsConstructor
 @RequestMapping("/api/v1/orders")
 @RestController
+@Validated
 public class OrderController {
 
     private final OrderInputPort orderInputPort;
+    private final OrderItemInputPort orderItemInputPort;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.export.timeout:10m}")
+    private Duration exportTimeout;
 
     @Operation(summary = "Endpoint responsável por cadastrar um pedido no sistema")
     @ApiResponses(value = {
@@ -42,10 +70,30 @@ public class OrderController {
     })
     @PostMapping
     public ResponseEntity<OrderResponse> createOrder(@Valid @RequestBody OrderRequest orderRequest) {
-        log.info("createOrder:: Recebendo requisição para criar um pedido com os dados: {}", orderRequest);
+        log.info("createOrder:: Recebendo requisição para criar um pedido");
         return ResponseEntity.ok(orderInputPort.createOrder(orderRequest));
     }
 
+    @Operation(summary = "Endpoint responsável por cadastrar vários itens em um pedido de uma só vez")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Itens do pedido cadastrados com sucesso",
+                    content = @Content(schema = @Schema(implementation = OrderItemResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Requisição inválida",
+                    content = @Content(schema = @Schema(implementation = String.class))),
+            @ApiResponse(responseCode = "404", description = "Pedido ou produto/serviço não encontrado",
+                    content = @Content(schema = @Schema(implementation = String.class))),
+            @ApiResponse(responseCode = "500", description = "Erro interno do servidor",
+                    content = @Content(schema = @Schema(implementation = String.class)))
+    })
+    @PostMapping("/{id}/items:batch")
+    public ResponseEntity<List<OrderItemResponse>> createOrderItems(@PathVariable String id,
+                                                                    @NotEmpty(message = MessagesConstants.ERROR_ORDER_ITEMS_EMPTY)
+                                                                    @Size(max = OrderItemBatchRequest.MAX_ITEMS, message = MessagesConstants.ERROR_ORDER_ITEMS_BATCH_TOO_LARGE)
+                                                                    @RequestBody List<@Valid OrderItemBatchRequest> orderItemRequests) {
+        log.info("createOrderItems:: Recebendo requisição para cadastrar {} itens no pedido: {}", orderItemRequests.size(), id);
+        return ResponseEntity.ok(orderItemInputPort.createOrderItems(UUID.fromString(id), orderItemRequests));
+    }
+
     @Operation(summary = "Endpoint responsável por listar todos os pedidos cadastrados no sistema")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Lista de pedidos retornada com sucesso",
@@ -59,24 +107,63 @@ public class OrderController {
         return ResponseEntity.ok(orderInputPort.listAllOrders(pageable));
     }
 
+    @Operation(summary = "Endpoint responsável por listar pedidos sem executar a contagem total de registros")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Página de pedidos retornada com sucesso",
+                    content = @Content(schema = @Schema(implementation = Slice.class))),
+            @ApiResponse(responseCode = "404", description = "Nenhum pedido encontrado",
+                    content = @Content(schema = @Schema(implementation = String.class))),
+            @ApiResponse(responseCode = "500", description = "Erro interno do servidor",
+                    content = @Content(schema = @Schema(implementation = String.class)))
+    })
+    @GetMapping("/slice")
+    public ResponseEntity<Slice<OrderProjection>> listOrdersWithoutCount(Pageable pageable) {
+        log.info("listOrdersWithoutCount:: Recebendo requisição para buscar pedidos sem contagem total");
+        return ResponseEntity.ok(orderInputPort.listOrdersWithoutCount(pageable));
+    }
+
+    @Operation(summary = "Endpoint responsável por listar pedidos paginados por cursor (keyset)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Página de pedidos retornada com sucesso",
+                    content = @Content(schema = @Schema(implementation = CursorPageResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Cursor inválido",
+                    content = @Content(schema = @Schema(implementation = String.class))),
+            @ApiResponse(responseCode = "500", description = "Erro interno do servidor",
+                    content = @Content(schema = @Schema(implementation = String.class)))
+    })
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPageResponse<OrderProjection>> listOrdersAfter(
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
+        log.info("listOrdersAfter:: Recebendo requisição para listar pedidos a partir do cursor: {}", after);
+        return ResponseEntity.ok(orderInputPort.listOrdersAfter(after, limit));
+    }
+
     @Operation(summary = "Endpoint responsável por buscar um pedido pelo id")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Pedido encontrado com sucesso",
                     content = @Content(schema = @Schema(implementation = OrderProjection.class))),
+            @ApiResponse(responseCode = "304", description = "Recurso não modificado desde a versão informada em If-None-Match"),
             @ApiResponse(responseCode = "404", description = "Pedido não encontrado",
                     content = @Content(schema = @Schema(implementation = String.class))),
             @ApiResponse(responseCode = "500", description = "Erro interno do servidor",
                     content = @Content(schema = @Schema(implementation = String.class)))
     })
     @GetMapping("/{id}")
-    public ResponseEntity<OrderProjection> getOrderById(@PathVariable String id) {
+    public ResponseEntity<OrderProjection> getOrderById(@PathVariable String id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         log.info("getOrderById:: Recebendo requisição para buscar um pedido pelo id: {}", id);
-        return ResponseEntity.ok(orderInputPort.getOrderById(UUID.fromString(id)));
+        UUID uuid = UUID.fromString(id);
+        String eTag = ETagConverter.toETag(uuid, orderInputPort.getOrderVersion(uuid));
+        if (ETagConverter.matches(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).body(orderInputPort.getOrderById(uuid));
     }
 
     @Operation(summary = "Endpoint responsável por buscar pedidos com filtros")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Lista de pedidos filtrados retornada com sucesso",
+            @ApiResponse(responseCode = "200", description = "Página de pedidos filtrados retornada com sucesso",
                     content = @Content(schema = @Schema(implementation = Page.class))),
             @ApiResponse(responseCode = "400", description = "Requisição inválida",
                     content = @Content(schema = @Schema(implementation = String.class))),
@@ -84,10 +171,56 @@ public class OrderController {
                     content = @Content(schema = @Schema(implementation = String.class)))
     })
     @GetMapping("/filter")
-    public List<OrderProjection> getOrders(
-            @RequestParam(required = false) String orderNumber,
-            @RequestParam(required = false) EnumOrderStatus status) {
-        return orderInputPort.searchOrders(orderNumber, status);
+    public ResponseEntity<Page<OrderProjection>> filterOrders(OrderFilterRequest filter, Pageable pageable) {
+        log.info("filterOrders:: Recebendo requisição para buscar pedidos com filtros: {}", filter);
+        return ResponseEntity.ok(orderInputPort.filterOrders(filter, pageable));
+    }
+
+    @Operation(summary = "Endpoint responsável por buscar pedidos pelo número, ordenados por similaridade")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Página de pedidos encontrados retornada com sucesso",
+                    content = @Content(schema = @Schema(implementation = CursorPageResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Cursor inválido",
+                    content = @Content(schema = @Schema(implementation = String.class))),
+            @ApiResponse(responseCode = "500", description = "Erro interno do servidor",
+                    content = @Content(schema = @Schema(implementation = String.class)))
+    })
+    @GetMapping("/search")
+    public ResponseEntity<CursorPageResponse<OrderProjection>> searchOrdersByNumber(
+            @RequestParam String q,
+            @RequestParam(required = false) EnumOrderStatus status,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
+        log.info("searchOrdersByNumber:: Recebendo requisição para buscar pedidos pelo número: {}", q);
+        return ResponseEntity.ok(orderInputPort.searchOrdersByNumber(q, status, after, limit));
+    }
+
+    @Operation(summary = "Endpoint responsável por exportar todos os pedidos com seus itens em NDJSON")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Exportação de pedidos iniciada com sucesso",
+                    content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE, schema = @Schema(implementation = OrderProjection.class))),
+            @ApiResponse(responseCode = "500", description = "Erro interno do servidor",
+                    content = @Content(schema = @Schema(implementation = String.class)))
+    })
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public WebAsyncTask<Void> exportOrders(HttpServletResponse response) {
+        log.info("exportOrders:: Recebendo requisição para exportar os pedidos com tempo limite de {}", exportTimeout);
+        return new WebAsyncTask<>(exportTimeout.toMillis(), () -> {
+            response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+            OutputStream outputStream = response.getOutputStream();
+            orderInputPort.exportOrders(order -> writeLine(outputStream, order));
+            outputStream.flush();
+            return null;
+        });
+    }
+
+    private void writeLine(OutputStream outputStream, OrderProjection order) {
+        try {
+            outputStream.write(objectMapper.writeValueAsBytes(order));
+            outputStream.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 
     @Operation(summary = "Endpoint responsável por atualizar um pedido")
@@ -103,7 +236,7 @@ public class OrderController {
     })
     @PutMapping("/{id}")
     public ResponseEntity<OrderResponse> updateOrder(@PathVariable String id, @Valid @RequestBody OrderRequest orderRequest) {
-        log.info("update:: Recebendo requisição para atualizar um pedido com os dados: {}", orderRequest);
+        log.info("update:: Recebendo requisição para atualizar um pedido pelo id: {}", id);
         return ResponseEntity.ok(orderInputPort.updateOrder(UUID.fromString(id), orderRequest));
     }
 
@@ -4,7 +4,9 @@ import com.produtopedidoitens.api.adapters.web.projections.OrderByOrderNumber;
 import com.produtopedidoitens.api.adapters.web.projections.OrderItemProjection;
 import com.produtopedidoitens.api.adapters.web.requests.OrderItemRequest;
 import com.produtopedidoitens.api.adapters.web.requests.OrderItemUpdateRequest;
+import com.produtopedidoitens.api.adapters.web.responses.CursorPageResponse;
 import com.produtopedidoitens.api.adapters.web.responses.OrderItemResponse;
+import com.produtopedidoitens.api.application.mapper.ETagConverter;
 import com.produtopedidoitens.api.application.port.OrderItemInputPort;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -17,6 +19,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -41,7 +45,7 @@ public class OrderItemController {
     })
     @PostMapping
     public ResponseEntity<OrderItemResponse> createOrderItem(@Valid @RequestBody OrderItemRequest orderItemRequest) {
-        log.info("createOrderItem:: Recebendo requisição para criar um item de pedido com os dados: {}", orderItemRequest);
+        log.info("createOrderItem:: Recebendo requisição para criar um item de pedido no pedido: {}", orderItemRequest.orderId());
         return ResponseEntity.ok(orderItemInputPort.createOrderItem(orderItemRequest));
     }
 
@@ -58,19 +62,43 @@ public class OrderItemController {
         return ResponseEntity.ok(orderItemInputPort.listAllOrderItems(pageable));
     }
 
+    @Operation(summary = "Endpoint responsável por listar itens de pedido paginados por cursor (keyset)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Página de itens de pedido retornada com sucesso",
+                    content = @Content(schema = @Schema(implementation = CursorPageResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Cursor inválido",
+                    content = @Content(schema = @Schema(implementation = String.class))),
+            @ApiResponse(responseCode = "500", description = "Erro interno do servidor",
+                    content = @Content(schema = @Schema(implementation = String.class)))
+    })
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPageResponse<OrderItemProjection>> listOrderItemsAfter(
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
+        log.info("listOrderItemsAfter:: Recebendo requisição para listar itens de pedido a partir do cursor: {}", after);
+        return ResponseEntity.ok(orderItemInputPort.listOrderItemsAfter(after, limit));
+    }
+
     @Operation(summary = "Endpoint responsável por buscar um item de pedido pelo id")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Item de pedido encontrado com sucesso",
                     content = @Content(schema = @Schema(implementation = OrderItemProjection.class))),
+            @ApiResponse(responseCode = "304", description = "Recurso não modificado desde a versão informada em If-None-Match"),
             @ApiResponse(responseCode = "404", description = "Item de pedido não encontrado",
                     content = @Content(schema = @Schema(implementation = String.class))),
             @ApiResponse(responseCode = "500", description = "Erro interno do servidor",
                     content = @Content(schema = @Schema(implementation = String.class)))
     })
     @GetMapping("/{id}")
-    public ResponseEntity<OrderItemProjection> getOrderItemById(@PathVariable String id) {
+    public ResponseEntity<OrderItemProjection> getOrderItemById(@PathVariable String id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         log.info("getOrderItemById:: Recebendo requisição para buscar um item de pedido pelo id: {}", id);
-        return ResponseEntity.ok(orderItemInputPort.getOrderItemById(UUID.fromString(id)));
+        UUID uuid = UUID.fromString(id);
+        String eTag = ETagConverter.toETag(uuid, orderItemInputPort.getOrderItemVersion(uuid));
+        if (ETagConverter.matches(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).body(orderItemInputPort.getOrderItemById(uuid));
     }
 
     @Operation(summary = "Endpoint responsável por buscar itens de pedido com filtros")
@@ -101,7 +129,7 @@ public class OrderItemController {
     })
     @PutMapping("/{id}")
     public ResponseEntity<OrderItemResponse> updateOrderItem(@PathVariable String id, @Valid @RequestBody OrderItemUpdateRequest orderItemUpdateRequest) {
-        log.info("updateOrderItem:: Recebendo requisição para atualizar um item de pedido com os dados: {}", orderItemUpdateRequest);
+        log.info("updateOrderItem:: Recebendo requisição para atualizar um item de pedido pelo id: {}", id);
         return ResponseEntity.ok(orderItemInputPort.updateOrderItem(UUID.fromString(id), orderItemUpdateRequest));
     }
 
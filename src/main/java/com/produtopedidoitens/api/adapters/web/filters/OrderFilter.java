@@ -1,6 +1,8 @@
 package com.produtopedidoitens.api.adapters.web.filters;
 
+import com.produtopedidoitens.api.adapters.web.requests.OrderFilterRequest;
 import com.produtopedidoitens.api.application.domain.entities.OrderEntity;
+import com.produtopedidoitens.api.utils.LikePattern;
 import jakarta.persistence.criteria.Predicate;
 import org.springframework.data.jpa.domain.Specification;
 
@@ -8,16 +10,33 @@ import java.util.ArrayList;
 import java.util.List;
 
 public class OrderFilter {
-    public static Specification<OrderEntity> filterByCriteria(String orderNumber, String status) {
+    public static Specification<OrderEntity> filterByCriteria(OrderFilterRequest filter) {
         return (root, query, criteriaBuilder) -> {
             List<Predicate> predicates = new ArrayList<>();
 
-            if (orderNumber != null && !orderNumber.isEmpty()) {
-                predicates.add(criteriaBuilder.like(criteriaBuilder.lower(root.get("orderNumber")), "%" + orderNumber.toLowerCase() + "%"));
+            if (filter.status() != null) {
+                predicates.add(criteriaBuilder.equal(root.get("status"), filter.status()));
             }
 
-            if (status != null && !status.isEmpty()) {
-                predicates.add(criteriaBuilder.equal(root.get("status"), status));
+            if (filter.startDate() != null) {
+                predicates.add(criteriaBuilder.greaterThanOrEqualTo(root.get("orderDate"), filter.startDate()));
+            }
+
+            if (filter.endDate() != null) {
+                predicates.add(criteriaBuilder.lessThanOrEqualTo(root.get("orderDate"), filter.endDate()));
+            }
+
+            if (filter.minTotal() != null) {
+                predicates.add(criteriaBuilder.greaterThanOrEqualTo(root.get("netTotal"), filter.minTotal()));
+            }
+
+            if (filter.maxTotal() != null) {
+                predicates.add(criteriaBuilder.lessThanOrEqualTo(root.get("netTotal"), filter.maxTotal()));
+            }
+
+            if (filter.orderNumber() != null && !filter.orderNumber().isBlank()) {
+                predicates.add(criteriaBuilder.like(criteriaBuilder.lower(root.get("orderNumber")),
+                        LikePattern.contains(filter.orderNumber()), LikePattern.ESCAPE));
             }
 
             return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
@@ -1,8 +1,10 @@
 package com.produtopedidoitens.api.adapters.web.filters;
 
+import com.produtopedidoitens.api.adapters.web.requests.CatalogItemFilterRequest;
 import com.produtopedidoitens.api.application.domain.entities.CatalogItemEntity;
 import com.produtopedidoitens.api.application.domain.enums.EnumCatalogItemType;
 import com.produtopedidoitens.api.application.mapper.EnumConverter;
+import com.produtopedidoitens.api.utils.LikePattern;
 import jakarta.persistence.criteria.Predicate;
 import org.springframework.data.jpa.domain.Specification;
 
@@ -10,20 +12,30 @@ import java.util.ArrayList;
 import java.util.List;
 
 public class ProductFilter {
-    public static Specification<CatalogItemEntity> filterByCriteria(String catalogItemName, String type, boolean isActive) {
+    public static Specification<CatalogItemEntity> filterByCriteria(CatalogItemFilterRequest filter) {
         return (root, query, criteriaBuilder) -> {
             List<Predicate> predicates = new ArrayList<>();
 
-            if (catalogItemName != null && !catalogItemName.isEmpty()) {
-                predicates.add(criteriaBuilder.like(criteriaBuilder.lower(root.get("catalogItemName")), "%" + catalogItemName.toLowerCase() + "%"));
+            if (filter.isActive() != null) {
+                predicates.add(criteriaBuilder.equal(root.get("isActive"), filter.isActive()));
             }
 
-            if (type != null && !type.isEmpty()) {
-                EnumCatalogItemType enumType = EnumConverter.fromString(type, EnumCatalogItemType.class);
-                predicates.add(criteriaBuilder.equal(root.get("type"), enumType));
+            if (filter.type() != null) {
+                predicates.add(criteriaBuilder.equal(root.get("type"), EnumConverter.fromString(filter.type(), EnumCatalogItemType.class)));
             }
 
-            predicates.add(criteriaBuilder.equal(root.get("isActive"), isActive));
+            if (filter.minPrice() != null) {
+                predicates.add(criteriaBuilder.greaterThanOrEqualTo(root.get("price"), filter.minPrice()));
+            }
+
+            if (filter.maxPrice() != null) {
+                predicates.add(criteriaBuilder.lessThanOrEqualTo(root.get("price"), filter.maxPrice()));
+            }
+
+            if (filter.catalogItemName() != null && !filter.catalogItemName().isBlank()) {
+                predicates.add(criteriaBuilder.like(criteriaBuilder.lower(root.get("catalogItemName")),
+                        LikePattern.contains(filter.catalogItemName()), LikePattern.ESCAPE));
+            }
 
             return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
         };
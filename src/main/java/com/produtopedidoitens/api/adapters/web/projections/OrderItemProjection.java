@@ -21,8 +21,11 @@ public record OrderItemProjection(
         @Schema(description = "Quantidade do item no pedido (em unidades)", example = "10")
         Integer quantity,
 
-        @Schema(description = "Preço do item no pedido", example = "10.00")
-        BigDecimal price
+        @Schema(description = "Preço unitário do item registrado no momento da inclusão no pedido", example = "10.00")
+        BigDecimal price,
+
+        @Schema(description = "Valor total do item no pedido com o desconto aplicado", example = "90.00")
+        BigDecimal total
 
 ) {
 }
@@ -0,0 +1,27 @@
+package com.produtopedidoitens.api.adapters.web.requests;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+import java.math.BigDecimal;
+
+@Builder
+public record CatalogItemFilterRequest(
+
+        @Schema(description = "Parte do nome do item, sem diferenciar maiúsculas", example = "café")
+        String catalogItemName,
+
+        @Schema(description = "Tipo do item: 'Produto' ou 'Serviço'", example = "Produto")
+        String type,
+
+        @Schema(description = "Ativo/Inativo", example = "true")
+        Boolean isActive,
+
+        @Schema(description = "Preço mínimo do item", example = "10.00")
+        BigDecimal minPrice,
+
+        @Schema(description = "Preço máximo do item", example = "50.00")
+        BigDecimal maxPrice
+
+) {
+}
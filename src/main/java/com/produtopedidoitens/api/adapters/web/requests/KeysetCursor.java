@@ -0,0 +1,10 @@
+package com.produtopedidoitens.api.adapters.web.requests;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record KeysetCursor(
+        LocalDateTime dthreg,
+        UUID id
+) {
+}
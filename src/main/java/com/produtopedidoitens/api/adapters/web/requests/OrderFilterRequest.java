@@ -0,0 +1,35 @@
+package com.produtopedidoitens.api.adapters.web.requests;
+
+import com.produtopedidoitens.api.application.domain.enums.EnumOrderStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Builder
+public record OrderFilterRequest(
+
+        @Schema(description = "Parte do número do pedido, sem diferenciar maiúsculas", example = "PED-988")
+        String orderNumber,
+
+        @Schema(description = "Status do pedido", example = "OPEN")
+        EnumOrderStatus status,
+
+        @Schema(description = "Data inicial do pedido (inclusiva)", example = "2024-07-01")
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+        LocalDate startDate,
+
+        @Schema(description = "Data final do pedido (inclusiva)", example = "2024-07-31")
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+        LocalDate endDate,
+
+        @Schema(description = "Valor líquido mínimo do pedido", example = "100.00")
+        BigDecimal minTotal,
+
+        @Schema(description = "Valor líquido máximo do pedido", example = "500.00")
+        BigDecimal maxTotal
+
+) {
+}
@@ -0,0 +1,25 @@
+package com.produtopedidoitens.api.adapters.web.requests;
+
+import com.produtopedidoitens.api.utils.MessagesConstants;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import lombok.Builder;
+
+@Builder
+public record OrderItemBatchRequest(
+
+        @Schema(description = "Quantidade do item em unidades inteiras", example = "10", required = true)
+        @NotBlank(message = MessagesConstants.ORDER_ITEM_QUANTITY_NOT_NULL)
+        @Pattern(regexp = "[1-9]\\d{0,8}", message = MessagesConstants.ORDER_ITEM_QUANTITY_NUMBER)
+        String quantity,
+
+        @Schema(description = "Id do produto ou serviço obtido ao cadastrar um item", example = "3fa85f64-5717-4562-b3fc-2c963f66afa6", required = true)
+        @NotBlank(message = MessagesConstants.ORDER_ITEM_CATALOG_ITEM_ID_NOT_NULL)
+        String catalogItemId
+
+) {
+
+    public static final int MAX_ITEMS = 100;
+
+}
@@ -0,0 +1,9 @@
+package com.produtopedidoitens.api.adapters.web.requests;
+
+import java.util.UUID;
+
+public record SearchCursor(
+        double distance,
+        UUID id
+) {
+}
@@ -0,0 +1,28 @@
+package com.produtopedidoitens.api.adapters.web.responses;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+@Builder
+public record CacheStatsResponse(
+
+        @Schema(description = "Nome do cache", example = "catalogItems")
+        String name,
+
+        @Schema(description = "Quantidade estimada de entradas no cache", example = "120")
+        long size,
+
+        @Schema(description = "Quantidade de consultas atendidas pelo cache", example = "950")
+        long hitCount,
+
+        @Schema(description = "Quantidade de consultas que precisaram ir ao banco de dados", example = "50")
+        long missCount,
+
+        @Schema(description = "Percentual de acertos do cache (0 a 1)", example = "0.95")
+        double hitRate,
+
+        @Schema(description = "Quantidade de entradas removidas por tamanho ou expiração", example = "3")
+        long evictionCount
+
+) {
+}
@@ -0,0 +1,21 @@
+package com.produtopedidoitens.api.adapters.web.responses;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+import java.util.UUID;
+
+@Builder
+public record CatalogItemSuggestionResponse(
+
+        @Schema(description = "Id do item sugerido", example = "123e4567-e89b-12d3-a456-426614174000")
+        UUID id,
+
+        @Schema(description = "Nome do item sugerido", example = "Café")
+        String catalogItemName,
+
+        @Schema(description = "Código do item sugerido", example = "1000100")
+        String catalogItemNumber
+
+) {
+}
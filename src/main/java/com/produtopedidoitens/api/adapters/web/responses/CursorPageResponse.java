@@ -0,0 +1,22 @@
+package com.produtopedidoitens.api.adapters.web.responses;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+public record CursorPageResponse<T>(
+
+        @Schema(description = "Registros da página")
+        List<T> content,
+
+        @Schema(description = "Cursor opaco para buscar a próxima página (parâmetro 'after'); nulo na última página", example = "MjAyNC0wNy0xMVQxOTo0NToyNy4zODYzNTJ8YTRlY2JlNjctYTc0Yy00OWI3LTk2NjItODYyNzk4YmEzNGQ0")
+        String nextCursor,
+
+        @Schema(description = "Quantidade máxima de registros por página", example = "20")
+        int limit,
+
+        @Schema(description = "Indica se existe uma próxima página", example = "true")
+        boolean hasNext
+
+) {
+}
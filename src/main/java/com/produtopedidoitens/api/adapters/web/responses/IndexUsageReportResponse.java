@@ -0,0 +1,21 @@
+package com.produtopedidoitens.api.adapters.web.responses;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record IndexUsageReportResponse(
+
+        @Schema(description = "Indica se o banco de dados disponibiliza as estatísticas (apenas PostgreSQL)", example = "true")
+        boolean available,
+
+        @Schema(description = "Leituras sequenciais e por índice de cada tabela, das mais lidas sequencialmente para as menos")
+        List<TableScanResponse> tables,
+
+        @Schema(description = "Uso de cada índice, dos menos utilizados para os mais utilizados")
+        List<IndexUsageResponse> indexes
+
+) {
+}
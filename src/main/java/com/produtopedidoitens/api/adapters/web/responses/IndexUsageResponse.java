@@ -0,0 +1,28 @@
+package com.produtopedidoitens.api.adapters.web.responses;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+@Builder
+public record IndexUsageResponse(
+
+        @Schema(description = "Nome da tabela do índice", example = "tborderitem")
+        String tableName,
+
+        @Schema(description = "Nome do índice", example = "idx_tborderitem_idorder_dthreg_id")
+        String indexName,
+
+        @Schema(description = "Quantidade de leituras feitas pelo índice", example = "97500")
+        long indexScans,
+
+        @Schema(description = "Quantidade de entradas do índice lidas", example = "195000")
+        long tuplesRead,
+
+        @Schema(description = "Quantidade de linhas da tabela obtidas pelo índice", example = "195000")
+        long tuplesFetched,
+
+        @Schema(description = "Tamanho do índice em bytes", example = "1343488")
+        long sizeBytes
+
+) {
+}
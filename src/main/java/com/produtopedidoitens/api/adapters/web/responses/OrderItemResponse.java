@@ -27,7 +27,10 @@ public record OrderItemResponse(
         Integer quantity,
 
         @Schema(description = "Versão do item do pedido", example = "0")
-        Long version
+        Long version,
+
+        @Schema(description = "Versão do pedido após a alteração do item", example = "1")
+        Long orderVersion
 
 ) {
 }
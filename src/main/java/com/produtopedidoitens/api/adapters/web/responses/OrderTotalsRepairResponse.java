@@ -0,0 +1,27 @@
+package com.produtopedidoitens.api.adapters.web.responses;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+
+@Builder(toBuilder = true)
+public record OrderTotalsRepairResponse(
+
+        @Schema(description = "Situação do recálculo: Não iniciado, Em execução, Concluído ou Falhou", example = "Em execução")
+        String status,
+
+        @Schema(description = "Quantidade de pedidos verificados até o momento", example = "1500000")
+        long processedOrders,
+
+        @Schema(description = "Quantidade de pedidos cujos totais estavam divergentes e foram corrigidos", example = "42")
+        long updatedOrders,
+
+        @Schema(description = "Data e hora de início do recálculo", example = "2024-07-01T10:15:30")
+        LocalDateTime startedAt,
+
+        @Schema(description = "Data e hora de término do recálculo; nulo enquanto estiver em execução", example = "2024-07-01T10:17:02")
+        LocalDateTime finishedAt
+
+) {
+}
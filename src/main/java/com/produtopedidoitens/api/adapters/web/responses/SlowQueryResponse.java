@@ -0,0 +1,37 @@
+package com.produtopedidoitens.api.adapters.web.responses;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Builder
+public record SlowQueryResponse(
+
+        @Schema(description = "Identificador sequencial do registro", example = "17")
+        long id,
+
+        @Schema(description = "Data e hora da execução do comando", example = "2024-07-01T10:15:30")
+        LocalDateTime executedAt,
+
+        @Schema(description = "Porta de entrada e método que executaram o comando", example = "OrderInputPort.searchOrders")
+        String portMethod,
+
+        @Schema(description = "Comando SQL executado", example = "select o1_0.id from tb_order o1_0 where upper(o1_0.order_number) like ? escape '!'")
+        String sql,
+
+        @Schema(description = "Parâmetros do comando, na ordem em que foram informados. Os valores só são exibidos com app.slow-query.include-parameters habilitado; caso contrário, apenas o tipo de cada valor", example = "[\"<String>\"]")
+        List<String> parameters,
+
+        @Schema(description = "Tempo de execução do comando em milissegundos", example = "850")
+        long durationMillis,
+
+        @Schema(description = "Quantidade de comandos enviados no lote", example = "1")
+        int batchSize,
+
+        @Schema(description = "Plano de execução amostrado (EXPLAIN, ou EXPLAIN ANALYZE, BUFFERS com app.slow-query.explain-analyze habilitado), disponível apenas no PostgreSQL")
+        String plan
+
+) {
+}
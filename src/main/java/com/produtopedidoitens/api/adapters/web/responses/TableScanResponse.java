@@ -0,0 +1,25 @@
+package com.produtopedidoitens.api.adapters.web.responses;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+@Builder
+public record TableScanResponse(
+
+        @Schema(description = "Nome da tabela", example = "tborderitem")
+        String tableName,
+
+        @Schema(description = "Quantidade de leituras sequenciais da tabela", example = "12")
+        long sequentialScans,
+
+        @Schema(description = "Quantidade de linhas lidas pelas leituras sequenciais", example = "480000")
+        long sequentialTuplesRead,
+
+        @Schema(description = "Quantidade de leituras feitas por índices da tabela", example = "98000")
+        long indexScans,
+
+        @Schema(description = "Quantidade estimada de linhas da tabela", example = "40000")
+        long liveTuples
+
+) {
+}
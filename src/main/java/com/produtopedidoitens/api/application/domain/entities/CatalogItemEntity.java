@@ -40,7 +40,7 @@ public class CatalogItemEntity {
     @Column(name = "catalogitemdescription")
     private String catalogItemDescription;
 
-    @Column(name = "catalogitemnumber")
+    @Column(name = "catalogitemnumber", unique = true)
     private String catalogItemNumber;
 
     @NotNull(message = MessagesConstants.PRODUCT_PRICE_NOT_NULL)
@@ -33,7 +33,7 @@ public class OrderEntity {
     private UUID id;
 
     @NotNull(message = MessagesConstants.ORDER_NUMBER_NOT_NULL)
-    @Column(name = "ordernumber")
+    @Column(name = "ordernumber", unique = true)
     private String orderNumber;
 
     @NotNull(message = MessagesConstants.ORDER_DATE_NOT_NULL)
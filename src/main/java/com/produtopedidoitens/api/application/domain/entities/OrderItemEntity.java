@@ -8,6 +8,7 @@ import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
@@ -31,6 +32,12 @@ public class OrderItemEntity {
     @Column(name = "quantity")
     private Integer quantity;
 
+    @Column(name = "price")
+    private BigDecimal price;
+
+    @Column(name = "total")
+    private BigDecimal total;
+
     @NotNull(message = MessagesConstants.ORDER_ITEM_PRODUCT_NOT_NULL)
     @ManyToOne
     @JoinColumn(name = "catalogitemid")
@@ -0,0 +1,16 @@
+package com.produtopedidoitens.api.application.domain.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum EnumRepairStatus implements EnumCode {
+
+    IDLE("Não iniciado"),
+    RUNNING("Em execução"),
+    COMPLETED("Concluído"),
+    FAILED("Falhou");
+
+    private final String code;
+}
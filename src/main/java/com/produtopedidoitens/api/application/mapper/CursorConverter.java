@@ -0,0 +1,77 @@
+package com.produtopedidoitens.api.application.mapper;
+
+import com.produtopedidoitens.api.adapters.web.requests.KeysetCursor;
+import com.produtopedidoitens.api.adapters.web.requests.SearchCursor;
+import com.produtopedidoitens.api.adapters.web.responses.CursorPageResponse;
+import com.produtopedidoitens.api.application.exceptions.BadRequestException;
+import com.produtopedidoitens.api.utils.MessagesConstants;
+import lombok.experimental.UtilityClass;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+@UtilityClass
+public class CursorConverter {
+
+    public static final int DEFAULT_LIMIT = 20;
+    public static final int MAX_LIMIT = 100;
+    private static final String SEPARATOR = "|";
+
+    public static String encode(LocalDateTime dthreg, UUID id) {
+        String raw = dthreg + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            return new KeysetCursor(LocalDateTime.parse(raw.substring(0, separator)), UUID.fromString(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new BadRequestException(MessagesConstants.ERROR_INVALID_CURSOR);
+        }
+    }
+
+    public static String encodeSearch(double distance, UUID id) {
+        String raw = distance + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static SearchCursor decodeSearch(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            return new SearchCursor(Double.parseDouble(raw.substring(0, separator)), UUID.fromString(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new BadRequestException(MessagesConstants.ERROR_INVALID_CURSOR);
+        }
+    }
+
+    public static int normalizeLimit(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_LIMIT;
+        }
+        return Math.max(1, Math.min(limit, MAX_LIMIT));
+    }
+
+    public static <E, T> CursorPageResponse<T> toCursorPage(List<E> rows, int limit,
+                                                           Function<E, LocalDateTime> dthreg,
+                                                           Function<E, UUID> id,
+                                                           Function<List<E>, List<T>> mapper) {
+        return toCursorPage(rows, limit, row -> encode(dthreg.apply(row), id.apply(row)), mapper);
+    }
+
+    public static <E, T> CursorPageResponse<T> toCursorPage(List<E> rows, int limit,
+                                                           Function<E, String> cursor,
+                                                           Function<List<E>, List<T>> mapper) {
+        boolean hasNext = rows.size() > limit;
+        List<E> page = hasNext ? rows.subList(0, limit) : rows;
+        String nextCursor = hasNext ? cursor.apply(page.get(page.size() - 1)) : null;
+        return new CursorPageResponse<>(mapper.apply(page), nextCursor, limit, hasNext);
+    }
+
+}
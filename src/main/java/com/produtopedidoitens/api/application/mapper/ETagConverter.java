@@ -0,0 +1,33 @@
+package com.produtopedidoitens.api.application.mapper;
+
+import lombok.experimental.UtilityClass;
+
+import java.util.UUID;
+
+@UtilityClass
+public class ETagConverter {
+
+    private static final String WEAK_PREFIX = "W/";
+    private static final String ANY = "*";
+
+    public static String toETag(UUID id, String version) {
+        return "\"" + id + "-" + version + "\"";
+    }
+
+    public static boolean matches(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith(WEAK_PREFIX)) {
+                value = value.substring(WEAK_PREFIX.length());
+            }
+            if (ANY.equals(value) || eTag.equals(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
@@ -1,43 +1,37 @@
 package com.produtopedidoitens.api.application.mapper;
 
-import com.produtopedidoitens.api.adapters.persistence.repositories.OrderRepository;
+import com.produtopedidoitens.api.adapters.persistence.repositories.OrderItemRepository;
+import com.produtopedidoitens.api.adapters.persistence.sequences.OrderNumberGenerator;
 import com.produtopedidoitens.api.adapters.web.projections.OrderItemProjection;
 import com.produtopedidoitens.api.adapters.web.projections.OrderProjection;
 import com.produtopedidoitens.api.adapters.web.requests.OrderRequest;
 import com.produtopedidoitens.api.adapters.web.responses.OrderResponse;
 import com.produtopedidoitens.api.application.domain.entities.OrderEntity;
-import com.produtopedidoitens.api.application.domain.entities.OrderItemEntity;
 import com.produtopedidoitens.api.application.domain.enums.EnumOrderStatus;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
 import java.util.List;
-import java.util.Random;
+import java.util.Map;
 import java.util.UUID;
 
 @RequiredArgsConstructor
 @Component
 public class OrderConverter {
 
-    private final OrderRepository orderRepository;
-    private final OrderItemConverter orderItemConverter;
+    private final OrderItemRepository orderItemRepository;
+    private final OrderNumberGenerator orderNumberGenerator;
 
     public OrderEntity toEntity(OrderRequest orderRequest) {
         return OrderEntity.builder()
-                .orderNumber(getOrderNumber())
+                .orderNumber(orderNumberGenerator.next())
                 .orderDate(orderRequest.orderDate())
                 .status(EnumConverter.fromString(orderRequest.status(), EnumOrderStatus.class))
                 .discount(new BigDecimal(orderRequest.discount()))
                 .build();
     }
 
-    private String getOrderNumber() {
-        Random random = new Random();
-        int randomNumber = random.nextInt(1001);
-        return "PED-" + randomNumber + "-2024";
-    }
-
     public OrderResponse toResponse(OrderEntity entitySaved) {
         return OrderResponse.builder()
                 .id(entitySaved.getId())
@@ -50,12 +44,39 @@ public class OrderConverter {
     }
 
     public OrderProjection toProjection(OrderEntity orderEntity) {
+        return toProjection(orderEntity, getOrderItems(orderEntity.getId()));
+    }
+
+    public List<OrderProjection> toProjections(List<OrderEntity> orderEntities) {
+        if (orderEntities.isEmpty()) {
+            return List.of();
+        }
+        List<UUID> ids = orderEntities.stream().map(OrderEntity::getId).toList();
+        Map<UUID, List<OrderItemProjection>> itemsByOrder = orderItemRepository.findItemProjectionsByOrderIds(ids);
+        return orderEntities.stream()
+                .map(orderEntity -> toProjection(orderEntity, itemsByOrder.getOrDefault(orderEntity.getId(), List.of())))
+                .toList();
+    }
+
+    public List<OrderProjection> withItems(List<OrderProjection> orders) {
+        if (orders.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, List<OrderItemProjection>> itemsByOrder = orderItemRepository.findItemProjectionsByOrderIds(
+                orders.stream().map(OrderProjection::id).toList());
+        return orders.stream()
+                .map(order -> new OrderProjection(order.id(), order.orderNumber(), order.orderDate(), order.status(),
+                        itemsByOrder.getOrDefault(order.id(), List.of()), order.grossTotal(), order.discount(), order.netTotal()))
+                .toList();
+    }
+
+    public OrderProjection toProjection(OrderEntity orderEntity, List<OrderItemProjection> items) {
         return OrderProjection.builder()
                 .id(orderEntity.getId())
                 .orderNumber(orderEntity.getOrderNumber())
                 .orderDate(orderEntity.getOrderDate())
                 .status(EnumConverter.toString(orderEntity.getStatus()))
-                .items(getOrderItems(orderEntity.getId()))
+                .items(items)
                 .grossTotal(orderEntity.getGrossTotal())
                 .discount(orderEntity.getDiscount())
                 .netTotal(orderEntity.getNetTotal())
@@ -63,7 +84,6 @@ public class OrderConverter {
     }
 
     private List<OrderItemProjection> getOrderItems(UUID id) {
-        List<OrderItemEntity> orderItems = orderRepository.getOrderItems(id);
-        return orderItems.stream().map(orderItemConverter::toProjection).toList();
+        return orderItemRepository.findItemProjectionsByOrderIds(List.of(id)).getOrDefault(id, List.of());
     }
 }
@@ -7,17 +7,21 @@ import com.produtopedidoitens.api.adapters.web.responses.CatalogItemResponse;
 import com.produtopedidoitens.api.application.domain.entities.CatalogItemEntity;
 import com.produtopedidoitens.api.application.domain.entities.OrderEntity;
 import com.produtopedidoitens.api.application.domain.entities.OrderItemEntity;
+import com.produtopedidoitens.api.application.pricing.OrderItemPricing;
 import org.springframework.stereotype.Component;
 
 @Component
 public class OrderItemConverter {
 
     public OrderItemEntity requestToEntity(OrderItemRequest orderItemRequest, CatalogItemEntity catalogItemEntity, OrderEntity orderEntity) {
-        return OrderItemEntity.builder()
+        OrderItemEntity entity = OrderItemEntity.builder()
                 .quantity(Integer.parseInt(orderItemRequest.quantity()))
+                .price(catalogItemEntity.getPrice())
                 .catalogItem(catalogItemEntity)
                 .order(orderEntity)
                 .build();
+        entity.setTotal(OrderItemPricing.lineTotal(entity, OrderItemPricing.toBasisPoints(orderEntity.getDiscount())));
+        return entity;
     }
 
     public OrderItemProjection toProjection(OrderItemEntity orderItemEntity) {
@@ -26,11 +30,16 @@ public class OrderItemConverter {
                 .orderNumber(orderItemEntity.getOrder().getOrderNumber())
                 .catalogItemName(orderItemEntity.getCatalogItem().getCatalogItemName())
                 .quantity(orderItemEntity.getQuantity())
-                .price(orderItemEntity.getCatalogItem().getPrice())
+                .price(orderItemEntity.getPrice())
+                .total(orderItemEntity.getTotal())
                 .build();
     }
 
     public OrderItemResponse toResponse(OrderItemEntity entitySaved) {
+        return toResponse(entitySaved, entitySaved.getOrder() == null ? null : entitySaved.getOrder().getVersion());
+    }
+
+    public OrderItemResponse toResponse(OrderItemEntity entitySaved, Long orderVersion) {
         return OrderItemResponse.builder()
                 .id(entitySaved.getId())
                 .catalogItem(CatalogItemResponse.builder()
@@ -45,6 +54,7 @@ public class OrderItemConverter {
                         .build())
                 .quantity(entitySaved.getQuantity())
                 .version(entitySaved.getVersion())
+                .orderVersion(orderVersion)
                 .build();
     }
 
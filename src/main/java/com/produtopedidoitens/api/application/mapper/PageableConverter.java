@@ -0,0 +1,38 @@
+package com.produtopedidoitens.api.application.mapper;
+
+import com.produtopedidoitens.api.application.exceptions.BadRequestException;
+import com.produtopedidoitens.api.utils.MessagesConstants;
+import lombok.experimental.UtilityClass;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.Set;
+
+@UtilityClass
+public class PageableConverter {
+
+    private static final String ID = "id";
+
+    public static Pageable withAllowedSort(Pageable pageable, Set<String> allowedProperties, Sort defaultSort) {
+        Sort sort = pageable.getSort().isSorted() ? pageable.getSort() : defaultSort;
+        Sort.Direction direction = Sort.Direction.ASC;
+        for (Sort.Order order : sort) {
+            if (!allowedProperties.contains(order.getProperty())) {
+                throw new BadRequestException(MessagesConstants.ERROR_INVALID_SORT);
+            }
+            direction = order.getDirection();
+        }
+        if (sort.getOrderFor(ID) == null) {
+            sort = sort.and(Sort.by(direction, ID));
+        }
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort);
+    }
+
+    public static <T extends Comparable<? super T>> void validateRange(T min, T max) {
+        if (min != null && max != null && min.compareTo(max) > 0) {
+            throw new BadRequestException(MessagesConstants.ERROR_INVALID_FILTER_RANGE);
+        }
+    }
+
+}
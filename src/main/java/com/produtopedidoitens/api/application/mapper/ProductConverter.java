@@ -1,24 +1,27 @@
 package com.produtopedidoitens.api.application.mapper;
 
+import com.produtopedidoitens.api.adapters.persistence.sequences.CatalogItemNumberGenerator;
 import com.produtopedidoitens.api.adapters.web.projections.CatalogItemProjection;
 import com.produtopedidoitens.api.adapters.web.requests.CatalogItemRequest;
 import com.produtopedidoitens.api.adapters.web.responses.CatalogItemResponse;
 import com.produtopedidoitens.api.application.domain.entities.CatalogItemEntity;
 import com.produtopedidoitens.api.application.domain.enums.EnumCatalogItemType;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
-import java.util.Random;
 
+@RequiredArgsConstructor
 @Component
 public class ProductConverter {
 
+    private final CatalogItemNumberGenerator catalogItemNumberGenerator;
 
     public CatalogItemEntity toEntity(CatalogItemRequest catalogItemRequest) {
         return CatalogItemEntity.builder()
                 .catalogItemName(catalogItemRequest.catalogItemName())
                 .catalogItemDescription(catalogItemRequest.catalogItemDescription())
-                .catalogItemNumber(getCatalogItemNumber())
+                .catalogItemNumber(catalogItemNumberGenerator.next())
                 .price(new BigDecimal(catalogItemRequest.price()))
                 .type(EnumConverter.fromString(catalogItemRequest.type(), EnumCatalogItemType.class))
                 .isActive(Boolean.parseBoolean(catalogItemRequest.isActive()))
@@ -51,10 +54,4 @@ public class ProductConverter {
                 .build();
     }
 
-    private String getCatalogItemNumber() {
-        Random random = new Random();
-        int randomNumber = random.nextInt(999999);
-        return Integer.toString(randomNumber);
-    }
-
 }
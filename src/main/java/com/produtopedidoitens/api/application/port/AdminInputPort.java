@@ -0,0 +1,19 @@
+package com.produtopedidoitens.api.application.port;
+
+import com.produtopedidoitens.api.adapters.web.responses.CacheStatsResponse;
+import com.produtopedidoitens.api.adapters.web.responses.IndexUsageReportResponse;
+import com.produtopedidoitens.api.adapters.web.responses.OrderTotalsRepairResponse;
+import com.produtopedidoitens.api.adapters.web.responses.SlowQueryResponse;
+
+import java.util.List;
+
+public interface AdminInputPort {
+
+    List<CacheStatsResponse> getCacheStats();
+    OrderTotalsRepairResponse repairOrderTotals();
+    OrderTotalsRepairResponse getOrderTotalsRepairStatus();
+    List<SlowQueryResponse> listSlowQueries();
+    void clearSlowQueries();
+    IndexUsageReportResponse getIndexUsage();
+
+}
@@ -1,9 +1,11 @@
 package com.produtopedidoitens.api.application.port;
 
 import com.produtopedidoitens.api.adapters.web.projections.CatalogItemProjection;
+import com.produtopedidoitens.api.adapters.web.requests.CatalogItemFilterRequest;
 import com.produtopedidoitens.api.adapters.web.requests.CatalogItemRequest;
 import com.produtopedidoitens.api.adapters.web.responses.CatalogItemResponse;
-import com.produtopedidoitens.api.application.domain.entities.CatalogItemEntity;
+import com.produtopedidoitens.api.adapters.web.responses.CatalogItemSuggestionResponse;
+import com.produtopedidoitens.api.adapters.web.responses.CursorPageResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -14,8 +16,14 @@ public interface CatalogItemInputPort {
 
     CatalogItemResponse createCatalogItem(CatalogItemRequest catalogItemRequest);
     Page<CatalogItemProjection> listAllItems(Pageable pageable);
+    CursorPageResponse<CatalogItemProjection> listItemsAfter(String after, Integer limit);
     CatalogItemProjection getItemById(UUID id);
+    String getItemVersion(UUID id);
+    CatalogItemProjection getItemByCatalogItemNumber(String catalogItemNumber);
     CatalogItemResponse updateCatalogItem(UUID id, CatalogItemRequest catalogItemRequest);
     void deleteCatalogItem(UUID id);
-    List<CatalogItemEntity> getItemsWithFilters(String catalogItemName, Boolean isActive);
+    Page<CatalogItemProjection> filterItems(CatalogItemFilterRequest filter, Pageable pageable);
+    CursorPageResponse<CatalogItemProjection> searchItemsByName(String term, Boolean isActive, String after, Integer limit);
+    List<CatalogItemSuggestionResponse> suggestItems(String term, Integer limit);
+    List<UUID> findReferencedItems(List<UUID> ids);
 }
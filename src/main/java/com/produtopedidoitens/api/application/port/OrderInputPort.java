@@ -1,22 +1,30 @@
 package com.produtopedidoitens.api.application.port;
 
 import com.produtopedidoitens.api.adapters.web.projections.OrderProjection;
+import com.produtopedidoitens.api.adapters.web.requests.OrderFilterRequest;
 import com.produtopedidoitens.api.adapters.web.requests.OrderRequest;
+import com.produtopedidoitens.api.adapters.web.responses.CursorPageResponse;
 import com.produtopedidoitens.api.adapters.web.responses.OrderResponse;
 import com.produtopedidoitens.api.application.domain.enums.EnumOrderStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
-import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface OrderInputPort {
 
     OrderResponse createOrder(OrderRequest orderRequest);
     Page<OrderProjection> listAllOrders(Pageable pageable);
+    Slice<OrderProjection> listOrdersWithoutCount(Pageable pageable);
+    CursorPageResponse<OrderProjection> listOrdersAfter(String after, Integer limit);
     OrderProjection getOrderById(UUID id);
+    String getOrderVersion(UUID id);
     OrderResponse updateOrder(UUID id, OrderRequest orderRequest);
     void deleteOrder(UUID id);
-    List<OrderProjection> searchOrders(String orderNumber, EnumOrderStatus status);
+    Page<OrderProjection> filterOrders(OrderFilterRequest filter, Pageable pageable);
+    CursorPageResponse<OrderProjection> searchOrdersByNumber(String term, EnumOrderStatus status, String after, Integer limit);
+    void exportOrders(Consumer<OrderProjection> consumer);
 
 }
@@ -2,19 +2,25 @@ package com.produtopedidoitens.api.application.port;
 
 import com.produtopedidoitens.api.adapters.web.projections.OrderByOrderNumber;
 import com.produtopedidoitens.api.adapters.web.projections.OrderItemProjection;
+import com.produtopedidoitens.api.adapters.web.requests.OrderItemBatchRequest;
 import com.produtopedidoitens.api.adapters.web.requests.OrderItemRequest;
 import com.produtopedidoitens.api.adapters.web.requests.OrderItemUpdateRequest;
+import com.produtopedidoitens.api.adapters.web.responses.CursorPageResponse;
 import com.produtopedidoitens.api.adapters.web.responses.OrderItemResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
 import java.util.UUID;
 
 public interface OrderItemInputPort {
 
     OrderItemResponse createOrderItem(OrderItemRequest orderItemRequest);
+    List<OrderItemResponse> createOrderItems(UUID orderId, List<OrderItemBatchRequest> orderItemRequests);
     Page<OrderItemProjection> listAllOrderItems(Pageable pageable);
+    CursorPageResponse<OrderItemProjection> listOrderItemsAfter(String after, Integer limit);
     OrderItemProjection getOrderItemById(UUID id);
+    String getOrderItemVersion(UUID id);
     Page<OrderByOrderNumber> getOrdersByOrderNumber(String orderNumber);
     OrderItemResponse updateOrderItem(UUID id, OrderItemUpdateRequest orderItemUpdateRequest);
     void deleteOrderItem(UUID id);
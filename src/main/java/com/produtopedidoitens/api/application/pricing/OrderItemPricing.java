@@ -0,0 +1,75 @@
+package com.produtopedidoitens.api.application.pricing;
+
+import com.produtopedidoitens.api.application.domain.entities.OrderItemEntity;
+import com.produtopedidoitens.api.application.domain.enums.EnumCatalogItemType;
+import lombok.experimental.UtilityClass;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+@UtilityClass
+public class OrderItemPricing {
+
+    private static final int CENTS_SCALE = 2;
+    private static final int BASIS_POINTS_SCALE = 2;
+    private static final long BASIS_POINTS_PER_UNIT = 10_000L;
+
+    public static long toCents(BigDecimal amount) {
+        return amount.setScale(CENTS_SCALE, RoundingMode.HALF_EVEN).unscaledValue().longValueExact();
+    }
+
+    public static BigDecimal fromCents(long cents) {
+        return BigDecimal.valueOf(cents, CENTS_SCALE);
+    }
+
+    public static long toBasisPoints(BigDecimal discount) {
+        return discount == null ? 0L : discount.movePointRight(BASIS_POINTS_SCALE).setScale(0, RoundingMode.HALF_EVEN).longValueExact();
+    }
+
+    public static long grossCents(long priceCents, int quantity) {
+        return Math.multiplyExact(priceCents, quantity);
+    }
+
+    public static long discountCents(long grossCents, long discountBasisPoints) {
+        return roundHalfEven(Math.multiplyExact(grossCents, discountBasisPoints), BASIS_POINTS_PER_UNIT);
+    }
+
+    public static long netCents(long priceCents, int quantity, EnumCatalogItemType type, long discountBasisPoints) {
+        long grossCents = grossCents(priceCents, quantity);
+        if (EnumCatalogItemType.PRODUCT.equals(type)) {
+            return grossCents - discountCents(grossCents, discountBasisPoints);
+        }
+        return grossCents;
+    }
+
+    public static long roundHalfEven(long dividend, long divisor) {
+        long quotient = Math.floorDiv(dividend, divisor);
+        long twiceRemainder = Math.floorMod(dividend, divisor) * 2;
+        if (twiceRemainder > divisor || (twiceRemainder == divisor && (quotient & 1L) == 1L)) {
+            return quotient + 1;
+        }
+        return quotient;
+    }
+
+    public static String productNetTotalSql(String price, String quantity, String discountBasisPoints) {
+        String grossCents = "(CAST(" + price + " * 100 AS BIGINT) * " + quantity + ")";
+        String dividend = "(" + grossCents + " * " + discountBasisPoints + ")";
+        String quotient = "(" + dividend + " / " + BASIS_POINTS_PER_UNIT + ")";
+        String twiceRemainder = "(MOD(" + dividend + ", " + BASIS_POINTS_PER_UNIT + ") * 2)";
+        String discountCents = "(" + quotient + " + CASE WHEN " + twiceRemainder + " > " + BASIS_POINTS_PER_UNIT
+                + " OR (" + twiceRemainder + " = " + BASIS_POINTS_PER_UNIT + " AND MOD(" + quotient + ", 2) = 1) THEN 1 ELSE 0 END)";
+        return "CAST(CAST(" + grossCents + " - " + discountCents + " AS NUMERIC(19, 2)) / 100 AS NUMERIC(19, 2))";
+    }
+
+    public static BigDecimal lineTotal(OrderItemEntity entity, long discountBasisPoints) {
+        return fromCents(netCents(toCents(entity.getPrice()), entity.getQuantity(), entity.getCatalogItem().getType(), discountBasisPoints));
+    }
+
+    public static void reprice(OrderItemEntity entity, long discountBasisPoints) {
+        if (entity.getPrice() == null) {
+            entity.setPrice(entity.getCatalogItem().getPrice());
+        }
+        entity.setTotal(lineTotal(entity, discountBasisPoints));
+    }
+
+}
@@ -0,0 +1,90 @@
+package com.produtopedidoitens.api.application.services;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.produtopedidoitens.api.adapters.persistence.cache.CatalogItemCache;
+import com.produtopedidoitens.api.adapters.persistence.metrics.SlowQueryRecorder;
+import com.produtopedidoitens.api.adapters.persistence.repositories.IndexUsageRepository;
+import com.produtopedidoitens.api.adapters.web.responses.CacheStatsResponse;
+import com.produtopedidoitens.api.adapters.web.responses.IndexUsageReportResponse;
+import com.produtopedidoitens.api.adapters.web.responses.OrderTotalsRepairResponse;
+import com.produtopedidoitens.api.adapters.web.responses.SlowQueryResponse;
+import com.produtopedidoitens.api.application.port.AdminInputPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class AdminServiceImpl implements AdminInputPort {
+
+    private final CatalogItemCache catalogItemCache;
+    private final OrderTotalsRepairJob orderTotalsRepairJob;
+    private final SlowQueryRecorder slowQueryRecorder;
+    private final IndexUsageRepository indexUsageRepository;
+
+    @Override
+    public List<CacheStatsResponse> getCacheStats() {
+        log.info("getCacheStats:: Consultando estatísticas dos caches");
+        CacheStats stats = catalogItemCache.stats();
+        return List.of(CacheStatsResponse.builder()
+                .name(CatalogItemCache.NAME)
+                .size(catalogItemCache.size())
+                .hitCount(stats.hitCount())
+                .missCount(stats.missCount())
+                .hitRate(stats.hitRate())
+                .evictionCount(stats.evictionCount())
+                .build());
+    }
+
+    @Override
+    public OrderTotalsRepairResponse repairOrderTotals() {
+        log.info("repairOrderTotals:: Solicitando recálculo dos totais de todos os pedidos em segundo plano");
+        return orderTotalsRepairJob.start();
+    }
+
+    @Override
+    public OrderTotalsRepairResponse getOrderTotalsRepairStatus() {
+        log.info("getOrderTotalsRepairStatus:: Consultando andamento do recálculo dos totais dos pedidos");
+        return orderTotalsRepairJob.status();
+    }
+
+    @Override
+    public List<SlowQueryResponse> listSlowQueries() {
+        log.info("listSlowQueries:: Consultando comandos SQL lentos");
+        return slowQueryRecorder.findAll().stream()
+                .map(slowQuery -> SlowQueryResponse.builder()
+                        .id(slowQuery.getId())
+                        .executedAt(slowQuery.getExecutedAt())
+                        .portMethod(slowQuery.getPortMethod())
+                        .sql(slowQuery.getSql())
+                        .parameters(slowQuery.getParameters())
+                        .durationMillis(slowQuery.getDurationMillis())
+                        .batchSize(slowQuery.getBatchSize())
+                        .plan(slowQuery.getPlan())
+                        .build())
+                .toList();
+    }
+
+    @Override
+    public void clearSlowQueries() {
+        log.info("clearSlowQueries:: Limpando registros de comandos SQL lentos");
+        slowQueryRecorder.clear();
+    }
+
+    @Override
+    public IndexUsageReportResponse getIndexUsage() {
+        log.info("getIndexUsage:: Consultando estatísticas de uso dos índices");
+        if (!indexUsageRepository.isAvailable()) {
+            log.info("getIndexUsage:: Banco sem suporte às estatísticas de uso dos índices");
+        }
+        return IndexUsageReportResponse.builder()
+                .available(indexUsageRepository.isAvailable())
+                .tables(indexUsageRepository.findTableScans())
+                .indexes(indexUsageRepository.findIndexUsage())
+                .build();
+    }
+
+}
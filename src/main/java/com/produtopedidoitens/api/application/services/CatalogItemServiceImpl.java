@@ -1,54 +1,81 @@
 package com.produtopedidoitens.api.application.services;
 
+import com.produtopedidoitens.api.adapters.persistence.cache.CatalogItemCache;
 import com.produtopedidoitens.api.adapters.persistence.repositories.CatalogItemRepository;
-import com.produtopedidoitens.api.adapters.persistence.repositories.OrderItemRepository;
+import com.produtopedidoitens.api.adapters.persistence.repositories.ReferentialUsageRepository;
+import com.produtopedidoitens.api.adapters.persistence.repositories.TrigramSearchRepository;
+import com.produtopedidoitens.api.adapters.persistence.repositories.TrigramSearchRepository.SearchHit;
+import com.produtopedidoitens.api.adapters.persistence.search.CatalogItemSuggestIndex;
 import com.produtopedidoitens.api.adapters.web.projections.CatalogItemProjection;
+import com.produtopedidoitens.api.adapters.web.filters.ProductFilter;
+import com.produtopedidoitens.api.adapters.web.requests.CatalogItemFilterRequest;
 import com.produtopedidoitens.api.adapters.web.requests.CatalogItemRequest;
+import com.produtopedidoitens.api.adapters.web.requests.KeysetCursor;
+import com.produtopedidoitens.api.adapters.web.requests.SearchCursor;
 import com.produtopedidoitens.api.adapters.web.responses.CatalogItemResponse;
+import com.produtopedidoitens.api.adapters.web.responses.CatalogItemSuggestionResponse;
+import com.produtopedidoitens.api.adapters.web.responses.CursorPageResponse;
 import com.produtopedidoitens.api.application.domain.entities.CatalogItemEntity;
-import com.produtopedidoitens.api.application.domain.entities.QCatalogItemEntity;
 import com.produtopedidoitens.api.application.domain.enums.EnumCatalogItemType;
 import com.produtopedidoitens.api.application.exceptions.BadRequestException;
 import com.produtopedidoitens.api.application.exceptions.ProductNotFoundException;
+import com.produtopedidoitens.api.application.mapper.CursorConverter;
 import com.produtopedidoitens.api.application.mapper.EnumConverter;
+import com.produtopedidoitens.api.application.mapper.PageableConverter;
 import com.produtopedidoitens.api.application.mapper.ProductConverter;
 import com.produtopedidoitens.api.application.port.CatalogItemInputPort;
 import com.produtopedidoitens.api.application.validators.CatalogItemValidator;
 import com.produtopedidoitens.api.utils.MessagesConstants;
-import com.querydsl.core.BooleanBuilder;
-import com.querydsl.core.types.Predicate;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @RequiredArgsConstructor
 @Service
 public class CatalogItemServiceImpl implements CatalogItemInputPort {
 
+    private static final int DEFAULT_SUGGEST_LIMIT = 10;
+    private static final int MAX_SUGGEST_LIMIT = 50;
+    private static final Set<String> FILTER_SORT_PROPERTIES = Set.of("catalogItemName", "catalogItemNumber", "price", "dthreg", "id");
+    private static final Sort DEFAULT_FILTER_SORT = Sort.by("price", "id");
+
     private final CatalogItemRepository catalogItemRepository;
+    private final CatalogItemCache catalogItemCache;
     private final ProductConverter productConverter;
-    private final OrderItemRepository orderItemRepository;
+    private final ReferentialUsageRepository referentialUsageRepository;
     private final CatalogItemValidator catalogItemValidator;
+    private final TrigramSearchRepository trigramSearchRepository;
+    private final CatalogItemSuggestIndex catalogItemSuggestIndex;
 
     @Transactional(rollbackFor = Exception.class)
     @Override
     public CatalogItemResponse createCatalogItem(CatalogItemRequest catalogItemRequest) {
-        log.info("create:: Recebendo catalogItemRequest: {}", catalogItemRequest);
+        log.info("create:: Recebendo requisição para cadastrar produto/serviço");
+        log.debug("create:: catalogItemRequest: {}", catalogItemRequest);
         catalogItemValidator.validate(catalogItemRequest);
 
         try {
             CatalogItemEntity entitySaved = catalogItemRepository.save(getEntity(catalogItemRequest));
+            catalogItemSuggestIndex.onCreated(entitySaved);
             CatalogItemResponse response = productConverter.toResponse(entitySaved);
-            log.info("create:: Salvando produto/serviço: {}", response);
+            log.info("create:: Produto/serviço salvo: {}, número: {}", response.id(), response.catalogItemNumber());
+            log.debug("create:: Produto/serviço salvo: {}", response);
             return response;
         } catch (Exception e) {
             log.error("create:: Ocorreu um erro ao salvar o produto/serviço");
@@ -60,29 +87,71 @@ public class CatalogItemServiceImpl implements CatalogItemInputPort {
     public Page<CatalogItemProjection> listAllItems(Pageable pageable) {
         log.info("list:: Listando produtos/serviços");
         List<CatalogItemEntity> list = getCatalogItemList();
-        log.info("list:: Produtos/serviços listados com sucesso: {}", list);
+        log.info("list:: Produtos/serviços listados com sucesso: {}", list.size());
+        log.debug("list:: Produtos/serviços listados: {}", list);
         List<CatalogItemProjection> catalogItemProjectionList = list.stream().map(productConverter::toProjection).toList();
         return new PageImpl<>(catalogItemProjectionList, pageable, list.size());
     }
 
+    @Override
+    public CursorPageResponse<CatalogItemProjection> listItemsAfter(String after, Integer limit) {
+        log.info("listItemsAfter:: Listando produtos/serviços a partir do cursor: {}", after);
+        int pageSize = CursorConverter.normalizeLimit(limit);
+        List<CatalogItemEntity> rows;
+        if (after == null || after.isBlank()) {
+            rows = catalogItemRepository.findFirstKeysetPage(Limit.of(pageSize + 1));
+        } else {
+            KeysetCursor cursor = CursorConverter.decode(after);
+            rows = catalogItemRepository.findKeysetPageAfter(cursor.dthreg(), cursor.id(), Limit.of(pageSize + 1));
+        }
+        return CursorConverter.toCursorPage(rows, pageSize, CatalogItemEntity::getDthreg, CatalogItemEntity::getId,
+                page -> page.stream().map(productConverter::toProjection).toList());
+    }
+
     @Override
     public CatalogItemProjection getItemById(UUID id) {
         log.info("read:: Buscando produto/serviço pelo id: {}", id);
         CatalogItemEntity entity = getCatalogItemEntity(id);
-        log.info("read:: Produto/serviço encontrado: {}", entity);
+        log.debug("read:: Produto/serviço encontrado: {}", entity);
+        return productConverter.toProjection(entity);
+    }
+
+    @Override
+    public String getItemVersion(UUID id) {
+        log.info("getItemVersion:: Buscando versão do produto/serviço pelo id: {}", id);
+        return catalogItemRepository.findVersionById(id)
+                .orElseThrow(() -> {
+                    log.error("getItemVersion:: Ocorreu um erro ao buscar versão do produto/serviço: {}", MessagesConstants.ERROR_PRODUCT_NOT_FOUND);
+                    return new ProductNotFoundException(MessagesConstants.ERROR_PRODUCT_NOT_FOUND);
+                });
+    }
+
+    @Override
+    public CatalogItemProjection getItemByCatalogItemNumber(String catalogItemNumber) {
+        log.info("getItemByCatalogItemNumber:: Buscando produto/serviço pelo número: {}", catalogItemNumber);
+        CatalogItemEntity entity = catalogItemRepository.findByCatalogItemNumber(catalogItemNumber)
+                .orElseThrow(() -> {
+                    log.error("getItemByCatalogItemNumber:: Ocorreu um erro ao buscar o produto/serviço pelo número: {}", MessagesConstants.ERROR_PRODUCT_NOT_FOUND);
+                    return new ProductNotFoundException(MessagesConstants.ERROR_PRODUCT_NOT_FOUND);
+                });
+        log.debug("getItemByCatalogItemNumber:: Produto/serviço encontrado: {}", entity);
         return productConverter.toProjection(entity);
     }
 
     @Transactional(rollbackFor = Exception.class)
     @Override
     public CatalogItemResponse updateCatalogItem(UUID id, CatalogItemRequest catalogItemRequest) {
-        log.info("update:: Recebendo requisição para atualizar produto/serviço: {}", catalogItemRequest);
+        log.info("update:: Recebendo requisição para atualizar produto/serviço: {}", id);
+        log.debug("update:: catalogItemRequest: {}", catalogItemRequest);
         CatalogItemEntity entity = getCatalogItemEntity(id);
         updateEntity(catalogItemRequest, entity);
         try {
-            CatalogItemEntity entitySaved = catalogItemRepository.save(entity);
+            CatalogItemEntity entitySaved = catalogItemRepository.saveAndFlush(entity);
+            catalogItemCache.invalidate(entitySaved.getId(), entitySaved.getVersion());
+            catalogItemSuggestIndex.onUpdated(entitySaved);
             CatalogItemResponse response = productConverter.toResponse(entitySaved);
-            log.info("update:: Atualizando produto/serviço na base: {}", response);
+            log.info("update:: Produto/serviço atualizado na base: {}, versão: {}", response.id(), response.version());
+            log.debug("update:: Produto/serviço atualizado: {}", response);
             return response;
         } catch (Exception e) {
             log.error("update:: Ocorreu um erro ao atualizar o produto/serviço");
@@ -92,31 +161,69 @@ public class CatalogItemServiceImpl implements CatalogItemInputPort {
 
 
 
-    @Transactional(rollbackFor = Exception.class)
+    @Transactional(readOnly = true)
     @Override
-    public List<CatalogItemEntity> getItemsWithFilters(String catalogItemName, Boolean isActive) {
-        log.info("getItemsWithFilters:: Recebendo requisição para buscar produtos/serviços com filtros");
-        QCatalogItemEntity qCatalogItem = QCatalogItemEntity.catalogItemEntity;
-        BooleanBuilder builder = new BooleanBuilder();
-
-        boolean hasFilters = false;
+    public Page<CatalogItemProjection> filterItems(CatalogItemFilterRequest filter, Pageable pageable) {
+        log.info("filterItems:: Buscando produtos/serviços por filtro: {}", filter);
+        PageableConverter.validateRange(filter.minPrice(), filter.maxPrice());
+        catalogItemValidator.validateFilter(filter);
+        Page<CatalogItemProjection> page = catalogItemRepository.findProjections(ProductFilter.filterByCriteria(filter),
+                PageableConverter.withAllowedSort(pageable, FILTER_SORT_PROPERTIES, DEFAULT_FILTER_SORT));
+        log.info("filterItems:: {} produtos/serviços encontrados de {}", page.getNumberOfElements(), page.getTotalElements());
+        return page;
+    }
 
-        if (catalogItemName != null && !catalogItemName.isEmpty()) {
-            builder.and(qCatalogItem.catalogItemName.containsIgnoreCase(catalogItemName));
-            hasFilters = true;
+    @Transactional(readOnly = true)
+    @Override
+    public CursorPageResponse<CatalogItemProjection> searchItemsByName(String term, Boolean isActive, String after, Integer limit) {
+        log.info("searchItemsByName:: Buscando produtos/serviços por similaridade do nome: {}, cursor: {}", term, after);
+        int pageSize = CursorConverter.normalizeLimit(limit);
+        if (term == null || term.strip().length() < TrigramSearchRepository.MIN_TERM_LENGTH) {
+            return new CursorPageResponse<>(List.of(), null, pageSize, false);
         }
+        SearchCursor cursor = after == null || after.isBlank() ? null : CursorConverter.decodeSearch(after);
+        List<SearchHit> hits = trigramSearchRepository.searchCatalogItems(term, isActive, cursor, pageSize + 1);
+        CursorPageResponse<CatalogItemProjection> page = CursorConverter.toCursorPage(hits, pageSize,
+                hit -> CursorConverter.encodeSearch(hit.distance(), hit.id()), this::toRankedProjections);
+        log.info("searchItemsByName:: {} produtos/serviços encontrados", page.content().size());
+        return page;
+    }
 
-        if (isActive != null) {
-            builder.and(qCatalogItem.isActive.eq(isActive));
-            hasFilters = true;
-        }
+    private List<CatalogItemProjection> toRankedProjections(List<SearchHit> hits) {
+        List<UUID> ids = hits.stream().map(SearchHit::id).toList();
+        Map<UUID, CatalogItemEntity> entities = catalogItemRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(CatalogItemEntity::getId, Function.identity()));
+        return ids.stream()
+                .map(entities::get)
+                .filter(Objects::nonNull)
+                .map(productConverter::toProjection)
+                .toList();
+    }
 
-        if (hasFilters) {
-            Predicate predicate = builder.getValue();
-            return (List<CatalogItemEntity>) catalogItemRepository.findAll(predicate);
-        } else {
-            return catalogItemRepository.findAll();
+    @Override
+    public List<CatalogItemSuggestionResponse> suggestItems(String term, Integer limit) {
+        log.debug("suggestItems:: Sugerindo produtos/serviços para o termo: {}", term);
+        int size = limit == null ? DEFAULT_SUGGEST_LIMIT : Math.max(1, Math.min(limit, MAX_SUGGEST_LIMIT));
+        if (term == null || term.isBlank()) {
+            return List.of();
+        }
+        if (!catalogItemSuggestIndex.isReady()) {
+            log.warn("suggestItems:: Índice de sugestões em carregamento, consultando o banco de dados");
+            return searchItemsByName(term, true, null, size).content().stream()
+                    .map(item -> new CatalogItemSuggestionResponse(item.id(), item.catalogItemName(), item.catalogItemNumber()))
+                    .toList();
         }
+        return catalogItemSuggestIndex.suggest(term, size).stream()
+                .map(suggestion -> new CatalogItemSuggestionResponse(suggestion.id(), suggestion.name(), suggestion.number()))
+                .toList();
+    }
+
+    @Override
+    public List<UUID> findReferencedItems(List<UUID> ids) {
+        log.info("findReferencedItems:: Verificando itens de pedido vinculados a {} produtos/serviços", ids.size());
+        List<UUID> referenced = referentialUsageRepository.findReferencedCatalogItems(ids);
+        log.info("findReferencedItems:: {} produtos/serviços vinculados a itens de pedido", referenced.size());
+        return referenced;
     }
 
     @Override
@@ -127,7 +234,9 @@ public class CatalogItemServiceImpl implements CatalogItemInputPort {
 
         try {
             catalogItemRepository.delete(entity);
-            log.info("delete:: Deletando produto/serviço da base: {}", entity);
+            catalogItemCache.invalidate(entity.getId(), null);
+            catalogItemSuggestIndex.onDeleted(entity.getId());
+            log.info("delete:: Produto/serviço deletado da base: {}", entity.getId());
         } catch (Exception e) {
             log.error("delete:: Ocorreu um erro ao deletar o produto/serviço");
             throw new BadRequestException(MessagesConstants.ERROR_DELETE_PRODUCT);
@@ -136,7 +245,7 @@ public class CatalogItemServiceImpl implements CatalogItemInputPort {
 
 
     private void beforeDelete(CatalogItemEntity catalogItemEntity) {
-        if (Boolean.TRUE.equals(orderItemRepository.existsByProductId(catalogItemEntity.getId()))) {
+        if (referentialUsageRepository.isCatalogItemReferenced(catalogItemEntity.getId())) {
             log.error("beforeDelete:: {}", MessagesConstants.ERROR_PRODUCT_ASSOCIATED_ORDER_ITEM);
             throw new BadRequestException(MessagesConstants.ERROR_PRODUCT_ASSOCIATED_ORDER_ITEM);
         }
@@ -1,28 +1,33 @@
 package com.produtopedidoitens.api.application.services;
 
-import com.produtopedidoitens.api.adapters.persistence.repositories.CatalogItemRepository;
+import com.produtopedidoitens.api.adapters.persistence.cache.CatalogItemCache;
 import com.produtopedidoitens.api.adapters.persistence.repositories.OrderItemRepository;
 import com.produtopedidoitens.api.adapters.persistence.repositories.OrderRepository;
+import com.produtopedidoitens.api.adapters.persistence.repositories.OrderTotalsRepository;
 import com.produtopedidoitens.api.adapters.web.projections.OrderByOrderNumber;
 import com.produtopedidoitens.api.adapters.web.projections.OrderItemProjection;
+import com.produtopedidoitens.api.adapters.web.requests.KeysetCursor;
+import com.produtopedidoitens.api.adapters.web.requests.OrderItemBatchRequest;
 import com.produtopedidoitens.api.adapters.web.requests.OrderItemRequest;
 import com.produtopedidoitens.api.adapters.web.requests.OrderItemUpdateRequest;
+import com.produtopedidoitens.api.adapters.web.responses.CursorPageResponse;
 import com.produtopedidoitens.api.adapters.web.responses.OrderItemResponse;
 import com.produtopedidoitens.api.application.domain.entities.CatalogItemEntity;
 import com.produtopedidoitens.api.application.domain.entities.OrderEntity;
 import com.produtopedidoitens.api.application.domain.entities.OrderItemEntity;
-import com.produtopedidoitens.api.application.domain.enums.EnumCatalogItemType;
-import com.produtopedidoitens.api.application.domain.enums.EnumOrderStatus;
 import com.produtopedidoitens.api.application.exceptions.BadRequestException;
 import com.produtopedidoitens.api.application.exceptions.OrderItemNotFoundException;
 import com.produtopedidoitens.api.application.exceptions.OrderNotFoundException;
 import com.produtopedidoitens.api.application.exceptions.ProductNotFoundException;
+import com.produtopedidoitens.api.application.mapper.CursorConverter;
 import com.produtopedidoitens.api.application.mapper.OrderItemConverter;
 import com.produtopedidoitens.api.application.port.OrderItemInputPort;
+import com.produtopedidoitens.api.application.pricing.OrderItemPricing;
 import com.produtopedidoitens.api.application.validators.OrderItemValidator;
 import com.produtopedidoitens.api.utils.MessagesConstants;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -30,9 +35,11 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -40,25 +47,26 @@ import java.util.UUID;
 public class OrderItemIServiceImpl implements OrderItemInputPort {
     
     private final OrderItemRepository orderItemRepository;
-    private final CatalogItemRepository catalogItemRepository;
+    private final CatalogItemCache catalogItemCache;
     private final OrderRepository orderRepository;
+    private final OrderTotalsRepository orderTotalsRepository;
     private final OrderItemConverter orderItemConverter;
     private final OrderItemValidator orderItemValidator;
 
     @Transactional(rollbackFor = Exception.class)
     @Override
     public OrderItemResponse createOrderItem(OrderItemRequest orderItemRequest) {
-        log.info("createOrderItem:: Recebendo orderItemRequest: {}", orderItemRequest);
+        log.info("createOrderItem:: Recebendo requisição para criar item no pedido: {}", orderItemRequest.orderId());
+        log.debug("createOrderItem:: orderItemRequest: {}", orderItemRequest);
         orderItemValidator.validate(orderItemRequest, getOrderEntity(orderItemRequest.orderId()));
 
         try {
             OrderItemEntity orderItemEntity = getOrderItemEntity(orderItemRequest);
-            setGrossTotal(orderItemEntity);
-            setNetTotal(orderItemRequest, orderItemEntity);
-
             OrderItemEntity entitySaved = orderItemRepository.save(orderItemEntity);
-            OrderItemResponse response = orderItemConverter.toResponse(entitySaved);
-            log.info("createOrderItem:: Salvando item do pedido: {}", response);
+            Long orderVersion = addTotals(orderItemEntity.getOrder(), List.of(orderItemEntity));
+            OrderItemResponse response = orderItemConverter.toResponse(entitySaved, orderVersion);
+            log.info("createOrderItem:: Item do pedido salvo: {}", response.id());
+            log.debug("createOrderItem:: Item do pedido salvo: {}", response);
             return response;
 
         } catch (Exception e) {
@@ -67,6 +75,46 @@ public class OrderItemIServiceImpl implements OrderItemInputPort {
         }
     }
 
+    @Transactional(rollbackFor = Exception.class)
+    @Override
+    public List<OrderItemResponse> createOrderItems(UUID orderId, List<OrderItemBatchRequest> orderItemRequests) {
+        log.info("createOrderItems:: Recebendo {} itens para o pedido: {}", orderItemRequests == null ? 0 : orderItemRequests.size(), orderId);
+        if (orderItemRequests == null || orderItemRequests.isEmpty()) {
+            log.error("createOrderItems:: {}", MessagesConstants.ERROR_ORDER_ITEMS_EMPTY);
+            throw new BadRequestException(MessagesConstants.ERROR_ORDER_ITEMS_EMPTY);
+        }
+        if (orderItemRequests.size() > OrderItemBatchRequest.MAX_ITEMS) {
+            log.error("createOrderItems:: {}", MessagesConstants.ERROR_ORDER_ITEMS_BATCH_TOO_LARGE);
+            throw new BadRequestException(MessagesConstants.ERROR_ORDER_ITEMS_BATCH_TOO_LARGE);
+        }
+        OrderEntity orderEntity = getOrderEntity(orderId.toString());
+        List<OrderItemRequest> requests = orderItemRequests.stream()
+                .map(line -> OrderItemRequest.builder()
+                        .quantity(line.quantity())
+                        .catalogItemId(line.catalogItemId())
+                        .orderId(orderId.toString())
+                        .build())
+                .toList();
+        requests.forEach(request -> orderItemValidator.validate(request, orderEntity));
+        Map<UUID, CatalogItemEntity> catalogItems = getCatalogItemEntities(requests);
+
+        try {
+            List<OrderItemEntity> entities = requests.stream()
+                    .map(request -> orderItemConverter.requestToEntity(request, catalogItems.get(UUID.fromString(request.catalogItemId())), orderEntity))
+                    .toList();
+            List<OrderItemEntity> entitiesSaved = orderItemRepository.saveAll(entities);
+            Long orderVersion = addTotals(orderEntity, entities);
+            List<OrderItemResponse> responses = entitiesSaved.stream()
+                    .map(entity -> orderItemConverter.toResponse(entity, orderVersion))
+                    .toList();
+            log.info("createOrderItems:: {} itens salvos no pedido: {}", responses.size(), orderId);
+            return responses;
+        } catch (Exception e) {
+            log.error("createOrderItems:: Ocorreu um erro ao salvar os itens do pedido: {}", e.getMessage());
+            throw new BadRequestException(MessagesConstants.ERROR_SAVE_ORDER_ITEM);
+        }
+    }
+
     @Override
     public Page<OrderItemProjection> listAllOrderItems(Pageable pageable) {
         log.info("listAllOrderItems:: Listando itens do pedido");
@@ -76,6 +124,21 @@ public class OrderItemIServiceImpl implements OrderItemInputPort {
         return new PageImpl<>(orderItemProjectionList, pageable, orderItemProjectionList.size());
     }
 
+    @Override
+    public CursorPageResponse<OrderItemProjection> listOrderItemsAfter(String after, Integer limit) {
+        log.info("listOrderItemsAfter:: Listando itens do pedido a partir do cursor: {}", after);
+        int pageSize = CursorConverter.normalizeLimit(limit);
+        List<OrderItemEntity> rows;
+        if (after == null || after.isBlank()) {
+            rows = orderItemRepository.findFirstKeysetPage(Limit.of(pageSize + 1));
+        } else {
+            KeysetCursor cursor = CursorConverter.decode(after);
+            rows = orderItemRepository.findKeysetPageAfter(cursor.dthreg(), cursor.id(), Limit.of(pageSize + 1));
+        }
+        return CursorConverter.toCursorPage(rows, pageSize, OrderItemEntity::getDthreg, OrderItemEntity::getId,
+                page -> page.stream().map(orderItemConverter::toProjection).toList());
+    }
+
     @Override
     public OrderItemProjection getOrderItemById(UUID id) {
         log.info("getOrderItemById:: Buscando item do pedido por id: {}", id);
@@ -84,6 +147,16 @@ public class OrderItemIServiceImpl implements OrderItemInputPort {
         return orderItemConverter.toProjection(entity);
     }
 
+    @Override
+    public String getOrderItemVersion(UUID id) {
+        log.info("getOrderItemVersion:: Buscando versão do item do pedido por id: {}", id);
+        return orderItemRepository.findVersionById(id)
+                .orElseThrow(() -> {
+                    log.error("getOrderItemVersion:: Ocorreu um erro ao buscar versão do item do pedido: {}", MessagesConstants.ERROR_ORDER_ITEM_NOT_FOUND);
+                    return new OrderItemNotFoundException(MessagesConstants.ERROR_ORDER_ITEM_NOT_FOUND);
+                });
+    }
+
     @Override
     public Page<OrderByOrderNumber> getOrdersByOrderNumber(String orderNumber) {
         log.info("getOrdersByOrderNumber:: Buscando itens do pedido pelo número do pedido: {}", orderNumber);
@@ -92,20 +165,24 @@ public class OrderItemIServiceImpl implements OrderItemInputPort {
             log.error("getOrdersByOrderNumber:: Nenhum item do pedido encontrado pelo número do pedido: {}", orderNumber);
             throw new OrderItemNotFoundException(MessagesConstants.ERROR_ORDER_ITEM_NOT_FOUND_BY_ORDER_NUMBER);
         }
-        log.info("getOrdersByOrderNumber:: Itens do pedido encontrados pelo número do pedido: {}", ordersByOrderNumber);
+        log.info("getOrdersByOrderNumber:: {} itens do pedido encontrados pelo número do pedido: {}", ordersByOrderNumber.size(), orderNumber);
+        log.debug("getOrdersByOrderNumber:: Itens do pedido encontrados: {}", ordersByOrderNumber);
         return new PageImpl<>(ordersByOrderNumber, Pageable.unpaged(), ordersByOrderNumber.size());
     }
 
     @Transactional(rollbackFor = Exception.class)
     @Override
     public OrderItemResponse updateOrderItem(UUID id, OrderItemUpdateRequest orderItemUpdateRequest) {
-        log.info("updateOrderItem:: Recebendo requisição para atualizar item do pedido: {}", orderItemUpdateRequest);
+        log.info("updateOrderItem:: Recebendo requisição para atualizar item do pedido: {}", id);
+        log.debug("updateOrderItem:: orderItemUpdateRequest: {}", orderItemUpdateRequest);
         OrderItemEntity entity = getOrderItemEntity(id);
         updateEntity(entity, orderItemUpdateRequest);
         try {
-            OrderItemEntity entitySaved = orderItemRepository.save(entity);
-            OrderItemResponse response = orderItemConverter.toResponse(entitySaved);
-            log.info("updateOrderItem:: Atualizando item do pedido: {}", response);
+            OrderItemEntity entitySaved = orderItemRepository.saveAndFlush(entity);
+            Long orderVersion = recomputeTotals(entity.getOrder().getId());
+            OrderItemResponse response = orderItemConverter.toResponse(entitySaved, orderVersion);
+            log.info("updateOrderItem:: Item do pedido atualizado: {}", response.id());
+            log.debug("updateOrderItem:: Item do pedido atualizado: {}", response);
             return response;
         } catch (Exception e) {
             log.error("updateOrderItem:: Ocorreu um erro ao atualizar o item do pedido");
@@ -120,6 +197,8 @@ public class OrderItemIServiceImpl implements OrderItemInputPort {
         OrderItemEntity entity = getOrderItemEntity(id);
         try {
             orderItemRepository.delete(entity);
+            orderItemRepository.flush();
+            recomputeTotals(entity.getOrder().getId());
             log.info("deleteOrderItem:: Deletando item do pedido");
         } catch (Exception e) {
             log.error("deleteOrderItem:: Ocorreu um erro ao deletar o item do pedido");
@@ -127,76 +206,52 @@ public class OrderItemIServiceImpl implements OrderItemInputPort {
         }
     }
 
-    private static void setGrossTotal(OrderItemEntity orderItemEntity) {
-        log.info("setGrossTotal:: Calculando total bruto do item adicionado ao pedido");
-        BigDecimal grossTotal = orderItemEntity.getOrder().getGrossTotal();
-        if (grossTotal == null) {
-            grossTotal = BigDecimal.ZERO;
+    private Long addTotals(OrderEntity orderEntity, List<OrderItemEntity> entities) {
+        long grossCents = 0L;
+        long netCents = 0L;
+        for (OrderItemEntity entity : entities) {
+            grossCents = Math.addExact(grossCents, OrderItemPricing.grossCents(OrderItemPricing.toCents(entity.getPrice()), entity.getQuantity()));
+            netCents = Math.addExact(netCents, OrderItemPricing.toCents(entity.getTotal()));
         }
-        BigDecimal price = orderItemEntity.getCatalogItem().getPrice();
-        Integer quantity = orderItemEntity.getQuantity();
-        BigDecimal result = price.multiply(BigDecimal.valueOf(quantity));
-        log.info("setGrossTotal:: Total bruto do item adicionado ao pedido: {}", result);
-        orderItemEntity.getOrder().setGrossTotal(grossTotal.add(result));
+        BigDecimal grossTotal = OrderItemPricing.fromCents(grossCents);
+        BigDecimal netTotal = OrderItemPricing.fromCents(netCents);
+        orderRepository.addTotals(orderEntity.getId(), grossTotal, netTotal);
+        Long orderVersion = orderRepository.refreshVersion(orderEntity.getId());
+        log.info("addTotals:: Totais adicionados ao pedido {}. Bruto: {}, Líquido: {}, versão: {}", orderEntity.getId(), grossTotal, netTotal, orderVersion);
+        return orderVersion;
     }
 
-    private void setNetTotal(OrderItemRequest orderItemRequest, OrderItemEntity orderItemEntity) {
-        log.info("createOrderItem:: Total bruto do pedido calculado: {}", orderItemEntity.getOrder().getGrossTotal());
-        OrderEntity orderEntity = getOrderEntity(orderItemRequest.orderId());
-        log.info("createOrderItem:: Total bruto do pedido calculado: {}", orderEntity.getGrossTotal());
-
-        CatalogItemEntity catalogItemEntity = getProdutoEntity(orderItemRequest.catalogItemId());
-
-        if (EnumOrderStatus.OPEN.equals(orderEntity.getStatus())) {
-            if (EnumCatalogItemType.PRODUCT.equals(catalogItemEntity.getType())) {
-                BigDecimal discountPercent = orderEntity.getDiscount().divide(BigDecimal.valueOf(100.00), 4, RoundingMode.HALF_EVEN);
-                BigDecimal price = catalogItemEntity.getPrice();
-                Integer quantity = orderItemEntity.getQuantity();
-                BigDecimal grossTotalItem = price.multiply(BigDecimal.valueOf(quantity).setScale(2, RoundingMode.HALF_EVEN));
-
-                BigDecimal discountAmount = grossTotalItem.multiply(discountPercent).setScale(2, RoundingMode.HALF_EVEN);
-                BigDecimal netTotalItem = grossTotalItem.subtract(discountAmount).setScale(2, RoundingMode.HALF_EVEN);
-                log.info("createOrderItem:: Percentual de desconto: {}", discountPercent);
-                log.info("createOrderItem:: Preço: {}", price);
-                log.info("createOrderItem:: Quantidade: {}", quantity);
-                log.info("createOrderItem:: Valor Total Bruto: {}", grossTotalItem);
-                log.info("createOrderItem:: Desconto do item: {}", discountAmount);
-                log.info("createOrderItem:: Total líquido do item calculado: {}", netTotalItem);
-                BigDecimal netTotal = orderEntity.getNetTotal();
-                log.info("createOrderItem:: Total líquido já adicionao ao pedido calculado: {}", netTotal);
-                if (netTotal == null) {
-                    netTotal = BigDecimal.ZERO;
-                }
-                orderEntity.setNetTotal(netTotal.add(netTotalItem));
-            }
+    private Long recomputeTotals(UUID orderId) {
+        int updated = orderTotalsRepository.recompute(List.of(orderId));
+        if (updated == 0) {
+            orderRepository.incrementVersion(orderId);
         }
+        Long orderVersion = orderRepository.refreshVersion(orderId);
+        log.info("recomputeTotals:: Totais do pedido {} recalculados a partir dos itens, versão: {}", orderId, orderVersion);
+        return orderVersion;
+    }
 
-        if (EnumOrderStatus.OPEN.equals(orderEntity.getStatus())) {
-            if (EnumCatalogItemType.SERVICE.equals(catalogItemEntity.getType())) {
-                BigDecimal price = catalogItemEntity.getPrice();
-                Integer quantity = orderItemEntity.getQuantity();
-                BigDecimal grossTotalItem = price.multiply(BigDecimal.valueOf(quantity)).setScale(2, RoundingMode.HALF_EVEN);
-
-                BigDecimal netTotalItem = grossTotalItem;
-                log.info("createOrderItem:: Preço: {}", price);
-                log.info("createOrderItem:: Quantidade: {}", quantity);
-                log.info("createOrderItem:: Valor Total Bruto: {}", grossTotalItem);
-                log.info("createOrderItem:: Total líquido do item calculado: {}", netTotalItem);
-                BigDecimal netTotal = orderEntity.getNetTotal();
-                log.info("createOrderItem:: Total líquido já adicionao ao pedido calculado: {}", netTotal);
-                orderEntity.setNetTotal(netTotal.add(netTotalItem));
-                netTotal = orderEntity.getNetTotal();
-                log.info("createOrderItem:: Total líquido adicionando os serviços: {}", netTotal);
-            }
+    private Map<UUID, CatalogItemEntity> getCatalogItemEntities(List<OrderItemRequest> requests) {
+        Set<UUID> ids = requests.stream().map(request -> UUID.fromString(request.catalogItemId())).collect(Collectors.toSet());
+        Map<UUID, CatalogItemEntity> catalogItems = catalogItemCache.findAllById(ids);
+        if (catalogItems.size() != ids.size()) {
+            log.error("getCatalogItemEntities:: Ocorreu um erro ao buscar os produtos: {}", MessagesConstants.ERROR_PRODUCT_NOT_FOUND);
+            throw new ProductNotFoundException(MessagesConstants.ERROR_PRODUCT_NOT_FOUND);
+        }
+        if (catalogItems.values().stream().anyMatch(item -> Boolean.FALSE.equals(item.getIsActive()))) {
+            log.error("getCatalogItemEntities:: O produto/serviço não está ativo: {}", MessagesConstants.ERROR_PRODUCT_NOT_ACTIVE);
+            throw new BadRequestException(MessagesConstants.ERROR_PRODUCT_NOT_ACTIVE);
         }
+        return catalogItems;
     }
 
     private void updateEntity(OrderItemEntity entity, OrderItemUpdateRequest orderItemUpdateRequest) {
         entity.setQuantity(orderItemUpdateRequest.quantity() == null ? entity.getQuantity() : Integer.parseInt(orderItemUpdateRequest.quantity()));
+        OrderItemPricing.reprice(entity, OrderItemPricing.toBasisPoints(entity.getOrder().getDiscount()));
     }
 
     private CatalogItemEntity getProdutoEntity(String catalogItemId) {
-        return catalogItemRepository.findById(UUID.fromString(catalogItemId)).orElseThrow(() -> {
+        return catalogItemCache.findById(UUID.fromString(catalogItemId)).orElseThrow(() -> {
             log.error("getProdutoEntity:: Ocorreu um erro ao buscar o produto por id: {}", MessagesConstants.ERROR_PRODUCT_NOT_FOUND);
             return new ProductNotFoundException(MessagesConstants.ERROR_PRODUCT_NOT_FOUND);
         });
@@ -1,52 +1,81 @@
 package com.produtopedidoitens.api.application.services;
 
+import com.produtopedidoitens.api.adapters.persistence.repositories.OrderExportRepository;
 import com.produtopedidoitens.api.adapters.persistence.repositories.OrderRepository;
+import com.produtopedidoitens.api.adapters.persistence.repositories.OrderTotalsRepository;
+import com.produtopedidoitens.api.adapters.persistence.repositories.OrderTotalsRepository.OrderTotals;
+import com.produtopedidoitens.api.adapters.persistence.repositories.TrigramSearchRepository;
+import com.produtopedidoitens.api.adapters.persistence.repositories.TrigramSearchRepository.SearchHit;
 import com.produtopedidoitens.api.adapters.web.projections.OrderProjection;
+import com.produtopedidoitens.api.adapters.web.filters.OrderFilter;
+import com.produtopedidoitens.api.adapters.web.requests.KeysetCursor;
+import com.produtopedidoitens.api.adapters.web.requests.OrderFilterRequest;
 import com.produtopedidoitens.api.adapters.web.requests.OrderRequest;
+import com.produtopedidoitens.api.adapters.web.requests.SearchCursor;
+import com.produtopedidoitens.api.adapters.web.responses.CursorPageResponse;
 import com.produtopedidoitens.api.adapters.web.responses.OrderResponse;
 import com.produtopedidoitens.api.application.domain.entities.OrderEntity;
-import com.produtopedidoitens.api.application.domain.entities.QOrderEntity;
 import com.produtopedidoitens.api.application.domain.enums.EnumOrderStatus;
 import com.produtopedidoitens.api.application.exceptions.BadRequestException;
 import com.produtopedidoitens.api.application.exceptions.OrderNotFoundException;
+import com.produtopedidoitens.api.application.mapper.CursorConverter;
 import com.produtopedidoitens.api.application.mapper.EnumConverter;
 import com.produtopedidoitens.api.application.mapper.OrderConverter;
+import com.produtopedidoitens.api.application.mapper.PageableConverter;
 import com.produtopedidoitens.api.application.port.OrderInputPort;
+import com.produtopedidoitens.api.application.pricing.OrderItemPricing;
 import com.produtopedidoitens.api.application.validators.OrderValidator;
 import com.produtopedidoitens.api.utils.MessagesConstants;
-import com.querydsl.core.BooleanBuilder;
-import com.querydsl.core.types.Predicate;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @RequiredArgsConstructor
 @Service
 public class OrderServiceImpl implements OrderInputPort {
 
+    private static final Set<String> FILTER_SORT_PROPERTIES = Set.of("orderNumber", "orderDate", "netTotal", "dthreg", "id");
+    private static final Sort DEFAULT_FILTER_SORT = Sort.by(Sort.Direction.DESC, "orderDate", "id");
+
     private final OrderRepository orderRepository;
+    private final OrderExportRepository orderExportRepository;
+    private final OrderTotalsRepository orderTotalsRepository;
     private final OrderConverter orderConverter;
     private final OrderValidator orderValidator;
+    private final TrigramSearchRepository trigramSearchRepository;
 
     @Transactional(rollbackFor = Exception.class)
     @Override
     public OrderResponse createOrder(OrderRequest orderRequest) {
-        log.info("createOrder:: Recebendo OrderRequest: {}", orderRequest);
+        log.info("createOrder:: Recebendo requisição para criar pedido");
+        log.debug("createOrder:: OrderRequest: {}", orderRequest);
         orderValidator.validate(orderRequest);
 
         try {
             OrderEntity entitySaved = orderRepository.save(getEntity(orderRequest));
             OrderResponse response = orderConverter.toResponse(entitySaved);
-            log.info("createOrder:: Salvando pedido: {}", response);
+            log.info("createOrder:: Pedido salvo: {}, número: {}", response.id(), response.orderNumber());
+            log.debug("createOrder:: Pedido salvo: {}", response);
             return response;
         } catch (Exception e) {
             log.error("createOrder:: Ocorreu um erro ao salvar pedido:");
@@ -57,11 +86,40 @@ public class OrderServiceImpl implements OrderInputPort {
     @Override
     public Page<OrderProjection> listAllOrders(Pageable pageable) {
         log.info("listAllOrders:: Listando pedidos");
-        List<OrderEntity> list = getOrderEntities();
-        List<OrderProjection> orderProjectionList = list.stream().map(orderConverter::toProjection).toList();
-        log.info("listAllOrders:: Pedidos encontrados: {}", orderProjectionList);
+        Page<OrderEntity> page = orderRepository.findAll(withStableSort(pageable));
+        if (page.isEmpty()) {
+            log.error("listAllOrders:: Nenhum pedido encontrado");
+            throw new OrderNotFoundException(MessagesConstants.ERROR_NOT_FOUND_ORDER);
+        }
+        List<OrderProjection> orderProjectionList = orderConverter.toProjections(page.getContent());
+        log.info("listAllOrders:: Pedidos encontrados: {} de {}", orderProjectionList.size(), page.getTotalElements());
+        log.debug("listAllOrders:: Pedidos encontrados: {}", orderProjectionList);
+        return new PageImpl<>(orderProjectionList, page.getPageable(), page.getTotalElements());
+    }
 
-        return new PageImpl<>(orderProjectionList, pageable, orderProjectionList.size());
+    @Override
+    public Slice<OrderProjection> listOrdersWithoutCount(Pageable pageable) {
+        log.info("listOrdersWithoutCount:: Listando pedidos sem contagem total");
+        Slice<OrderEntity> slice = orderRepository.findAllBy(withStableSort(pageable));
+        if (slice.isEmpty()) {
+            log.error("listOrdersWithoutCount:: Nenhum pedido encontrado");
+            throw new OrderNotFoundException(MessagesConstants.ERROR_NOT_FOUND_ORDER);
+        }
+        return new SliceImpl<>(orderConverter.toProjections(slice.getContent()), slice.getPageable(), slice.hasNext());
+    }
+
+    @Override
+    public CursorPageResponse<OrderProjection> listOrdersAfter(String after, Integer limit) {
+        log.info("listOrdersAfter:: Listando pedidos a partir do cursor: {}", after);
+        int pageSize = CursorConverter.normalizeLimit(limit);
+        List<OrderEntity> rows;
+        if (after == null || after.isBlank()) {
+            rows = orderRepository.findFirstKeysetPage(Limit.of(pageSize + 1));
+        } else {
+            KeysetCursor cursor = CursorConverter.decode(after);
+            rows = orderRepository.findKeysetPageAfter(cursor.dthreg(), cursor.id(), Limit.of(pageSize + 1));
+        }
+        return CursorConverter.toCursorPage(rows, pageSize, OrderEntity::getDthreg, OrderEntity::getId, orderConverter::toProjections);
     }
 
     @Override
@@ -69,20 +127,35 @@ public class OrderServiceImpl implements OrderInputPort {
         log.info("getOrderById:: Buscando pedido por id: {}", id);
         OrderEntity entity = getOrderEntity(id);
         OrderProjection orderProjection = orderConverter.toProjection(entity);
-        log.info("getOrderById:: Pedido encontrado: {}", orderProjection);
+        log.debug("getOrderById:: Pedido encontrado: {}", orderProjection);
         return orderProjection;
     }
 
+    @Override
+    public String getOrderVersion(UUID id) {
+        log.info("getOrderVersion:: Buscando versão do pedido por id: {}", id);
+        return orderRepository.findVersionById(id)
+                .orElseThrow(() -> {
+                    log.error("getOrderVersion:: Ocorreu um erro ao buscar versão do pedido: {}", MessagesConstants.ERROR_NOT_FOUND_ORDER);
+                    return new OrderNotFoundException(MessagesConstants.ERROR_NOT_FOUND_ORDER);
+                });
+    }
+
     @Transactional(rollbackFor = Exception.class)
     @Override
     public OrderResponse updateOrder(UUID id, OrderRequest orderRequest) {
-        log.info("updateOrder:: Recebendo requisição para atualizar pedido: {}", orderRequest);
+        log.info("updateOrder:: Recebendo requisição para atualizar pedido: {}", id);
+        log.debug("updateOrder:: OrderRequest: {}", orderRequest);
         OrderEntity entity = getOrderEntity(id);
-        updateEntity(entity, orderRequest);
+        BigDecimal discount = orderRequest.discount() == null ? entity.getDiscount() : new BigDecimal(orderRequest.discount());
         try {
-            OrderEntity entitySaved = orderRepository.save(entity);
+            repriceItems(entity, discount);
+            OrderTotals totals = orderTotalsRepository.sumTotals(List.of(id)).get(id);
+            updateEntity(entity, orderRequest, discount, totals);
+            OrderEntity entitySaved = orderRepository.saveAndFlush(entity);
             OrderResponse response = orderConverter.toResponse(entitySaved);
-            log.info("updateOrder:: Atualizando pedido: {}", response);
+            log.info("updateOrder:: Pedido atualizado: {}, versão: {}", response.id(), response.version());
+            log.debug("updateOrder:: Pedido atualizado: {}", response);
             return response;
         } catch (Exception e) {
             log.error("updateOrder:: Ocorreu um erro ao atualizar pedido");
@@ -97,49 +170,74 @@ public class OrderServiceImpl implements OrderInputPort {
         OrderEntity entity = getOrderEntity(id);
         try {
             orderRepository.delete(entity);
-            log.info("delete:: Deletando pedido da base: {}", entity);
+            log.info("delete:: Pedido deletado da base: {}", entity.getId());
         } catch (Exception e) {
             log.error("delete:: Ocorreu um erro ao deletar pedido");
             throw new BadRequestException(MessagesConstants.ERROR_DELETE_ORDER);
         }
     }
 
-    @Transactional(rollbackFor = Exception.class)
+    @Transactional(readOnly = true)
     @Override
-    public List<OrderProjection> searchOrders(String orderNumber, EnumOrderStatus status) {
-        log.info("searchOrders:: Buscando pedidos por filtro: orderNumber: {}, status: {}", orderNumber, status);
-        QOrderEntity qOrderEntity = QOrderEntity.orderEntity;
-        BooleanBuilder builder = new BooleanBuilder();
+    public void exportOrders(Consumer<OrderProjection> consumer) {
+        log.info("exportOrders:: Iniciando exportação de pedidos");
+        orderExportRepository.streamOrders(consumer);
+        log.info("exportOrders:: Exportação de pedidos finalizada");
+    }
 
-        boolean hasFilters = false;
+    @Transactional(readOnly = true)
+    @Override
+    public Page<OrderProjection> filterOrders(OrderFilterRequest filter, Pageable pageable) {
+        log.info("filterOrders:: Buscando pedidos por filtro: {}", filter);
+        PageableConverter.validateRange(filter.startDate(), filter.endDate());
+        PageableConverter.validateRange(filter.minTotal(), filter.maxTotal());
+        Page<OrderProjection> page = orderRepository.findProjections(OrderFilter.filterByCriteria(filter),
+                PageableConverter.withAllowedSort(pageable, FILTER_SORT_PROPERTIES, DEFAULT_FILTER_SORT));
+        log.info("filterOrders:: {} pedidos encontrados de {}", page.getNumberOfElements(), page.getTotalElements());
+        return new PageImpl<>(orderConverter.withItems(page.getContent()), page.getPageable(), page.getTotalElements());
+    }
 
-        if (orderNumber != null && !orderNumber.isEmpty()) {
-            builder.and(qOrderEntity.orderNumber.containsIgnoreCase(orderNumber));
-            hasFilters = true;
+    @Transactional(readOnly = true)
+    @Override
+    public CursorPageResponse<OrderProjection> searchOrdersByNumber(String term, EnumOrderStatus status, String after, Integer limit) {
+        log.info("searchOrdersByNumber:: Buscando pedidos por similaridade do número: {}, status: {}, cursor: {}", term, status, after);
+        int pageSize = CursorConverter.normalizeLimit(limit);
+        if (term == null || term.strip().length() < TrigramSearchRepository.MIN_TERM_LENGTH) {
+            return new CursorPageResponse<>(List.of(), null, pageSize, false);
         }
+        SearchCursor cursor = after == null || after.isBlank() ? null : CursorConverter.decodeSearch(after);
+        List<SearchHit> hits = trigramSearchRepository.searchOrders(term, status, cursor, pageSize + 1);
+        CursorPageResponse<OrderProjection> page = CursorConverter.toCursorPage(hits, pageSize,
+                hit -> CursorConverter.encodeSearch(hit.distance(), hit.id()), this::toRankedProjections);
+        log.info("searchOrdersByNumber:: {} pedidos encontrados", page.content().size());
+        return page;
+    }
 
-        if (status != null) {
-            builder.and(qOrderEntity.status.eq(status));
-            hasFilters = true;
-        }
+    private List<OrderProjection> toRankedProjections(List<SearchHit> hits) {
+        List<UUID> ids = hits.stream().map(SearchHit::id).toList();
+        Map<UUID, OrderEntity> entities = orderRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(OrderEntity::getId, Function.identity()));
+        return orderConverter.toProjections(ids.stream()
+                .map(entities::get)
+                .filter(Objects::nonNull)
+                .toList());
+    }
 
-        if (hasFilters) {
-            Predicate predicate = builder.getValue();
-            List<OrderEntity> listFiltered = (List<OrderEntity>) orderRepository.findAll(predicate);
-            return  listFiltered.stream().map(orderConverter::toProjection).toList();
-        } else {
-            List<OrderEntity> list = orderRepository.findAll();
-            return list.stream().map(orderConverter::toProjection).toList();
+    private void repriceItems(OrderEntity entity, BigDecimal discount) {
+        if (discount != null && (entity.getDiscount() == null || discount.compareTo(entity.getDiscount()) != 0)) {
+            orderRepository.flush();
+            int repriced = orderTotalsRepository.repriceProductItems(entity.getId(), OrderItemPricing.toBasisPoints(discount));
+            orderRepository.refreshItems(entity);
+            log.info("repriceItems:: {} itens do pedido {} recalculados com o desconto {}", repriced, entity.getId(), discount);
         }
     }
 
-    private static void updateEntity(OrderEntity entity, OrderRequest orderRequest) {
+    private static void updateEntity(OrderEntity entity, OrderRequest orderRequest, BigDecimal discount, OrderTotals totals) {
         entity.setOrderDate(orderRequest.orderDate() == null ? entity.getOrderDate() : orderRequest.orderDate());
         entity.setStatus(orderRequest.status() == null ? entity.getStatus() : EnumConverter.fromString(orderRequest.status(), EnumOrderStatus.class));
-        entity.setDiscount(orderRequest.discount() == null ? entity.getDiscount() : new BigDecimal(orderRequest.discount()));
-        BigDecimal grossTotal = entity.getGrossTotal();
-        BigDecimal discount = entity.getDiscount().divide(BigDecimal.valueOf(100));
-        entity.setGrossTotal(grossTotal.subtract(grossTotal.multiply(discount)));
+        entity.setDiscount(discount);
+        entity.setGrossTotal(totals.grossTotal());
+        entity.setNetTotal(totals.netTotal());
     }
 
     private OrderEntity getOrderEntity(UUID id) {
@@ -154,13 +252,11 @@ public class OrderServiceImpl implements OrderInputPort {
         return orderConverter.toEntity(orderRequest);
     }
 
-    private List<OrderEntity> getOrderEntities() {
-        List<OrderEntity> list = orderRepository.findAll();
-        if (list.isEmpty()) {
-            log.error("listAllOrders:: Nenhum pedido encontrado");
-            throw new OrderNotFoundException(MessagesConstants.ERROR_NOT_FOUND_ORDER);
+    private static Pageable withStableSort(Pageable pageable) {
+        if (pageable.isUnpaged() || pageable.getSort().isSorted()) {
+            return pageable;
         }
-        return list;
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), Sort.by("dthreg", "id"));
     }
 
 }
@@ -0,0 +1,101 @@
+package com.produtopedidoitens.api.application.services;
+
+import com.produtopedidoitens.api.adapters.persistence.repositories.OrderTotalsRepository;
+import com.produtopedidoitens.api.adapters.web.responses.OrderTotalsRepairResponse;
+import com.produtopedidoitens.api.application.domain.enums.EnumRepairStatus;
+import com.produtopedidoitens.api.application.mapper.EnumConverter;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Slf4j
+@Component
+public class OrderTotalsRepairJob {
+
+    static final int CHUNK_SIZE = 1000;
+
+    private static final String RUNNING = EnumConverter.toString(EnumRepairStatus.RUNNING);
+
+    private final OrderTotalsRepository orderTotalsRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService executor;
+    private final AtomicReference<OrderTotalsRepairResponse> state = new AtomicReference<>(OrderTotalsRepairResponse.builder()
+            .status(EnumConverter.toString(EnumRepairStatus.IDLE))
+            .build());
+
+    public OrderTotalsRepairJob(OrderTotalsRepository orderTotalsRepository, TransactionTemplate transactionTemplate) {
+        this.orderTotalsRepository = orderTotalsRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "order-totals-repair");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public OrderTotalsRepairResponse start() {
+        OrderTotalsRepairResponse current = state.get();
+        if (RUNNING.equals(current.status())) {
+            log.info("start:: Recálculo dos totais dos pedidos já está em execução");
+            return current;
+        }
+        OrderTotalsRepairResponse started = OrderTotalsRepairResponse.builder()
+                .status(RUNNING)
+                .startedAt(LocalDateTime.now())
+                .build();
+        if (!state.compareAndSet(current, started)) {
+            return state.get();
+        }
+        executor.execute(this::run);
+        return started;
+    }
+
+    public OrderTotalsRepairResponse status() {
+        return state.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void run() {
+        log.info("run:: Iniciando recálculo dos totais de todos os pedidos");
+        try {
+            UUID after = null;
+            List<UUID> chunk = orderTotalsRepository.findOrderIdsAfter(after, CHUNK_SIZE);
+            while (!chunk.isEmpty() && !Thread.currentThread().isInterrupted()) {
+                List<UUID> ids = chunk;
+                Integer changed = transactionTemplate.execute(status -> orderTotalsRepository.recompute(ids));
+                OrderTotalsRepairResponse progress = state.updateAndGet(current -> current.toBuilder()
+                        .processedOrders(current.processedOrders() + ids.size())
+                        .updatedOrders(current.updatedOrders() + (changed == null ? 0 : changed))
+                        .build());
+                log.info("run:: {} pedidos verificados, {} corrigidos", progress.processedOrders(), progress.updatedOrders());
+                after = ids.get(ids.size() - 1);
+                chunk = orderTotalsRepository.findOrderIdsAfter(after, CHUNK_SIZE);
+            }
+            OrderTotalsRepairResponse finished = finish(EnumRepairStatus.COMPLETED);
+            log.info("run:: Recálculo finalizado. Pedidos verificados: {}, corrigidos: {}", finished.processedOrders(), finished.updatedOrders());
+        } catch (RuntimeException e) {
+            OrderTotalsRepairResponse failed = finish(EnumRepairStatus.FAILED);
+            log.error("run:: Ocorreu um erro ao recalcular os totais dos pedidos após {} pedidos verificados", failed.processedOrders(), e);
+        }
+    }
+
+    private OrderTotalsRepairResponse finish(EnumRepairStatus status) {
+        return state.updateAndGet(current -> current.toBuilder()
+                .status(EnumConverter.toString(status))
+                .finishedAt(LocalDateTime.now())
+                .build());
+    }
+
+}
@@ -1,5 +1,6 @@
 package com.produtopedidoitens.api.application.validators;
 
+import com.produtopedidoitens.api.adapters.web.requests.CatalogItemFilterRequest;
 import com.produtopedidoitens.api.adapters.web.requests.CatalogItemRequest;
 import com.produtopedidoitens.api.application.domain.enums.EnumCatalogItemType;
 import com.produtopedidoitens.api.application.exceptions.BadRequestException;
@@ -19,6 +20,13 @@ public class CatalogItemValidator {
         beforeCreate(catalogItemRequest);
     }
 
+    public void validateFilter(CatalogItemFilterRequest filter) {
+        if (filter.type() != null && !isCatalogItemType(filter.type())) {
+            log.error("validateFilter:: Erro no campo type: {}", MessagesConstants.PRODUCT_TYPE_PRODUCT_SERVICE);
+            throw new BadRequestException(MessagesConstants.PRODUCT_TYPE_PRODUCT_SERVICE);
+        }
+    }
+
     private void beforeCreate(CatalogItemRequest catalogItemRequest) {
         Map<String, String> fieldErrors = new HashMap<>();
 
@@ -38,9 +46,7 @@ public class CatalogItemValidator {
             fieldErrors.put("type", MessagesConstants.PRODUCT_TYPE_NOT_NULL);
         }
 
-        if (catalogItemRequest.type() != null
-                && !catalogItemRequest.type().equals(EnumConverter.toString(EnumCatalogItemType.PRODUCT))
-                && !catalogItemRequest.type().equals(EnumConverter.toString(EnumCatalogItemType.SERVICE))) {
+        if (catalogItemRequest.type() != null && !isCatalogItemType(catalogItemRequest.type())) {
             fieldErrors.put("type", MessagesConstants.PRODUCT_TYPE_PRODUCT_SERVICE);
         }
 
@@ -58,6 +64,11 @@ public class CatalogItemValidator {
         }
     }
 
+    private static boolean isCatalogItemType(String type) {
+        return type.equals(EnumConverter.toString(EnumCatalogItemType.PRODUCT))
+                || type.equals(EnumConverter.toString(EnumCatalogItemType.SERVICE));
+    }
+
     private static Boolean isNumberOrText(String price) {
         if (price.matches("\\d+")) {
             return false;
@@ -0,0 +1,24 @@
+package com.produtopedidoitens.api.utils;
+
+import lombok.experimental.UtilityClass;
+
+import java.util.Locale;
+
+@UtilityClass
+public class LikePattern {
+
+    public static final char ESCAPE = '!';
+
+    public static String normalize(String value) {
+        return value.strip().toLowerCase(Locale.ROOT);
+    }
+
+    public static String contains(String value) {
+        return "%" + escape(normalize(value)) + "%";
+    }
+
+    public static String escape(String value) {
+        return value.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+
+}
@@ -36,9 +36,14 @@ public class MessagesConstants {
     public static final String PRODUCT_TYPE_PRODUCT_SERVICE = "O tipo do produto/serviço deve ser Produto ou Serviço";
     public static final String ORDER_ITEM_CATALOG_ITEM_ID_NOT_NULL = "O id do produto/serviço deve ser preenchido";
     public static final String ORDER_ITEM_ORDER_ID_NOT_NULL = "O id do pedido deve ser preenchido";
+    public static final String ERROR_ORDER_ITEMS_EMPTY = "A lista de itens do pedido deve ser preenchida";
+    public static final String ERROR_ORDER_ITEMS_BATCH_TOO_LARGE = "A lista de itens do pedido deve ter no máximo 100 itens";
     public static final String ORDER_ITEM_QUANTITY_NUMBER = "A quantidade do item do pedido deve ser um valor numérico positivo";
     public static final String ORDER_STATUS_NOT_OPEN = "O status do pedido deve ser Aberto para receber o cadastramento de um novo item";
     public static final String ERROR_ORDER_ID_NOT_NULL = "O id do pedido não pode ser nulo";
+    public static final String ERROR_INVALID_CURSOR = "O cursor de paginação informado é inválido";
+    public static final String ERROR_INVALID_SORT = "O campo de ordenação informado não é permitido";
+    public static final String ERROR_INVALID_FILTER_RANGE = "O valor inicial do intervalo informado não pode ser maior que o valor final";
 
     private MessagesConstants() {
     }
@@ -0,0 +1,11 @@
+UPDATE tbcatalogitem SET dthreg = CURRENT_TIMESTAMP WHERE dthreg IS NULL;
+UPDATE tborder SET dthreg = CURRENT_TIMESTAMP WHERE dthreg IS NULL;
+UPDATE tborderitem SET dthreg = CURRENT_TIMESTAMP WHERE dthreg IS NULL;
+
+ALTER TABLE tbcatalogitem ALTER COLUMN dthreg SET NOT NULL;
+ALTER TABLE tborder ALTER COLUMN dthreg SET NOT NULL;
+ALTER TABLE tborderitem ALTER COLUMN dthreg SET NOT NULL;
+
+CREATE INDEX IF NOT EXISTS idx_tbcatalogitem_dthreg_id ON tbcatalogitem (dthreg, catalogitemid);
+CREATE INDEX IF NOT EXISTS idx_tborder_dthreg_id ON tborder (dthreg, idorder);
+CREATE INDEX IF NOT EXISTS idx_tborderitem_dthreg_id ON tborderitem (dthreg, idorderitem);
@@ -0,0 +1,12 @@
+CREATE SEQUENCE IF NOT EXISTS sq_tborder_ordernumber START WITH 1001 INCREMENT BY 50;
+
+UPDATE tborder o
+SET ordernumber = d.ordernumber || '-' || d.rn
+FROM (
+    SELECT idorder, ordernumber, ROW_NUMBER() OVER (PARTITION BY ordernumber ORDER BY dthreg, idorder) AS rn
+    FROM tborder
+) d
+WHERE o.idorder = d.idorder
+  AND d.rn > 1;
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_tborder_ordernumber ON tborder (ordernumber);
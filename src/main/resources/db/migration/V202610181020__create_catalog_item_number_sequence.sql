@@ -0,0 +1,13 @@
+CREATE SEQUENCE IF NOT EXISTS sq_tbcatalogitem_catalogitemnumber START WITH 1000000 INCREMENT BY 100;
+
+UPDATE tbcatalogitem c
+SET catalogitemnumber = nextval('sq_tbcatalogitem_catalogitemnumber')::text
+FROM (
+    SELECT catalogitemid, ROW_NUMBER() OVER (PARTITION BY catalogitemnumber ORDER BY dthreg, catalogitemid) AS rn
+    FROM tbcatalogitem
+    WHERE catalogitemnumber IS NOT NULL
+) d
+WHERE c.catalogitemid = d.catalogitemid
+  AND d.rn > 1;
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_tbcatalogitem_catalogitemnumber ON tbcatalogitem (catalogitemnumber);
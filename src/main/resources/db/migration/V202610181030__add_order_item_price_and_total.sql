@@ -0,0 +1,27 @@
+ALTER TABLE tborderitem ADD COLUMN IF NOT EXISTS price NUMERIC(19,2);
+
+UPDATE tborderitem i
+SET price = c.price
+FROM tbcatalogitem c
+WHERE c.catalogitemid = i.catalogitemid
+  AND i.price IS NULL;
+
+UPDATE tborderitem i
+SET total = t.gross - (CASE WHEN t.cents - FLOOR(t.cents) > 0.5
+                              OR (t.cents - FLOOR(t.cents) = 0.5 AND MOD(FLOOR(t.cents), 2) = 1)
+                            THEN FLOOR(t.cents) + 1
+                            ELSE FLOOR(t.cents) END) / 100
+FROM (SELECT li.idorderitem,
+             li.price * li.quantity AS gross,
+             CASE WHEN c.type = 'PRODUCT' THEN li.price * li.quantity * COALESCE(o.discount, 0) ELSE 0 END AS cents
+      FROM tborderitem li
+      JOIN tbcatalogitem c ON c.catalogitemid = li.catalogitemid
+      JOIN tborder o ON o.idorder = li.idorder) t
+WHERE t.idorderitem = i.idorderitem;
+
+UPDATE tborder o
+SET grosstotal = t.grosstotal, nettotal = t.nettotal
+FROM (SELECT idorder, SUM(price * quantity) AS grosstotal, SUM(total) AS nettotal
+      FROM tborderitem
+      GROUP BY idorder) t
+WHERE t.idorder = o.idorder;
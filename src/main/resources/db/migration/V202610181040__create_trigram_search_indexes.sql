@@ -0,0 +1,4 @@
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_tbcatalogitem_catalogitemname_trgm ON tbcatalogitem USING gist (lower(catalogitemname) gist_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_tborder_ordernumber_trgm ON tborder USING gist (lower(ordernumber) gist_trgm_ops);
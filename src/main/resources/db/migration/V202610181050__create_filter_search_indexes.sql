@@ -0,0 +1,7 @@
+CREATE INDEX IF NOT EXISTS idx_tbcatalogitem_isactive_type_price_id ON tbcatalogitem (isactive, type, price, catalogitemid);
+CREATE INDEX IF NOT EXISTS idx_tbcatalogitem_price_id ON tbcatalogitem (price, catalogitemid);
+CREATE INDEX IF NOT EXISTS idx_tborder_status_orderdate_id ON tborder (status, orderdate, idorder);
+CREATE INDEX IF NOT EXISTS idx_tborder_orderdate_id ON tborder (orderdate, idorder);
+CREATE INDEX IF NOT EXISTS idx_tborder_status_nettotal_id ON tborder (status, nettotal, idorder);
+CREATE INDEX IF NOT EXISTS idx_tborder_nettotal_id ON tborder (nettotal, idorder);
+CREATE INDEX IF NOT EXISTS idx_tbcatalogitem_catalogitemname_id ON tbcatalogitem (catalogitemname, catalogitemid);
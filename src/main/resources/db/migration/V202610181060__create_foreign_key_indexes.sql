@@ -0,0 +1,2 @@
+CREATE INDEX IF NOT EXISTS idx_tborderitem_idorder_dthreg_id ON tborderitem (idorder, dthreg, idorderitem);
+CREATE INDEX IF NOT EXISTS idx_tborderitem_catalogitemid ON tborderitem (catalogitemid);
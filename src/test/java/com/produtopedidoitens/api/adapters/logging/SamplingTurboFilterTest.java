@@ -0,0 +1,61 @@
+package com.produtopedidoitens.api.adapters.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SamplingTurboFilterTest {
+
+    private LoggerContext loggerContext;
+    private SamplingTurboFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        loggerContext = new LoggerContext();
+        loggerContext.getLogger(Logger.ROOT_LOGGER_NAME).setLevel(Level.INFO);
+        filter = new SamplingTurboFilter();
+        filter.setContext(loggerContext);
+        filter.setLoggers("com.produtopedidoitens.api.adapters.web=3, com.produtopedidoitens.api.adapters.web.controllers.AdminController=1");
+        filter.start();
+    }
+
+    @Test
+    @DisplayName("Deve registrar apenas um a cada N eventos INFO dos loggers amostrados")
+    void testSampling() {
+        Logger logger = loggerContext.getLogger("com.produtopedidoitens.api.adapters.web.controllers.OrderController");
+
+        List<FilterReply> replies = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            replies.add(filter.decide(null, logger, Level.INFO, "findAll:: {}", null, null));
+        }
+
+        assertEquals(List.of(FilterReply.NEUTRAL, FilterReply.DENY, FilterReply.DENY,
+                FilterReply.NEUTRAL, FilterReply.DENY, FilterReply.DENY), replies);
+    }
+
+    @Test
+    @DisplayName("Não deve amostrar alertas, erros, loggers fora da configuração nem níveis desabilitados")
+    void testNotSampled() {
+        Logger sampled = loggerContext.getLogger("com.produtopedidoitens.api.adapters.web.controllers.OrderController");
+        Logger admin = loggerContext.getLogger("com.produtopedidoitens.api.adapters.web.controllers.AdminController");
+        Logger other = loggerContext.getLogger("com.produtopedidoitens.api.application.services.OrderServiceImpl");
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(FilterReply.NEUTRAL, filter.decide(null, sampled, Level.WARN, "findAll:: {}", null, null));
+            assertEquals(FilterReply.NEUTRAL, filter.decide(null, sampled, Level.DEBUG, "findAll:: {}", null, null));
+            assertEquals(FilterReply.NEUTRAL, filter.decide(null, sampled, Level.INFO, null, null, null));
+            assertEquals(FilterReply.NEUTRAL, filter.decide(null, admin, Level.INFO, "getCacheStats:: {}", null, null));
+            assertEquals(FilterReply.NEUTRAL, filter.decide(null, other, Level.INFO, "listAllOrders:: {}", null, null));
+        }
+    }
+
+}
@@ -0,0 +1,98 @@
+package com.produtopedidoitens.api.adapters.metrics;
+
+import com.produtopedidoitens.api.adapters.web.projections.OrderProjection;
+import com.produtopedidoitens.api.application.exceptions.BadRequestException;
+import com.produtopedidoitens.api.application.exceptions.OrderNotFoundException;
+import com.produtopedidoitens.api.application.port.OrderInputPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class InputPortMetricsAspectTest {
+
+    @Mock
+    private OrderInputPort orderInputPort;
+
+    private SimpleMeterRegistry meterRegistry;
+    private OrderInputPort proxy;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        AspectJProxyFactory factory = new AspectJProxyFactory(orderInputPort);
+        factory.addInterface(OrderInputPort.class);
+        factory.addAspect(new InputPortMetricsAspect(meterRegistry));
+        proxy = factory.getProxy();
+    }
+
+    @Test
+    @DisplayName("Deve registrar o tempo e a quantidade de registros das chamadas bem sucedidas")
+    void testSuccess() {
+        OrderProjection order = OrderProjection.builder().id(UUID.randomUUID()).build();
+        when(orderInputPort.listAllOrders(any())).thenReturn(new PageImpl<>(List.of(order, order)));
+
+        proxy.listAllOrders(Pageable.unpaged());
+
+        assertEquals(1, meterRegistry.get(InputPortMetricsAspect.CALLS)
+                .tags("port", "OrderInputPort", "method", "listAllOrders", "outcome", "SUCCESS", "exception", "none")
+                .timer().count());
+        assertEquals(2.0, meterRegistry.get(InputPortMetricsAspect.RESULT_SIZE)
+                .tags("port", "OrderInputPort", "method", "listAllOrders")
+                .summary().totalAmount());
+    }
+
+    @Test
+    @DisplayName("Deve classificar as exceções das portas pelo resultado")
+    void testFailures() {
+        UUID id = UUID.randomUUID();
+        when(orderInputPort.getOrderById(id)).thenThrow(new OrderNotFoundException("Nenhum pedido encontrado"));
+        doThrow(new BadRequestException("Erro ao deletar pedido")).when(orderInputPort).deleteOrder(id);
+
+        assertThrows(OrderNotFoundException.class, () -> proxy.getOrderById(id));
+        assertThrows(BadRequestException.class, () -> proxy.deleteOrder(id));
+
+        assertEquals(1, meterRegistry.get(InputPortMetricsAspect.CALLS)
+                .tags("method", "getOrderById", "outcome", "NOT_FOUND", "exception", "OrderNotFoundException")
+                .timer().count());
+        assertEquals(1, meterRegistry.get(InputPortMetricsAspect.CALLS)
+                .tags("method", "deleteOrder", "outcome", "CLIENT_ERROR", "exception", "BadRequestException")
+                .timer().count());
+    }
+
+    @Test
+    @DisplayName("Deve classificar a violação de integridade pela causa no banco")
+    void testDataIntegrityViolation() {
+        UUID id = UUID.randomUUID();
+        when(orderInputPort.getOrderById(id)).thenThrow(new DataIntegrityViolationException("Pedido duplicado",
+                new SQLException("duplicate key value violates unique constraint", "23505")));
+        doThrow(new DataIntegrityViolationException("Valor nulo",
+                new SQLException("null value in column violates not-null constraint", "23502"))).when(orderInputPort).deleteOrder(id);
+
+        assertThrows(DataIntegrityViolationException.class, () -> proxy.getOrderById(id));
+        assertThrows(DataIntegrityViolationException.class, () -> proxy.deleteOrder(id));
+
+        assertEquals(1, meterRegistry.get(InputPortMetricsAspect.CALLS)
+                .tags("method", "getOrderById", "outcome", "CLIENT_ERROR", "exception", "DataIntegrityViolationException")
+                .timer().count());
+        assertEquals(1, meterRegistry.get(InputPortMetricsAspect.CALLS)
+                .tags("method", "deleteOrder", "outcome", "SERVER_ERROR", "exception", "DataIntegrityViolationException")
+                .timer().count());
+    }
+
+}
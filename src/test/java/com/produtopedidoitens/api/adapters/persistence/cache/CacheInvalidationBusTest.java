@@ -0,0 +1,46 @@
+package com.produtopedidoitens.api.adapters.persistence.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class CacheInvalidationBusTest {
+
+    private static final UUID ID = UUID.fromString("2104a849-13c4-46f7-8e11-a7bf2504ba46");
+
+    @Test
+    @DisplayName("Deve publicar a invalidação via pg_notify no Postgres")
+    void testPublishPostgres() {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        CacheInvalidationBus bus = new CacheInvalidationBus(jdbcTemplate, properties("jdbc:postgresql://localhost:5432/db"));
+
+        bus.publish("catalogItem", ID, 3L);
+
+        verify(jdbcTemplate).queryForObject("SELECT pg_notify(?, ?)", String.class,
+                CacheInvalidationBus.CHANNEL, "catalogItem|" + ID + "|3");
+    }
+
+    @Test
+    @DisplayName("Não deve publicar a invalidação em bancos sem NOTIFY")
+    void testPublishH2() {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        CacheInvalidationBus bus = new CacheInvalidationBus(jdbcTemplate, properties("jdbc:h2:mem:testdb"));
+
+        bus.publish("catalogItem", ID, 3L);
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    private static DataSourceProperties properties(String url) {
+        DataSourceProperties properties = new DataSourceProperties();
+        properties.setUrl(url);
+        return properties;
+    }
+
+}
@@ -0,0 +1,113 @@
+package com.produtopedidoitens.api.adapters.persistence.cache;
+
+import com.produtopedidoitens.api.adapters.persistence.repositories.CatalogItemRepository;
+import com.produtopedidoitens.api.application.domain.entities.CatalogItemEntity;
+import com.produtopedidoitens.api.application.domain.enums.EnumCatalogItemType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CatalogItemCacheTest {
+
+    @Mock
+    private CatalogItemRepository catalogItemRepository;
+    @Mock
+    private CacheInvalidationBus cacheInvalidationBus;
+
+    private CatalogItemCache catalogItemCache;
+    private CatalogItemEntity productEntity;
+
+    @BeforeEach
+    void setUp() {
+        catalogItemCache = new CatalogItemCache(catalogItemRepository, cacheInvalidationBus);
+        productEntity = CatalogItemEntity.builder()
+                .id(UUID.fromString("2104a849-13c4-46f7-8e11-a7bf2504ba46"))
+                .catalogItemName("Café")
+                .price(BigDecimal.valueOf(21.90))
+                .type(EnumCatalogItemType.PRODUCT)
+                .isActive(true)
+                .version(1L)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Deve buscar o produto no banco apenas na primeira consulta")
+    void testFindByIdCached() {
+        when(catalogItemRepository.findById(productEntity.getId())).thenReturn(Optional.of(productEntity));
+
+        CatalogItemEntity first = catalogItemCache.findById(productEntity.getId()).orElseThrow();
+        first.setPrice(BigDecimal.ONE);
+        CatalogItemEntity second = catalogItemCache.findById(productEntity.getId()).orElseThrow();
+
+        assertEquals(BigDecimal.valueOf(21.90), second.getPrice());
+        assertNotSame(first, second);
+        verify(catalogItemRepository, times(1)).findById(productEntity.getId());
+        assertEquals(1, catalogItemCache.stats().hitCount());
+        assertEquals(1, catalogItemCache.stats().missCount());
+    }
+
+    @Test
+    @DisplayName("Deve buscar no banco apenas os produtos que não estão no cache")
+    void testFindAllById() {
+        CatalogItemEntity serviceEntity = CatalogItemEntity.builder()
+                .id(UUID.randomUUID())
+                .catalogItemName("Manutenção")
+                .type(EnumCatalogItemType.SERVICE)
+                .version(0L)
+                .build();
+        when(catalogItemRepository.findById(productEntity.getId())).thenReturn(Optional.of(productEntity));
+        when(catalogItemRepository.findAllById(Set.of(serviceEntity.getId()))).thenReturn(List.of(serviceEntity));
+        catalogItemCache.findById(productEntity.getId());
+
+        Map<UUID, CatalogItemEntity> found = catalogItemCache.findAllById(Set.of(productEntity.getId(), serviceEntity.getId()));
+
+        assertEquals(Set.of(productEntity.getId(), serviceEntity.getId()), found.keySet());
+        verify(catalogItemRepository).findAllById(Set.of(serviceEntity.getId()));
+    }
+
+    @Test
+    @DisplayName("Deve invalidar apenas entradas com versão igual ou anterior à informada")
+    void testInvalidateByVersion() {
+        when(catalogItemRepository.findById(productEntity.getId())).thenReturn(Optional.of(productEntity));
+        catalogItemCache.findById(productEntity.getId());
+
+        catalogItemCache.invalidate(productEntity.getId(), 0L);
+        assertEquals(1, catalogItemCache.size());
+
+        catalogItemCache.invalidate(productEntity.getId(), 1L);
+        assertEquals(0, catalogItemCache.size());
+
+        catalogItemCache.findById(productEntity.getId());
+        catalogItemCache.invalidate(productEntity.getId(), null);
+        assertEquals(0, catalogItemCache.size());
+        verify(catalogItemRepository, times(2)).findById(productEntity.getId());
+        verify(cacheInvalidationBus).publish("catalogItem", productEntity.getId(), 1L);
+    }
+
+    @Test
+    @DisplayName("Deve remover do cache local a entrada invalidada por outra instância sem republicar")
+    void testOnInvalidation() {
+        when(catalogItemRepository.findById(productEntity.getId())).thenReturn(Optional.of(productEntity));
+        catalogItemCache.findById(productEntity.getId());
+
+        catalogItemCache.onInvalidation(productEntity.getId(), 2L);
+
+        assertEquals(0, catalogItemCache.size());
+        verifyNoInteractions(cacheInvalidationBus);
+    }
+
+}
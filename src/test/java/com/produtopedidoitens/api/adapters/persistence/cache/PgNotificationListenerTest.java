@@ -0,0 +1,87 @@
+package com.produtopedidoitens.api.adapters.persistence.cache;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class PgNotificationListenerTest {
+
+    private static final UUID ID = UUID.fromString("2104a849-13c4-46f7-8e11-a7bf2504ba46");
+
+    private CacheInvalidationHandler handler;
+    private PgNotificationListener listener;
+
+    @BeforeEach
+    void setUp() {
+        handler = mock(CacheInvalidationHandler.class);
+        when(handler.entity()).thenReturn("catalogItem");
+        listener = new PgNotificationListener(dataSource("jdbc:h2:mem:testdb"), List.of(handler));
+    }
+
+    @Test
+    @DisplayName("Deve repassar a invalidação recebida ao cache da entidade")
+    void testDispatch() {
+        listener.dispatch(new CacheInvalidationMessage("catalogItem", ID, 4L).encode());
+        listener.dispatch(new CacheInvalidationMessage("catalogItem", ID, null).encode());
+
+        verify(handler).onInvalidation(ID, 4L);
+        verify(handler).onInvalidation(ID, null);
+    }
+
+    @Test
+    @DisplayName("Deve repassar a invalidação a todos os handlers registrados para a entidade")
+    void testDispatchMultipleHandlers() {
+        CacheInvalidationHandler other = mock(CacheInvalidationHandler.class);
+        when(other.entity()).thenReturn("catalogItem");
+        PgNotificationListener multiple = new PgNotificationListener(dataSource("jdbc:h2:mem:testdb"), List.of(handler, other));
+
+        multiple.dispatch(new CacheInvalidationMessage("catalogItem", ID, 2L).encode());
+
+        verify(handler).onInvalidation(ID, 2L);
+        verify(other).onInvalidation(ID, 2L);
+    }
+
+    @Test
+    @DisplayName("Deve ignorar mensagens inválidas ou de entidades sem cache")
+    void testDispatchIgnored() {
+        assertDoesNotThrow(() -> listener.dispatch("mensagem-invalida"));
+        assertDoesNotThrow(() -> listener.dispatch(new CacheInvalidationMessage("order", ID, 1L).encode()));
+
+        verify(handler, never()).onInvalidation(any(), any());
+    }
+
+    @Test
+    @DisplayName("Não deve iniciar a escuta em bancos sem LISTEN/NOTIFY")
+    void testStartH2() {
+        listener.start();
+
+        assertFalse(listener.isRunning());
+    }
+
+    @Test
+    @DisplayName("Não deve iniciar a escuta quando o pool de conexões da aplicação não for o Hikari")
+    void testStartWithoutHikari() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:postgresql://localhost:5432/crud-produto-pedido-itens");
+        PgNotificationListener withoutPool = new PgNotificationListener(dataSource, List.of(handler));
+
+        withoutPool.start();
+
+        assertFalse(withoutPool.isRunning());
+    }
+
+    private static HikariDataSource dataSource(String url) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(url);
+        return dataSource;
+    }
+
+}
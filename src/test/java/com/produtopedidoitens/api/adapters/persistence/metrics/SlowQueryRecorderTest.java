@@ -0,0 +1,109 @@
+package com.produtopedidoitens.api.adapters.persistence.metrics;
+
+import com.produtopedidoitens.api.adapters.metrics.PortCallHolder;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SlowQueryRecorderTest {
+
+    private SlowQueryRecorder slowQueryRecorder;
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        createRecorder(false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        slowQueryRecorder.shutdown();
+    }
+
+    @Test
+    @DisplayName("Deve registrar o comando, os tipos dos parâmetros e o método da porta de entrada que o executou")
+    void testRecord() throws SQLException {
+        String previous = PortCallHolder.set("OrderInputPort.searchOrders");
+        try {
+            query("select ? as order_number, ? as status", "%PED-1001%", null);
+        } finally {
+            PortCallHolder.reset(previous);
+        }
+
+        List<SlowQueryRecorder.SlowQuery> slowQueries = slowQueryRecorder.findAll();
+        assertEquals(1, slowQueries.size());
+        SlowQueryRecorder.SlowQuery slowQuery = slowQueries.get(0);
+        assertEquals("select ? as order_number, ? as status", slowQuery.getSql());
+        assertEquals(List.of("<String>", "null"), slowQuery.getParameters());
+        assertEquals("OrderInputPort.searchOrders", slowQuery.getPortMethod());
+        assertEquals(1, slowQuery.getBatchSize());
+        assertNull(slowQuery.getPlan());
+    }
+
+    @Test
+    @DisplayName("Deve registrar os valores dos parâmetros apenas quando habilitado")
+    void testRecordParameters() throws SQLException {
+        slowQueryRecorder.shutdown();
+        createRecorder(true);
+
+        query("select ? as order_number, ? as status", "%PED-1001%", null);
+
+        assertEquals(List.of("%PED-1001%", "null"), slowQueryRecorder.findAll().get(0).getParameters());
+    }
+
+    @Test
+    @DisplayName("Deve manter apenas os comandos mais recentes dentro da capacidade configurada")
+    void testCapacity() throws SQLException {
+        query("select ? as first_value", 1);
+        query("select ? as second_value", 2);
+        query("select ? as third_value", 3);
+
+        List<SlowQueryRecorder.SlowQuery> slowQueries = slowQueryRecorder.findAll();
+        assertEquals(List.of("select ? as third_value", "select ? as second_value"),
+                slowQueries.stream().map(SlowQueryRecorder.SlowQuery::getSql).toList());
+        assertNull(slowQueries.get(0).getPortMethod());
+
+        slowQueryRecorder.clear();
+
+        assertTrue(slowQueryRecorder.findAll().isEmpty());
+    }
+
+    private void createRecorder(boolean includeParameters) {
+        JdbcDataSource target = new JdbcDataSource();
+        target.setURL("jdbc:h2:mem:slow-query-recorder");
+        slowQueryRecorder = new SlowQueryRecorder(0, 2, 1, false, includeParameters);
+        dataSource = ProxyDataSourceBuilder.create(target)
+                .listener(slowQueryRecorder.listener(target))
+                .build();
+    }
+
+    private void query(String sql, Object... parameters) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < parameters.length; i++) {
+                if (parameters[i] == null) {
+                    statement.setNull(i + 1, Types.VARCHAR);
+                } else {
+                    statement.setObject(i + 1, parameters[i]);
+                }
+            }
+            try (ResultSet resultSet = statement.executeQuery()) {
+                assertTrue(resultSet.next());
+            }
+        }
+    }
+
+}
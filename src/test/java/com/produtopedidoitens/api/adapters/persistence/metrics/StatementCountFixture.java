@@ -0,0 +1,93 @@
+package com.produtopedidoitens.api.adapters.persistence.metrics;
+
+import com.produtopedidoitens.api.adapters.persistence.repositories.CatalogItemRepository;
+import com.produtopedidoitens.api.adapters.persistence.repositories.OrderItemRepository;
+import com.produtopedidoitens.api.adapters.persistence.repositories.OrderRepository;
+import com.produtopedidoitens.api.application.domain.entities.CatalogItemEntity;
+import com.produtopedidoitens.api.application.domain.entities.OrderEntity;
+import com.produtopedidoitens.api.application.domain.entities.OrderItemEntity;
+import com.produtopedidoitens.api.application.domain.enums.EnumCatalogItemType;
+import com.produtopedidoitens.api.application.domain.enums.EnumOrderStatus;
+import jakarta.persistence.EntityManager;
+import lombok.experimental.UtilityClass;
+import net.ttddyy.dsproxy.QueryCount;
+import net.ttddyy.dsproxy.QueryCountHolder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@UtilityClass
+public class StatementCountFixture {
+
+    public static List<OrderEntity> persistOrders(CatalogItemRepository catalogItemRepository, OrderRepository orderRepository,
+                                                  OrderItemRepository orderItemRepository, EntityManager entityManager,
+                                                  int orders, int itemsPerOrder) {
+        List<CatalogItemEntity> catalogItems = new ArrayList<>();
+        for (int i = 0; i < itemsPerOrder; i++) {
+            catalogItems.add(catalogItemRepository.save(CatalogItemEntity.builder()
+                    .catalogItemName("Item " + i)
+                    .catalogItemDescription("Descrição " + i)
+                    .price(BigDecimal.valueOf(10L + i))
+                    .type(EnumCatalogItemType.PRODUCT)
+                    .isActive(true)
+                    .build()));
+        }
+
+        List<OrderEntity> saved = new ArrayList<>();
+        for (int i = 0; i < orders; i++) {
+            OrderEntity order = orderRepository.save(OrderEntity.builder()
+                    .orderNumber("PED-" + i + "-2024")
+                    .orderDate(LocalDate.now())
+                    .status(EnumOrderStatus.OPEN)
+                    .items(new ArrayList<>())
+                    .grossTotal(BigDecimal.ZERO)
+                    .discount(BigDecimal.TEN)
+                    .netTotal(BigDecimal.ZERO)
+                    .build());
+            for (CatalogItemEntity catalogItem : catalogItems) {
+                orderItemRepository.save(OrderItemEntity.builder()
+                        .quantity(1)
+                        .price(catalogItem.getPrice())
+                        .total(catalogItem.getPrice())
+                        .catalogItem(catalogItem)
+                        .order(order)
+                        .build());
+            }
+            saved.add(order);
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+        return saved;
+    }
+
+    public static <T> Counted<T> countStatements(Supplier<T> action) {
+        QueryCountHolder.clear();
+        try {
+            T result = action.get();
+            QueryCount queryCount = QueryCountHolder.get(QueryCountDataSourceProxy.DATA_SOURCE_NAME);
+            assertNotNull(queryCount);
+            return new Counted<>(result, queryCount.getTotal());
+        } finally {
+            QueryCountHolder.clear();
+        }
+    }
+
+    public static <T> T assertMaxStatements(Supplier<T> action, long maxStatements) {
+        Counted<T> counted = countStatements(action);
+
+        assertTrue(counted.statements() > 0);
+        assertTrue(counted.statements() <= maxStatements,
+                "Esperado no máximo " + maxStatements + " comandos SQL, mas foram " + counted.statements());
+        return counted.result();
+    }
+
+    public record Counted<T>(T result, long statements) {
+    }
+
+}
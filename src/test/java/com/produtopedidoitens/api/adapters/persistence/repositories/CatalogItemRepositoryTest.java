@@ -1,5 +1,8 @@
 package com.produtopedidoitens.api.adapters.persistence.repositories;
 
+import com.produtopedidoitens.api.adapters.web.filters.ProductFilter;
+import com.produtopedidoitens.api.adapters.web.projections.CatalogItemProjection;
+import com.produtopedidoitens.api.adapters.web.requests.CatalogItemFilterRequest;
 import com.produtopedidoitens.api.application.domain.entities.CatalogItemEntity;
 import com.produtopedidoitens.api.application.domain.enums.EnumCatalogItemType;
 import org.junit.jupiter.api.BeforeEach;
@@ -7,6 +10,10 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.math.BigDecimal;
@@ -80,6 +87,34 @@ class CatalogItemRepositoryTest {
         assertTrue(list.contains(serviceSaved));
     }
 
+    @Test
+    @DisplayName("Deve paginar produtos e serviços por cursor sem repetir registros")
+    void testKeysetPagination() {
+        catalogItemRepository.save(productEntity);
+        catalogItemRepository.save(serviceEntity);
+
+        List<CatalogItemEntity> firstPage = catalogItemRepository.findFirstKeysetPage(Limit.of(1));
+        assertEquals(1, firstPage.size());
+
+        CatalogItemEntity last = firstPage.get(0);
+        List<CatalogItemEntity> secondPage = catalogItemRepository.findKeysetPageAfter(last.getDthreg(), last.getId(), Limit.of(1));
+        assertEquals(1, secondPage.size());
+        assertNotEquals(last.getId(), secondPage.get(0).getId());
+
+        CatalogItemEntity secondLast = secondPage.get(0);
+        assertTrue(catalogItemRepository.findKeysetPageAfter(secondLast.getDthreg(), secondLast.getId(), Limit.of(1)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve buscar um produto pelo número do item")
+    void testFindByCatalogItemNumber() {
+        productEntity.setCatalogItemNumber("1000000");
+        CatalogItemEntity productSaved = catalogItemRepository.save(productEntity);
+
+        assertEquals(productSaved.getId(), catalogItemRepository.findByCatalogItemNumber("1000000").map(CatalogItemEntity::getId).orElse(null));
+        assertTrue(catalogItemRepository.findByCatalogItemNumber("1000001").isEmpty());
+    }
+
     @Test
     @DisplayName("Deve retornar um produto ou serviço cadastrado no banco de dados")
     void testFindById() {
@@ -140,4 +175,48 @@ class CatalogItemRepositoryTest {
         CatalogItemEntity service = assertDoesNotThrow(() -> catalogItemRepository.findById(serviceSaved.getId()).orElse(null));
         assertNull(service);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Deve retornar a versão de um produto pelo id")
+    void testFindVersionById() {
+        CatalogItemEntity productSaved = assertDoesNotThrow(() -> catalogItemRepository.saveAndFlush(productEntity));
+
+        assertEquals("0", catalogItemRepository.findVersionById(productSaved.getId()).orElseThrow());
+
+        productSaved.setPrice(BigDecimal.valueOf(30.00));
+        catalogItemRepository.saveAndFlush(productSaved);
+
+        assertEquals("1", catalogItemRepository.findVersionById(productSaved.getId()).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Deve buscar projeções paginadas de produtos aplicando os filtros")
+    void testFindProjections() {
+        catalogItemRepository.save(productEntity);
+        catalogItemRepository.save(serviceEntity);
+        catalogItemRepository.save(CatalogItemEntity.builder()
+                .catalogItemName("Café Gourmet")
+                .catalogItemDescription("Café especial")
+                .price(BigDecimal.valueOf(45.00))
+                .type(EnumCatalogItemType.PRODUCT)
+                .isActive(true)
+                .build());
+        CatalogItemFilterRequest filter = CatalogItemFilterRequest.builder()
+                .catalogItemName("CAF")
+                .type("Produto")
+                .isActive(true)
+                .maxPrice(BigDecimal.valueOf(50))
+                .build();
+
+        Page<CatalogItemProjection> firstPage = catalogItemRepository.findProjections(ProductFilter.filterByCriteria(filter),
+                PageRequest.of(0, 1, Sort.by(Sort.Direction.DESC, "price", "id")));
+        Page<CatalogItemProjection> secondPage = catalogItemRepository.findProjections(ProductFilter.filterByCriteria(filter),
+                PageRequest.of(1, 1, Sort.by(Sort.Direction.DESC, "price", "id")));
+
+        assertEquals(2, firstPage.getTotalElements());
+        assertEquals("Café Gourmet", firstPage.getContent().get(0).catalogItemName());
+        assertEquals("Produto", firstPage.getContent().get(0).type());
+        assertEquals(productEntity.getId(), secondPage.getContent().get(0).id());
+    }
+
+}
@@ -0,0 +1,82 @@
+package com.produtopedidoitens.api.adapters.persistence.repositories;
+
+import com.produtopedidoitens.api.adapters.web.projections.OrderProjection;
+import com.produtopedidoitens.api.application.domain.entities.CatalogItemEntity;
+import com.produtopedidoitens.api.application.domain.entities.OrderEntity;
+import com.produtopedidoitens.api.application.domain.entities.OrderItemEntity;
+import com.produtopedidoitens.api.application.domain.enums.EnumCatalogItemType;
+import com.produtopedidoitens.api.application.domain.enums.EnumOrderStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import(OrderExportRepository.class)
+@ActiveProfiles("test")
+class OrderExportRepositoryTest {
+
+    @Autowired
+    private OrderExportRepository orderExportRepository;
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    @DisplayName("Deve exportar cada pedido uma única vez agrupando seus itens")
+    void testStreamOrders() {
+        CatalogItemEntity product = entityManager.persist(CatalogItemEntity.builder()
+                .catalogItemName("Café")
+                .catalogItemDescription("Café torrado e moído")
+                .price(BigDecimal.valueOf(21.90))
+                .type(EnumCatalogItemType.PRODUCT)
+                .isActive(true)
+                .build());
+        OrderEntity withItems = entityManager.persist(newOrder("PED-1-2024"));
+        OrderEntity withoutItems = entityManager.persist(newOrder("PED-2-2024"));
+        for (int i = 1; i <= 3; i++) {
+            entityManager.persist(OrderItemEntity.builder()
+                    .quantity(i)
+                    .price(BigDecimal.valueOf(21.90))
+                    .total(BigDecimal.valueOf(21.90).multiply(BigDecimal.valueOf(i)))
+                    .catalogItem(product)
+                    .order(withItems)
+                    .build());
+        }
+        entityManager.flush();
+
+        List<OrderProjection> exported = new ArrayList<>();
+        orderExportRepository.streamOrders(exported::add);
+
+        assertEquals(2, exported.size());
+        OrderProjection first = exported.stream().filter(o -> o.id().equals(withItems.getId())).findFirst().orElseThrow();
+        assertEquals("PED-1-2024", first.orderNumber());
+        assertEquals("Aberto", first.status());
+        assertEquals(3, first.items().size());
+        assertEquals("Café", first.items().get(0).catalogItemName());
+        assertEquals(0, BigDecimal.valueOf(43.80).compareTo(first.items().get(1).total()));
+        OrderProjection second = exported.stream().filter(o -> o.id().equals(withoutItems.getId())).findFirst().orElseThrow();
+        assertTrue(second.items().isEmpty());
+    }
+
+    private static OrderEntity newOrder(String orderNumber) {
+        return OrderEntity.builder()
+                .orderNumber(orderNumber)
+                .orderDate(LocalDate.now())
+                .status(EnumOrderStatus.OPEN)
+                .items(new ArrayList<>())
+                .grossTotal(BigDecimal.ZERO)
+                .netTotal(BigDecimal.ZERO)
+                .build();
+    }
+
+}
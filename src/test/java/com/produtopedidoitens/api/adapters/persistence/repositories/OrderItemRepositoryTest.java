@@ -16,6 +16,7 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -131,4 +132,52 @@ class OrderItemRepositoryTest {
         assertTrue(list.isEmpty());
     }
 
+    @Test
+    @DisplayName("Deve retornar a versão do item do pedido combinada com a versão do produto/serviço")
+    void testFindVersionById() {
+        OrderItemEntity saved = assertDoesNotThrow(() -> orderItemRepository.saveAndFlush(orderItemEntity));
+
+        assertEquals("0.0", orderItemRepository.findVersionById(saved.getId()).orElseThrow());
+
+        saved.setQuantity(20);
+        orderItemRepository.saveAndFlush(saved);
+
+        assertEquals("1.0", orderItemRepository.findVersionById(saved.getId()).orElseThrow());
+        assertTrue(orderItemRepository.findVersionById(UUID.randomUUID()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve incrementar a versão do pedido ao alterar seus itens")
+    void testOrderVersionIncrement() {
+        OrderItemEntity saved = assertDoesNotThrow(() -> orderItemRepository.saveAndFlush(orderItemEntity));
+        UUID orderId = saved.getOrder().getId();
+
+        assertEquals("0.0", orderRepository.findVersionById(orderId).orElseThrow());
+
+        assertEquals(1, orderRepository.incrementVersion(orderId));
+
+        assertEquals("1.0", orderRepository.findVersionById(orderId).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Deve recarregar o pedido com os totais e a versão alterados em lote")
+    void testAddTotalsRefreshesOrder() {
+        OrderItemEntity saved = assertDoesNotThrow(() -> orderItemRepository.saveAndFlush(orderItemEntity));
+        UUID orderId = saved.getOrder().getId();
+        OrderEntity before = orderRepository.findById(orderId).orElseThrow();
+        long version = before.getVersion();
+        BigDecimal netTotal = before.getNetTotal() == null ? BigDecimal.ZERO : before.getNetTotal();
+
+        assertEquals(1, orderRepository.addTotals(orderId, new BigDecimal("10.00"), new BigDecimal("9.00")));
+
+        OrderEntity after = orderRepository.findById(orderId).orElseThrow();
+        assertEquals(version + 1, after.getVersion());
+        assertEquals(0, netTotal.add(new BigDecimal("9.00")).compareTo(after.getNetTotal()));
+        assertEquals(version + 1, orderRepository.refreshVersion(orderId));
+
+        orderRepository.incrementVersion(orderId);
+
+        assertEquals(version + 2, orderRepository.refreshVersion(orderId));
+    }
+
 }
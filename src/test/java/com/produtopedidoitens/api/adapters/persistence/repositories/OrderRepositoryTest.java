@@ -1,5 +1,8 @@
 package com.produtopedidoitens.api.adapters.persistence.repositories;
 
+import com.produtopedidoitens.api.adapters.web.filters.OrderFilter;
+import com.produtopedidoitens.api.adapters.web.projections.OrderProjection;
+import com.produtopedidoitens.api.adapters.web.requests.OrderFilterRequest;
 import com.produtopedidoitens.api.application.domain.entities.OrderEntity;
 import com.produtopedidoitens.api.application.domain.enums.EnumOrderStatus;
 import org.junit.jupiter.api.BeforeEach;
@@ -7,6 +10,11 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.math.BigDecimal;
@@ -99,4 +107,85 @@ class OrderRepositoryTest {
         assertNull(order);
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("Deve paginar pedidos no banco de dados sem carregar a tabela inteira")
+    void testFindAllPaged() {
+        for (int i = 0; i < 5; i++) {
+            orderRepository.save(newOrder("PED-" + i + "-2024"));
+        }
+
+        Page<OrderEntity> page = assertDoesNotThrow(() -> orderRepository.findAll(PageRequest.of(1, 2, Sort.by("dthreg", "id"))));
+        assertEquals(2, page.getNumberOfElements());
+        assertEquals(5, page.getTotalElements());
+        assertEquals(3, page.getTotalPages());
+
+        Slice<OrderEntity> slice = assertDoesNotThrow(() -> orderRepository.findAllBy(PageRequest.of(2, 2, Sort.by("dthreg", "id"))));
+        assertEquals(1, slice.getNumberOfElements());
+        assertFalse(slice.hasNext());
+    }
+
+    @Test
+    @DisplayName("Deve paginar pedidos por keyset (dthreg, id)")
+    void testKeysetPagination() {
+        for (int i = 0; i < 5; i++) {
+            orderRepository.save(newOrder("PED-" + i + "-2024"));
+        }
+
+        List<OrderEntity> firstPage = orderRepository.findFirstKeysetPage(Limit.of(2));
+        assertEquals(2, firstPage.size());
+
+        OrderEntity last = firstPage.get(firstPage.size() - 1);
+        List<OrderEntity> secondPage = orderRepository.findKeysetPageAfter(last.getDthreg(), last.getId(), Limit.of(2));
+        List<OrderEntity> thirdPage = orderRepository.findKeysetPageAfter(
+                secondPage.get(1).getDthreg(), secondPage.get(1).getId(), Limit.of(2));
+
+        assertEquals(2, secondPage.size());
+        assertEquals(1, thirdPage.size());
+        List<OrderEntity> all = new ArrayList<>(firstPage);
+        all.addAll(secondPage);
+        all.addAll(thirdPage);
+        assertEquals(5, all.stream().map(OrderEntity::getId).distinct().count());
+    }
+
+    @Test
+    @DisplayName("Deve buscar projeções paginadas de pedidos aplicando os filtros")
+    void testFindProjections() {
+        OrderEntity july = newOrder("PED-701-2024");
+        july.setOrderDate(LocalDate.of(2024, 7, 10));
+        july.setNetTotal(BigDecimal.valueOf(150));
+        OrderEntity august = newOrder("PED-801-2024");
+        august.setOrderDate(LocalDate.of(2024, 8, 10));
+        august.setNetTotal(BigDecimal.valueOf(150));
+        OrderEntity closed = newOrder("PED-702-2024");
+        closed.setOrderDate(LocalDate.of(2024, 7, 15));
+        closed.setStatus(EnumOrderStatus.CLOSED);
+        orderRepository.saveAll(List.of(july, august, closed));
+        OrderFilterRequest filter = OrderFilterRequest.builder()
+                .orderNumber("ped-")
+                .status(EnumOrderStatus.OPEN)
+                .startDate(LocalDate.of(2024, 7, 1))
+                .endDate(LocalDate.of(2024, 7, 31))
+                .minTotal(BigDecimal.valueOf(100))
+                .build();
+
+        Page<OrderProjection> page = orderRepository.findProjections(OrderFilter.filterByCriteria(filter),
+                PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "orderDate", "id")));
+
+        assertEquals(1, page.getTotalElements());
+        assertEquals("PED-701-2024", page.getContent().get(0).orderNumber());
+        assertEquals("Aberto", page.getContent().get(0).status());
+        assertTrue(page.getContent().get(0).items().isEmpty());
+    }
+
+    private static OrderEntity newOrder(String orderNumber) {
+        return OrderEntity.builder()
+                .orderNumber(orderNumber)
+                .orderDate(LocalDate.now())
+                .status(EnumOrderStatus.OPEN)
+                .items(new ArrayList<>())
+                .grossTotal(BigDecimal.ZERO)
+                .netTotal(BigDecimal.ZERO)
+                .build();
+    }
+
+}
@@ -0,0 +1,163 @@
+package com.produtopedidoitens.api.adapters.persistence.repositories;
+
+import com.produtopedidoitens.api.adapters.persistence.repositories.OrderTotalsRepository.OrderTotals;
+import com.produtopedidoitens.api.application.domain.entities.CatalogItemEntity;
+import com.produtopedidoitens.api.application.domain.entities.OrderEntity;
+import com.produtopedidoitens.api.application.domain.entities.OrderItemEntity;
+import com.produtopedidoitens.api.application.domain.enums.EnumCatalogItemType;
+import com.produtopedidoitens.api.application.domain.enums.EnumOrderStatus;
+import com.produtopedidoitens.api.application.pricing.OrderItemPricing;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import(OrderTotalsRepository.class)
+@ActiveProfiles("test")
+class OrderTotalsRepositoryTest {
+
+    @Autowired
+    private OrderTotalsRepository orderTotalsRepository;
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private OrderEntity order;
+    private OrderEntity emptyOrder;
+
+    @BeforeEach
+    void setUp() {
+        CatalogItemEntity product = entityManager.persist(CatalogItemEntity.builder()
+                .catalogItemName("Café")
+                .catalogItemDescription("Café torrado e moído")
+                .price(new BigDecimal("1.25"))
+                .type(EnumCatalogItemType.PRODUCT)
+                .isActive(true)
+                .build());
+        CatalogItemEntity service = entityManager.persist(CatalogItemEntity.builder()
+                .catalogItemName("Entrega")
+                .catalogItemDescription("Entrega expressa")
+                .price(new BigDecimal("7.35"))
+                .type(EnumCatalogItemType.SERVICE)
+                .isActive(true)
+                .build());
+        order = entityManager.persist(OrderEntity.builder()
+                .orderNumber("PED-TOT-1")
+                .orderDate(LocalDate.now())
+                .status(EnumOrderStatus.OPEN)
+                .items(new ArrayList<>())
+                .grossTotal(new BigDecimal("999.00"))
+                .discount(BigDecimal.TEN)
+                .netTotal(new BigDecimal("999.00"))
+                .build());
+        emptyOrder = entityManager.persist(OrderEntity.builder()
+                .orderNumber("PED-TOT-2")
+                .orderDate(LocalDate.now())
+                .status(EnumOrderStatus.OPEN)
+                .items(new ArrayList<>())
+                .grossTotal(BigDecimal.ZERO)
+                .netTotal(BigDecimal.ZERO)
+                .build());
+        entityManager.persist(OrderItemEntity.builder().quantity(1).price(new BigDecimal("1.25")).total(new BigDecimal("1.13"))
+                .catalogItem(product).order(order).build());
+        entityManager.persist(OrderItemEntity.builder().quantity(2).price(new BigDecimal("7.35")).total(new BigDecimal("14.70"))
+                .catalogItem(service).order(order).build());
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Deve somar os totais a partir dos preços e totais gravados nos itens")
+    void testSumTotals() {
+        jdbcTemplate.update("UPDATE tbcatalogitem SET price = price * 2");
+
+        Map<UUID, OrderTotals> totals = orderTotalsRepository.sumTotals(List.of(order.getId(), emptyOrder.getId()));
+
+        assertEquals(new BigDecimal("15.95"), totals.get(order.getId()).grossTotal());
+        assertEquals(new BigDecimal("15.83"), totals.get(order.getId()).netTotal());
+        assertEquals(new BigDecimal("0.00"), totals.get(emptyOrder.getId()).grossTotal());
+        assertEquals(new BigDecimal("0.00"), totals.get(emptyOrder.getId()).netTotal());
+    }
+
+    @Test
+    @DisplayName("Deve corrigir apenas os pedidos com totais divergentes")
+    void testRecompute() {
+        int updated = orderTotalsRepository.recompute(List.of(order.getId(), emptyOrder.getId()));
+
+        assertEquals(1, updated);
+        OrderEntity repaired = entityManager.find(OrderEntity.class, order.getId());
+        assertEquals(0, new BigDecimal("15.95").compareTo(repaired.getGrossTotal()));
+        assertEquals(0, new BigDecimal("15.83").compareTo(repaired.getNetTotal()));
+        assertEquals(1L, repaired.getVersion());
+        assertEquals(0L, entityManager.find(OrderEntity.class, emptyOrder.getId()).getVersion());
+
+        entityManager.clear();
+        assertEquals(0, orderTotalsRepository.recompute(List.of(order.getId(), emptyOrder.getId())));
+    }
+
+    @Test
+    @DisplayName("Deve recalcular no banco apenas os totais dos itens do tipo produto do pedido")
+    void testRepriceProductItems() {
+        int repriced = orderTotalsRepository.repriceProductItems(order.getId(), OrderItemPricing.toBasisPoints(new BigDecimal("12.5")));
+
+        assertEquals(1, repriced);
+        Map<UUID, OrderTotals> totals = orderTotalsRepository.sumTotals(List.of(order.getId()));
+        assertEquals(new BigDecimal("15.95"), totals.get(order.getId()).grossTotal());
+        assertEquals(new BigDecimal("15.79"), totals.get(order.getId()).netTotal());
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tborderitem WHERE version = 1", Integer.class));
+        assertEquals(0, orderTotalsRepository.repriceProductItems(emptyOrder.getId(), 1000L));
+    }
+
+    @Test
+    @DisplayName("Deve calcular no banco o mesmo total líquido arredondado em HALF_EVEN da regra em Java")
+    void testProductNetTotalSqlMatchesPricing() {
+        String query = "SELECT " + OrderItemPricing.productNetTotalSql("CAST(:price AS NUMERIC(19, 2))", "CAST(:quantity AS INTEGER)", "CAST(:discountBasisPoints AS BIGINT)");
+        for (String price : List.of("0.01", "0.05", "1.25", "1.35", "7.35", "19.99", "1234.57")) {
+            for (int quantity : List.of(1, 2, 3, 7)) {
+                for (String discount : List.of("0", "0.5", "2.5", "10", "12.5", "33.33", "100")) {
+                    long discountBasisPoints = OrderItemPricing.toBasisPoints(new BigDecimal(discount));
+                    long expected = OrderItemPricing.netCents(OrderItemPricing.toCents(new BigDecimal(price)), quantity,
+                            EnumCatalogItemType.PRODUCT, discountBasisPoints);
+
+                    MapSqlParameterSource parameters = new MapSqlParameterSource("price", new BigDecimal(price))
+                            .addValue("quantity", quantity)
+                            .addValue("discountBasisPoints", discountBasisPoints);
+                    BigDecimal actual = new NamedParameterJdbcTemplate(jdbcTemplate).queryForObject(query, parameters, BigDecimal.class);
+
+                    assertEquals(0, OrderItemPricing.fromCents(expected).compareTo(actual), price + " x " + quantity + " - " + discount + "%");
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Deve percorrer os ids dos pedidos em blocos ordenados")
+    void testFindOrderIdsAfter() {
+        List<UUID> all = jdbcTemplate.queryForList("SELECT idorder FROM tborder ORDER BY idorder", UUID.class);
+
+        List<UUID> first = orderTotalsRepository.findOrderIdsAfter(null, 1);
+        List<UUID> second = orderTotalsRepository.findOrderIdsAfter(first.get(0), all.size());
+
+        assertEquals(List.of(all.get(0)), first);
+        assertEquals(all.subList(1, all.size()), second);
+    }
+
+}
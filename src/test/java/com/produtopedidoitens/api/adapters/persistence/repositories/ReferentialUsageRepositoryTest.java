@@ -0,0 +1,103 @@
+package com.produtopedidoitens.api.adapters.persistence.repositories;
+
+import com.produtopedidoitens.api.application.domain.entities.CatalogItemEntity;
+import com.produtopedidoitens.api.application.domain.entities.OrderEntity;
+import com.produtopedidoitens.api.application.domain.entities.OrderItemEntity;
+import com.produtopedidoitens.api.application.domain.enums.EnumCatalogItemType;
+import com.produtopedidoitens.api.application.domain.enums.EnumOrderStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import(ReferentialUsageRepository.class)
+@ActiveProfiles("test")
+class ReferentialUsageRepositoryTest {
+
+    @Autowired
+    private ReferentialUsageRepository referentialUsageRepository;
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private CatalogItemEntity coffee;
+    private CatalogItemEntity tea;
+    private CatalogItemEntity delivery;
+
+    @BeforeEach
+    void setUp() {
+        coffee = catalogItem("Café");
+        tea = catalogItem("Chá");
+        delivery = catalogItem("Entrega");
+        OrderEntity order = entityManager.persist(OrderEntity.builder()
+                .orderNumber("PED-1001-2024")
+                .orderDate(LocalDate.now())
+                .status(EnumOrderStatus.OPEN)
+                .items(new ArrayList<>())
+                .grossTotal(BigDecimal.ZERO)
+                .discount(BigDecimal.TEN)
+                .netTotal(BigDecimal.ZERO)
+                .build());
+        orderItem(order, coffee);
+        orderItem(order, coffee);
+        orderItem(order, delivery);
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("Deve verificar se um item está vinculado a itens de pedido")
+    void testIsCatalogItemReferenced() {
+        assertTrue(referentialUsageRepository.isCatalogItemReferenced(coffee.getId()));
+        assertFalse(referentialUsageRepository.isCatalogItemReferenced(tea.getId()));
+        assertFalse(referentialUsageRepository.isCatalogItemReferenced(UUID.randomUUID()));
+    }
+
+    @Test
+    @DisplayName("Deve retornar, em lotes, apenas os itens vinculados a itens de pedido")
+    void testFindReferencedCatalogItems() {
+        List<UUID> ids = Stream.concat(
+                        Stream.of(coffee.getId(), tea.getId(), coffee.getId(), null),
+                        IntStream.range(0, 1500).mapToObj(i -> UUID.randomUUID()))
+                .toList();
+        List<UUID> idsWithDelivery = Stream.concat(ids.stream(), Stream.of(delivery.getId())).toList();
+
+        List<UUID> referenced = referentialUsageRepository.findReferencedCatalogItems(idsWithDelivery);
+
+        assertEquals(2, referenced.size());
+        assertTrue(referenced.containsAll(List.of(coffee.getId(), delivery.getId())));
+        assertTrue(referentialUsageRepository.findReferencedCatalogItems(List.of()).isEmpty());
+    }
+
+    private CatalogItemEntity catalogItem(String name) {
+        return entityManager.persist(CatalogItemEntity.builder()
+                .catalogItemName(name)
+                .catalogItemDescription(name)
+                .price(BigDecimal.TEN)
+                .type(EnumCatalogItemType.PRODUCT)
+                .isActive(true)
+                .build());
+    }
+
+    private void orderItem(OrderEntity order, CatalogItemEntity catalogItem) {
+        entityManager.persist(OrderItemEntity.builder()
+                .quantity(1)
+                .catalogItem(catalogItem)
+                .order(order)
+                .build());
+    }
+
+}
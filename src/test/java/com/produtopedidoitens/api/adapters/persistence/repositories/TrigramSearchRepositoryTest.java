@@ -0,0 +1,146 @@
+package com.produtopedidoitens.api.adapters.persistence.repositories;
+
+import com.produtopedidoitens.api.adapters.persistence.repositories.TrigramSearchRepository.SearchHit;
+import com.produtopedidoitens.api.adapters.web.requests.SearchCursor;
+import com.produtopedidoitens.api.application.domain.entities.CatalogItemEntity;
+import com.produtopedidoitens.api.application.domain.entities.OrderEntity;
+import com.produtopedidoitens.api.application.domain.enums.EnumCatalogItemType;
+import com.produtopedidoitens.api.application.domain.enums.EnumOrderStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import(TrigramSearchRepository.class)
+@ActiveProfiles("test")
+class TrigramSearchRepositoryTest {
+
+    @Autowired
+    private TrigramSearchRepository trigramSearchRepository;
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private CatalogItemEntity coffee;
+    private CatalogItemEntity specialCoffee;
+    private CatalogItemEntity groundCoffee;
+    private CatalogItemEntity inactiveCoffee;
+    private CatalogItemEntity discount;
+    private OrderEntity order;
+    private OrderEntity longerOrder;
+    private OrderEntity closedOrder;
+
+    @BeforeEach
+    void setUp() {
+        coffee = catalogItem("Café", true);
+        specialCoffee = catalogItem("Café Especial", true);
+        groundCoffee = catalogItem("Café Especial Torrado e Moído", true);
+        inactiveCoffee = catalogItem("Café Descafeinado", false);
+        discount = catalogItem("Desconto 100%_off", true);
+        catalogItem("Chá Mate", true);
+        order = order("PED-1001-2024", EnumOrderStatus.OPEN);
+        longerOrder = order("PED-1001-2024-REV", EnumOrderStatus.OPEN);
+        closedOrder = order("PED-1001-2024-X", EnumOrderStatus.CLOSED);
+        order("PED-2002-2024", EnumOrderStatus.OPEN);
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("Deve buscar itens pelo nome ignorando maiúsculas e ordenando pelos mais similares")
+    void testSearchCatalogItemIds() {
+        List<SearchHit> result = trigramSearchRepository.searchCatalogItems(" CAFÉ ", null, null, 10);
+
+        assertEquals(List.of(coffee.getId(), specialCoffee.getId(), inactiveCoffee.getId(), groundCoffee.getId()), ids(result));
+        assertEquals(0.0, result.get(0).distance());
+    }
+
+    @Test
+    @DisplayName("Deve filtrar itens ativos e paginar o resultado da busca a partir do cursor")
+    void testSearchCatalogItemIdsWithFilterAndCursor() {
+        List<SearchHit> firstPage = trigramSearchRepository.searchCatalogItems("café", true, null, 2);
+        SearchHit last = firstPage.get(1);
+        List<SearchHit> secondPage = trigramSearchRepository.searchCatalogItems("café", true, new SearchCursor(last.distance(), last.id()), 2);
+
+        assertEquals(List.of(coffee.getId(), specialCoffee.getId()), ids(firstPage));
+        assertEquals(List.of(groundCoffee.getId()), ids(secondPage));
+    }
+
+    @Test
+    @DisplayName("Deve paginar itens com a mesma distância sem repetir nem pular resultados")
+    void testSearchCatalogItemIdsWithEqualDistances() {
+        Set<UUID> expected = Set.of(catalogItem("Chá Verde", true).getId(), catalogItem("Chá Verde", true).getId(),
+                catalogItem("Chá Verde", true).getId());
+        entityManager.flush();
+
+        List<UUID> paged = new ArrayList<>();
+        SearchCursor cursor = null;
+        List<SearchHit> page;
+        while (!(page = trigramSearchRepository.searchCatalogItems("verde", null, cursor, 1)).isEmpty()) {
+            SearchHit last = page.get(0);
+            paged.add(last.id());
+            cursor = new SearchCursor(last.distance(), last.id());
+        }
+
+        assertEquals(expected.size(), paged.size());
+        assertEquals(expected, Set.copyOf(paged));
+    }
+
+    @Test
+    @DisplayName("Deve tratar os curingas do LIKE como texto literal")
+    void testSearchCatalogItemIdsEscapesWildcards() {
+        assertEquals(List.of(discount.getId()), ids(trigramSearchRepository.searchCatalogItems("0%_o", null, null, 10)));
+        assertTrue(trigramSearchRepository.searchCatalogItems("é_e", null, null, 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve buscar pedidos pelo número ordenando pelos mais similares e filtrando pelo status")
+    void testSearchOrderIds() {
+        List<SearchHit> all = trigramSearchRepository.searchOrders("ped-1001", null, null, 10);
+        List<SearchHit> closed = trigramSearchRepository.searchOrders("ped-1001", EnumOrderStatus.CLOSED, null, 10);
+        List<SearchHit> afterFirst = trigramSearchRepository.searchOrders("ped-1001", null, new SearchCursor(all.get(0).distance(), all.get(0).id()), 10);
+
+        assertEquals(List.of(order.getId(), closedOrder.getId(), longerOrder.getId()), ids(all));
+        assertEquals(List.of(closedOrder.getId()), ids(closed));
+        assertEquals(List.of(closedOrder.getId(), longerOrder.getId()), ids(afterFirst));
+    }
+
+    private static List<UUID> ids(List<SearchHit> hits) {
+        return hits.stream().map(SearchHit::id).toList();
+    }
+
+    private CatalogItemEntity catalogItem(String name, boolean active) {
+        return entityManager.persist(CatalogItemEntity.builder()
+                .catalogItemName(name)
+                .catalogItemDescription(name)
+                .price(BigDecimal.TEN)
+                .type(EnumCatalogItemType.PRODUCT)
+                .isActive(active)
+                .build());
+    }
+
+    private OrderEntity order(String orderNumber, EnumOrderStatus status) {
+        return entityManager.persist(OrderEntity.builder()
+                .orderNumber(orderNumber)
+                .orderDate(LocalDate.now())
+                .status(status)
+                .items(new ArrayList<>())
+                .grossTotal(BigDecimal.ZERO)
+                .discount(BigDecimal.TEN)
+                .netTotal(BigDecimal.ZERO)
+                .build());
+    }
+
+}
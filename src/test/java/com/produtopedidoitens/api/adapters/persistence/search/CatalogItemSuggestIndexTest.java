@@ -0,0 +1,116 @@
+package com.produtopedidoitens.api.adapters.persistence.search;
+
+import com.produtopedidoitens.api.adapters.persistence.cache.CacheInvalidationBus;
+import com.produtopedidoitens.api.adapters.persistence.repositories.CatalogItemRepository;
+import com.produtopedidoitens.api.application.domain.entities.CatalogItemEntity;
+import com.produtopedidoitens.api.application.domain.enums.EnumCatalogItemType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+class CatalogItemSuggestIndexTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private CatalogItemRepository catalogItemRepository;
+    @Mock
+    private CacheInvalidationBus cacheInvalidationBus;
+
+    private CatalogItemSuggestIndex catalogItemSuggestIndex;
+    private CatalogItemEntity productEntity;
+
+    @BeforeEach
+    void setUp() {
+        catalogItemSuggestIndex = new CatalogItemSuggestIndex(jdbcTemplate, catalogItemRepository, cacheInvalidationBus);
+        productEntity = CatalogItemEntity.builder()
+                .id(UUID.fromString("2104a849-13c4-46f7-8e11-a7bf2504ba46"))
+                .catalogItemName("Café")
+                .catalogItemDescription("Café torrado e moído")
+                .catalogItemNumber("1000100")
+                .price(BigDecimal.valueOf(21.90))
+                .type(EnumCatalogItemType.PRODUCT)
+                .isActive(true)
+                .version(0L)
+                .build();
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        catalogItemSuggestIndex.shutdown();
+    }
+
+    @Test
+    @DisplayName("Deve incluir o item cadastrado no índice apenas após o commit")
+    void testOnCreatedAfterCommit() {
+        catalogItemSuggestIndex.onCreated(productEntity);
+
+        assertEquals(0, catalogItemSuggestIndex.size());
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+        assertEquals(List.of(productEntity.getId()), ids(catalogItemSuggestIndex.suggest("caf", 10)));
+    }
+
+    @Test
+    @DisplayName("Não deve alterar o índice quando a transação da atualização é desfeita")
+    void testOnUpdatedRollback() {
+        TransactionSynchronizationManager.clearSynchronization();
+        catalogItemSuggestIndex.onCreated(productEntity);
+        TransactionSynchronizationManager.initSynchronization();
+        productEntity.setCatalogItemName("Chá Mate");
+        productEntity.setVersion(1L);
+
+        catalogItemSuggestIndex.onUpdated(productEntity);
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertEquals(List.of(productEntity.getId()), ids(catalogItemSuggestIndex.suggest("caf", 10)));
+        assertTrue(catalogItemSuggestIndex.suggest("mate", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve remover o item excluído do índice apenas após o commit")
+    void testOnDeletedAfterCommit() {
+        TransactionSynchronizationManager.clearSynchronization();
+        catalogItemSuggestIndex.onCreated(productEntity);
+        TransactionSynchronizationManager.initSynchronization();
+
+        catalogItemSuggestIndex.onDeleted(productEntity.getId());
+
+        assertEquals(1, catalogItemSuggestIndex.size());
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+        assertEquals(0, catalogItemSuggestIndex.size());
+    }
+
+    private static void complete(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(synchronization -> {
+            if (status == TransactionSynchronization.STATUS_COMMITTED) {
+                synchronization.afterCommit();
+            }
+            synchronization.afterCompletion(status);
+        });
+    }
+
+    private static List<UUID> ids(List<SuggestIndex.Suggestion> suggestions) {
+        return suggestions.stream().map(SuggestIndex.Suggestion::id).toList();
+    }
+
+}
@@ -0,0 +1,133 @@
+package com.produtopedidoitens.api.adapters.persistence.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SuggestIndexTest {
+
+    private static final UUID COFFEE = UUID.fromString("2104a849-13c4-46f7-8e11-a7bf2504ba46");
+    private static final UUID COFFEE_MAKER = UUID.fromString("6f1c2b7a-2f0c-4a4e-9d8a-0b8f5e2c1d3e");
+    private static final UUID DELIVERY = UUID.fromString("9a8b7c6d-5e4f-4a3b-8c2d-1e0f9a8b7c6d");
+
+    private SuggestIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new SuggestIndex();
+        index.upsert(COFFEE_MAKER, "Cafeteira Elétrica", "Cafeteira para café coado", "1000200", true, 0L);
+        index.upsert(COFFEE, "Café", "Café torrado e moído", "1000100", true, 0L);
+        index.upsert(DELIVERY, "Entrega", "Entrega expressa", "1000300", true, 0L);
+    }
+
+    @Test
+    @DisplayName("Deve sugerir itens por prefixo do nome, descrição ou código, ignorando acentos")
+    void testSuggest() {
+        assertEquals(List.of(COFFEE, COFFEE_MAKER), ids(index.suggest("CAF", 10, true)));
+        assertEquals(List.of(DELIVERY), ids(index.suggest("expre", 10, true)));
+        assertEquals(List.of(COFFEE), ids(index.suggest("10001", 10, true)));
+        assertEquals(List.of(COFFEE_MAKER), ids(index.suggest("café elet", 10, true)));
+        assertEquals(List.of(COFFEE), ids(index.suggest("caf", 1, true)));
+        assertTrue(index.suggest("chá", 10, true).isEmpty());
+        assertTrue(index.suggest("  ", 10, true).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve refletir atualizações, inativações e exclusões nas sugestões")
+    void testIncrementalUpdates() {
+        index.upsert(COFFEE, "Chá Mate", "Chá gelado", "1000100", true, 1L);
+        index.upsert(COFFEE, "Café", "Versão antiga", "1000100", true, 0L);
+        index.upsert(COFFEE_MAKER, "Cafeteira Elétrica", "Cafeteira para café coado", "1000200", false, 1L);
+        index.remove(DELIVERY);
+        index.upsert(DELIVERY, "Entrega", "Entrega expressa", "1000300", true, 0L);
+
+        assertEquals(List.of(COFFEE), ids(index.suggest("cha", 10, true)));
+        assertTrue(index.suggest("caf", 10, true).isEmpty());
+        assertEquals(List.of(COFFEE_MAKER), ids(index.suggest("caf", 10, false)));
+        assertTrue(index.suggest("entr", 10, true).isEmpty());
+        assertEquals(1L, index.version(COFFEE));
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    @DisplayName("Deve manter as sugestões após consolidar o segmento incremental")
+    void testMerge() {
+        for (int i = 0; i < 5_000; i++) {
+            index.upsert(UUID.randomUUID(), "Produto " + i, "Item de carga", String.valueOf(2_000_000 + i), true, 0L);
+        }
+        assertTrue(index.needsMerge());
+
+        index.merge();
+        index.remove(COFFEE_MAKER);
+        index.upsert(COFFEE, "Café Especial", "Café em grãos", "1000100", true, 1L);
+        index.merge();
+
+        assertFalse(index.needsMerge());
+        assertEquals(List.of(COFFEE), ids(index.suggest("caf", 10, true)));
+        assertEquals(List.of(DELIVERY), ids(index.suggest("1000300", 10, true)));
+        assertEquals(10, index.suggest("produto", 10, true).size());
+        assertEquals("Produto 4999", index.suggest("produto 4999", 10, true).get(0).name());
+        assertEquals(5_002, index.size());
+    }
+
+    @Test
+    @DisplayName("Deve ordenar todos os itens encontrados, e não apenas os primeiros indexados")
+    void testSuggestRanksAllCandidates() {
+        for (int i = 0; i < 60_000; i++) {
+            index.upsert(UUID.randomUUID(), "Cafeteira Italiana " + i, "Cafeteira de alumínio", String.valueOf(2_000_000 + i), true, 0L);
+        }
+        UUID espresso = UUID.randomUUID();
+        index.upsert(espresso, "Cafe", "Café expresso", "3000000", true, 0L);
+        index.merge();
+
+        assertEquals(List.of(espresso, COFFEE), ids(index.suggest("caf", 2, true)));
+        assertEquals(List.of(espresso), ids(index.suggest("caf expr", 10, true)));
+    }
+
+    @Test
+    @DisplayName("Deve compactar os documentos removidos ou substituídos mantendo as sugestões")
+    void testCompaction() {
+        List<UUID> products = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            UUID id = UUID.randomUUID();
+            products.add(id);
+            index.upsert(id, "Produto " + i, "Item de carga", String.valueOf(2_000_000 + i), true, 0L);
+        }
+        index.merge();
+        for (int i = 0; i < products.size(); i++) {
+            if (i % 2 == 0) {
+                index.remove(products.get(i));
+            } else {
+                index.upsert(products.get(i), "Produto " + i, "Item de carga revisado", String.valueOf(2_000_000 + i), true, 1L);
+            }
+        }
+        assertTrue(index.needsMerge());
+
+        index.merge();
+
+        assertFalse(index.needsMerge());
+        assertEquals(5_003, index.size());
+        assertEquals(5_003, index.capacity());
+        assertEquals(1L, index.version(products.get(1)));
+        assertEquals(-1L, index.version(products.get(0)));
+        assertEquals(List.of(products.get(9_999)), ids(index.suggest("produto 9999", 10, true)));
+        assertTrue(index.suggest("produto 9998", 10, true).isEmpty());
+        assertEquals(List.of(COFFEE, COFFEE_MAKER), ids(index.suggest("caf", 10, true)));
+        assertEquals(10, index.suggest("revisado", 10, true).size());
+
+        index.upsert(COFFEE, "Chá Mate", "Chá gelado", "1000100", true, 1L);
+        assertEquals(List.of(COFFEE), ids(index.suggest("cha", 10, true)));
+        assertEquals(List.of(COFFEE_MAKER), ids(index.suggest("caf", 10, true)));
+    }
+
+    private static List<UUID> ids(List<SuggestIndex.Suggestion> suggestions) {
+        return suggestions.stream().map(SuggestIndex.Suggestion::id).toList();
+    }
+
+}
@@ -0,0 +1,34 @@
+package com.produtopedidoitens.api.adapters.persistence.sequences;
+
+import com.produtopedidoitens.api.adapters.config.SequenceConfiguration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Year;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import(SequenceConfiguration.class)
+@ActiveProfiles("test")
+class OrderNumberGeneratorTest {
+
+    @Autowired
+    private OrderNumberGenerator orderNumberGenerator;
+
+    @Test
+    @DisplayName("Deve gerar números de pedido distintos a partir da sequence")
+    void testNext() {
+        List<String> numbers = IntStream.range(0, 120).mapToObj(i -> orderNumberGenerator.next()).toList();
+
+        assertEquals(numbers.size(), numbers.stream().distinct().count());
+        assertTrue(numbers.get(0).matches("PED-\\d+-" + Year.now()));
+    }
+
+}
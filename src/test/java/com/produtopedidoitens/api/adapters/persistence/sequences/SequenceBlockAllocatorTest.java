@@ -0,0 +1,68 @@
+package com.produtopedidoitens.api.adapters.persistence.sequences;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.support.incrementer.DataFieldMaxValueIncrementer;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class SequenceBlockAllocatorTest {
+
+    @Test
+    @DisplayName("Deve entregar números do bloco em memória e buscar a sequence apenas ao esgotá-lo")
+    void testNextWithinBlock() {
+        DataFieldMaxValueIncrementer incrementer = mock(DataFieldMaxValueIncrementer.class);
+        when(incrementer.nextLongValue()).thenReturn(1001L, 1051L);
+        SequenceBlockAllocator allocator = new SequenceBlockAllocator(incrementer, 50);
+
+        List<Long> numbers = IntStream.range(0, 51).mapToObj(i -> allocator.next()).toList();
+
+        assertEquals(1001L, numbers.get(0));
+        assertEquals(1050L, numbers.get(49));
+        assertEquals(1051L, numbers.get(50));
+        verify(incrementer, times(2)).nextLongValue();
+    }
+
+    @Test
+    @DisplayName("Deve gerar números únicos sob concorrência")
+    void testNextConcurrent() throws Exception {
+        AtomicLong sequence = new AtomicLong(1001);
+        DataFieldMaxValueIncrementer incrementer = mock(DataFieldMaxValueIncrementer.class);
+        when(incrementer.nextLongValue()).thenAnswer(invocation -> sequence.getAndAdd(50));
+        SequenceBlockAllocator allocator = new SequenceBlockAllocator(incrementer, 50);
+
+        int threads = 16;
+        int perThread = 1000;
+        Set<Long> numbers = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            Callable<Void> task = () -> {
+                for (int i = 0; i < perThread; i++) {
+                    numbers.add(allocator.next());
+                }
+                return null;
+            };
+            List<Future<Void>> futures = executor.invokeAll(IntStream.range(0, threads).mapToObj(i -> task).toList());
+            for (Future<Void> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(threads * perThread, numbers.size());
+        verify(incrementer, times(threads * perThread / 50)).nextLongValue();
+    }
+
+}
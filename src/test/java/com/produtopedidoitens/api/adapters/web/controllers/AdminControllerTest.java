@@ -0,0 +1,159 @@
+package com.produtopedidoitens.api.adapters.web.controllers;
+
+import com.produtopedidoitens.api.adapters.web.responses.CacheStatsResponse;
+import com.produtopedidoitens.api.adapters.web.responses.IndexUsageReportResponse;
+import com.produtopedidoitens.api.adapters.web.responses.IndexUsageResponse;
+import com.produtopedidoitens.api.adapters.web.responses.OrderTotalsRepairResponse;
+import com.produtopedidoitens.api.adapters.web.responses.SlowQueryResponse;
+import com.produtopedidoitens.api.adapters.web.responses.TableScanResponse;
+import com.produtopedidoitens.api.application.port.AdminInputPort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultHandlers;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@WebMvcTest(controllers = AdminController.class)
+class AdminControllerTest {
+
+    private final String URL = "/api/v1/admin";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private AdminInputPort adminInputPort;
+
+    @Test
+    @DisplayName("Deve retornar as estatísticas dos caches")
+    void testGetCacheStats() throws Exception {
+        CacheStatsResponse stats = CacheStatsResponse.builder()
+                .name("catalogItems")
+                .size(10)
+                .hitCount(90)
+                .missCount(10)
+                .hitRate(0.9)
+                .evictionCount(2)
+                .build();
+
+        when(adminInputPort.getCacheStats()).thenReturn(List.of(stats));
+
+        mockMvc.perform(MockMvcRequestBuilders.get(URL + "/caches")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].name").value("catalogItems"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].hitCount").value(90))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].evictionCount").value(2));
+    }
+
+    @Test
+    @DisplayName("Deve iniciar o recálculo dos totais dos pedidos em segundo plano")
+    void testRepairOrderTotals() throws Exception {
+        when(adminInputPort.repairOrderTotals()).thenReturn(OrderTotalsRepairResponse.builder()
+                .status("Em execução")
+                .startedAt(LocalDateTime.of(2024, 7, 1, 10, 15, 30))
+                .build());
+
+        mockMvc.perform(MockMvcRequestBuilders.post(URL + "/order-totals:repair")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isAccepted())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.status").value("Em execução"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.processedOrders").value(0));
+    }
+
+    @Test
+    @DisplayName("Deve retornar o andamento do recálculo dos totais dos pedidos")
+    void testGetOrderTotalsRepairStatus() throws Exception {
+        when(adminInputPort.getOrderTotalsRepairStatus()).thenReturn(OrderTotalsRepairResponse.builder()
+                .status("Concluído")
+                .processedOrders(2500)
+                .updatedOrders(3)
+                .build());
+
+        mockMvc.perform(MockMvcRequestBuilders.get(URL + "/order-totals:repair")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.status").value("Concluído"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.processedOrders").value(2500))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.updatedOrders").value(3));
+    }
+
+    @Test
+    @DisplayName("Deve retornar os comandos SQL lentos registrados")
+    void testListSlowQueries() throws Exception {
+        when(adminInputPort.listSlowQueries()).thenReturn(List.of(SlowQueryResponse.builder()
+                .id(7)
+                .executedAt(LocalDateTime.now())
+                .portMethod("OrderInputPort.searchOrders")
+                .sql("select o1_0.id from tb_order o1_0 where upper(o1_0.order_number) like ? escape '!'")
+                .parameters(List.of("%PED-1001%"))
+                .durationMillis(850)
+                .batchSize(1)
+                .build()));
+
+        mockMvc.perform(MockMvcRequestBuilders.get(URL + "/slow-queries")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].portMethod").value("OrderInputPort.searchOrders"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].parameters[0]").value("%PED-1001%"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].durationMillis").value(850));
+    }
+
+    @Test
+    @DisplayName("Deve limpar os comandos SQL lentos registrados")
+    void testClearSlowQueries() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.delete(URL + "/slow-queries")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isNoContent());
+
+        verify(adminInputPort).clearSlowQueries();
+    }
+
+    @Test
+    @DisplayName("Deve retornar o uso dos índices e as leituras sequenciais das tabelas")
+    void testGetIndexUsage() throws Exception {
+        when(adminInputPort.getIndexUsage()).thenReturn(IndexUsageReportResponse.builder()
+                .available(true)
+                .tables(List.of(TableScanResponse.builder()
+                        .tableName("tborderitem")
+                        .sequentialScans(2)
+                        .sequentialTuplesRead(80000)
+                        .indexScans(97500)
+                        .liveTuples(40000)
+                        .build()))
+                .indexes(List.of(IndexUsageResponse.builder()
+                        .tableName("tborderitem")
+                        .indexName("idx_tborderitem_idorder_dthreg_id")
+                        .indexScans(97500)
+                        .tuplesRead(195000)
+                        .tuplesFetched(195000)
+                        .sizeBytes(1343488)
+                        .build()))
+                .build());
+
+        mockMvc.perform(MockMvcRequestBuilders.get(URL + "/index-usage")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.available").value(true))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.tables[0].sequentialScans").value(2))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.indexes[0].indexName").value("idx_tborderitem_idorder_dthreg_id"));
+    }
+
+}
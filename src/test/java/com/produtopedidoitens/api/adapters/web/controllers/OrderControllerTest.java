@@ -2,12 +2,18 @@ package com.produtopedidoitens.api.adapters.web.controllers;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.produtopedidoitens.api.adapters.web.projections.OrderProjection;
+import com.produtopedidoitens.api.adapters.web.requests.OrderItemBatchRequest;
+import com.produtopedidoitens.api.adapters.web.requests.OrderFilterRequest;
 import com.produtopedidoitens.api.adapters.web.requests.OrderRequest;
+import com.produtopedidoitens.api.adapters.web.responses.CursorPageResponse;
+import com.produtopedidoitens.api.adapters.web.responses.OrderItemResponse;
 import com.produtopedidoitens.api.adapters.web.responses.OrderResponse;
+import com.produtopedidoitens.api.application.domain.enums.EnumOrderStatus;
 import com.produtopedidoitens.api.application.exceptions.BadRequestException;
 import com.produtopedidoitens.api.application.exceptions.OrderNotFoundException;
 import com.produtopedidoitens.api.application.exceptions.ProductNotFoundException;
 import com.produtopedidoitens.api.application.port.OrderInputPort;
+import com.produtopedidoitens.api.application.port.OrderItemInputPort;
 import com.produtopedidoitens.api.utils.MessagesConstants;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -19,20 +25,32 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultHandlers;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 import org.springframework.web.context.WebApplicationContext;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @WebMvcTest(controllers = OrderController.class)
@@ -49,6 +67,8 @@ class OrderControllerTest {
 
     @MockBean
     private OrderInputPort orderInputPort;
+    @MockBean
+    private OrderItemInputPort orderItemInputPort;
 
     private OrderRequest orderRequest;
     private OrderResponse orderResponse;
@@ -136,22 +156,170 @@ class OrderControllerTest {
                 .andExpect(MockMvcResultMatchers.content().json("{\"message\":\"Nenhum pedido encontrado\"}"));
     }
 
+    @Test
+    @DisplayName("Deve buscar pedidos sem contagem total")
+    void testFindAllWithoutCount() throws Exception {
+        Pageable pageable = PageRequest.of(0, 10);
+        Slice<OrderProjection> projectionSlice = new SliceImpl<>(List.of(orderProjection), pageable, false);
+
+        when(orderInputPort.listOrdersWithoutCount(pageable)).thenReturn(projectionSlice);
+
+        mockMvc.perform(MockMvcRequestBuilders.get(URL + "/slice")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].id").value("f47b3b2b-4b0b-4b7e-8b3e-3b3e4b7b2b4f"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.last").value(true))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.totalElements").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("Deve buscar pedidos por cursor")
+    void testFindAllByCursor() throws Exception {
+        CursorPageResponse<OrderProjection> cursorPage = new CursorPageResponse<>(List.of(orderProjection), "proximo", 1, true);
+
+        when(orderInputPort.listOrdersAfter("anterior", 1)).thenReturn(cursorPage);
+
+        mockMvc.perform(MockMvcRequestBuilders.get(URL + "/cursor")
+                        .param("after", "anterior")
+                        .param("limit", "1")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].id").value("f47b3b2b-4b0b-4b7e-8b3e-3b3e4b7b2b4f"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.nextCursor").value("proximo"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.hasNext").value(true));
+    }
+
+    @Test
+    @DisplayName("Deve retornar um erro ao buscar pedidos com cursor inválido")
+    void testFindAllByCursorError() throws Exception {
+        when(orderInputPort.listOrdersAfter("invalido", null)).thenThrow(new BadRequestException(MessagesConstants.ERROR_INVALID_CURSOR));
+
+        mockMvc.perform(MockMvcRequestBuilders.get(URL + "/cursor")
+                        .param("after", "invalido")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Deve exportar os pedidos em NDJSON")
+    void testExportOrders() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<OrderProjection> consumer = invocation.getArgument(0);
+            consumer.accept(orderProjection);
+            consumer.accept(orderProjection);
+            return null;
+        }).when(orderInputPort).exportOrders(any());
+
+        MvcResult mvcResult = mockMvc.perform(MockMvcRequestBuilders.get(URL + "/export"))
+                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                .andReturn();
+        assertEquals(Duration.ofMinutes(10).toMillis(), mvcResult.getRequest().getAsyncContext().getTimeout());
+
+        String content = mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(mvcResult))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = content.split("\n");
+        assertEquals(2, lines.length);
+        assertEquals(orderProjection.id(), objectMapper.readValue(lines[0], OrderProjection.class).id());
+    }
+
+    @Test
+    @DisplayName("Deve cadastrar vários itens em um pedido")
+    void testCreateOrderItems() throws Exception {
+        UUID orderId = UUID.fromString("f47b3b2b-4b0b-4b7e-8b3e-3b3e4b7b2b4f");
+        List<OrderItemBatchRequest> requests = List.of(OrderItemBatchRequest.builder()
+                .quantity("10")
+                .catalogItemId("2104a849-13c4-46f7-8e11-a7bf2504ba46")
+                .build());
+        OrderItemResponse itemResponse = OrderItemResponse.builder()
+                .id(UUID.fromString("5920e4a2-4105-4af0-beec-405fddb6dbaf"))
+                .quantity(10)
+                .build();
+
+        when(orderItemInputPort.createOrderItems(orderId, requests)).thenReturn(List.of(itemResponse));
+
+        mockMvc.perform(MockMvcRequestBuilders.post(URL + "/" + orderId + "/items:batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requests)))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].id").value("5920e4a2-4105-4af0-beec-405fddb6dbaf"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].quantity").value(10));
+    }
+
+    @Test
+    @DisplayName("Deve retornar 400 ao cadastrar mais itens que o limite do lote")
+    void testCreateOrderItemsTooLarge() throws Exception {
+        List<OrderItemBatchRequest> requests = new ArrayList<>();
+        for (int i = 0; i <= OrderItemBatchRequest.MAX_ITEMS; i++) {
+            requests.add(OrderItemBatchRequest.builder().quantity("1").catalogItemId("2104a849-13c4-46f7-8e11-a7bf2504ba46").build());
+        }
+
+        mockMvc.perform(MockMvcRequestBuilders.post(URL + "/f47b3b2b-4b0b-4b7e-8b3e-3b3e4b7b2b4f/items:batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requests)))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isBadRequest())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.message").value(MessagesConstants.ERROR_ORDER_ITEMS_BATCH_TOO_LARGE));
+        verify(orderItemInputPort, never()).createOrderItems(any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve retornar 400 ao cadastrar vários itens com quantidade inválida")
+    void testCreateOrderItemsInvalidQuantity() throws Exception {
+        List<OrderItemBatchRequest> requests = List.of(OrderItemBatchRequest.builder()
+                .quantity("abc")
+                .catalogItemId("2104a849-13c4-46f7-8e11-a7bf2504ba46")
+                .build());
+
+        mockMvc.perform(MockMvcRequestBuilders.post(URL + "/f47b3b2b-4b0b-4b7e-8b3e-3b3e4b7b2b4f/items:batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requests)))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isBadRequest())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.message").value(MessagesConstants.ORDER_ITEM_QUANTITY_NUMBER));
+        verify(orderItemInputPort, never()).createOrderItems(any(), any());
+    }
+
     @Test
     @DisplayName("Deve buscar um pedido pelo id")
     void testRead() throws Exception {
+        when(orderInputPort.getOrderVersion(UUID.fromString("f47b3b2b-4b0b-4b7e-8b3e-3b3e4b7b2b4f"))).thenReturn("1");
         when(orderInputPort.getOrderById(UUID.fromString("f47b3b2b-4b0b-4b7e-8b3e-3b3e4b7b2b4f"))).thenReturn(orderProjection);
 
         mockMvc.perform(MockMvcRequestBuilders.get(URL + "/f47b3b2b-4b0b-4b7e-8b3e-3b3e4b7b2b4f")
                 .contentType(MediaType.APPLICATION_JSON))
                 .andDo(MockMvcResultHandlers.print())
                 .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, "\"f47b3b2b-4b0b-4b7e-8b3e-3b3e4b7b2b4f-1\""))
                 .andExpect(MockMvcResultMatchers.content().json(objectMapper.writeValueAsString(orderProjection)));
     }
 
+    @Test
+    @DisplayName("Deve retornar 304 ao buscar um pedido pelo id sem alteração desde a última versão")
+    void testReadNotModified() throws Exception {
+        when(orderInputPort.getOrderVersion(UUID.fromString("f47b3b2b-4b0b-4b7e-8b3e-3b3e4b7b2b4f"))).thenReturn("1");
+
+        mockMvc.perform(MockMvcRequestBuilders.get(URL + "/f47b3b2b-4b0b-4b7e-8b3e-3b3e4b7b2b4f")
+                .header(HttpHeaders.IF_NONE_MATCH, "\"f47b3b2b-4b0b-4b7e-8b3e-3b3e4b7b2b4f-1\"")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isNotModified())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, "\"f47b3b2b-4b0b-4b7e-8b3e-3b3e4b7b2b4f-1\""))
+                .andExpect(MockMvcResultMatchers.content().string(""));
+
+        verify(orderInputPort, never()).getOrderById(any());
+    }
+
     @Test
     @DisplayName("Deve retornar um erro ao buscar um pedido pelo id")
     void testReadError() throws Exception {
-        when(orderInputPort.getOrderById(UUID.fromString("f47b3b2b-4b0b-4b7e-8b3e-3b3e4b7b2b4f")))
+        when(orderInputPort.getOrderVersion(UUID.fromString("f47b3b2b-4b0b-4b7e-8b3e-3b3e4b7b2b4f")))
                 .thenThrow(new OrderNotFoundException(MessagesConstants.ERROR_NOT_FOUND_ORDER));
 
         mockMvc.perform(MockMvcRequestBuilders.get(URL + "/f47b3b2b-4b0b-4b7e-8b3e-3b3e4b7b2b4f")
@@ -210,4 +378,45 @@ class OrderControllerTest {
                 .andExpect(MockMvcResultMatchers.content().json("{\"message\":\"Erro ao deletar pedido\"}"));
     }
 
+    @Test
+    @DisplayName("Deve buscar pedidos com filtros de status, período e valor, paginados")
+    void testFilterOrders() throws Exception {
+        OrderFilterRequest filter = OrderFilterRequest.builder()
+                .status(EnumOrderStatus.OPEN)
+                .startDate(LocalDate.of(2024, 7, 1))
+                .endDate(LocalDate.of(2024, 7, 31))
+                .minTotal(new BigDecimal("100.00"))
+                .build();
+        when(orderInputPort.filterOrders(eq(filter), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(orderProjection), PageRequest.of(0, 20), 1));
+
+        mockMvc.perform(MockMvcRequestBuilders.get(URL + "/filter")
+                .param("status", "OPEN")
+                .param("startDate", "2024-07-01")
+                .param("endDate", "2024-07-31")
+                .param("minTotal", "100.00")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].id").value("f47b3b2b-4b0b-4b7e-8b3e-3b3e4b7b2b4f"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.totalElements").value(1));
+    }
+
+    @Test
+    @DisplayName("Deve buscar pedidos pelo número ordenados por similaridade")
+    void testSearchOrdersByNumber() throws Exception {
+        CursorPageResponse<OrderProjection> page = new CursorPageResponse<>(List.of(orderProjection), null, 20, false);
+
+        when(orderInputPort.searchOrdersByNumber("PED-1001", EnumOrderStatus.OPEN, null, null)).thenReturn(page);
+
+        mockMvc.perform(MockMvcRequestBuilders.get(URL + "/search")
+                .param("q", "PED-1001")
+                .param("status", "OPEN")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].id").value("f47b3b2b-4b0b-4b7e-8b3e-3b3e4b7b2b4f"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.hasNext").value(false));
+    }
+
 }
@@ -20,6 +20,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
@@ -31,7 +32,10 @@ import java.math.BigDecimal;
 import java.util.List;
 import java.util.UUID;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @WebMvcTest(controllers = OrderItemController.class)
@@ -148,19 +152,37 @@ class OrderItemControllerTest {
     @Test
     @DisplayName("Deve buscar um item de pedido pelo id")
     void testRead() throws Exception {
+        when(orderItemInputPort.getOrderItemVersion(UUID.fromString("123e4567-e89b-12d3-a456-426614174000"))).thenReturn("1");
         when(orderItemInputPort.getOrderItemById(UUID.fromString("123e4567-e89b-12d3-a456-426614174000"))).thenReturn(orderItemProjection);
 
         mockMvc.perform(MockMvcRequestBuilders.get(URL + "/123e4567-e89b-12d3-a456-426614174000")
                 .contentType(MediaType.APPLICATION_JSON))
                 .andDo(MockMvcResultHandlers.print())
                 .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, "\"123e4567-e89b-12d3-a456-426614174000-1\""))
                 .andExpect(MockMvcResultMatchers.content().json(objectMapper.writeValueAsString(orderItemProjection)));
     }
 
+    @Test
+    @DisplayName("Deve retornar 304 ao buscar um item de pedido pelo id sem alteração desde a última versão")
+    void testReadNotModified() throws Exception {
+        when(orderItemInputPort.getOrderItemVersion(UUID.fromString("123e4567-e89b-12d3-a456-426614174000"))).thenReturn("1");
+
+        mockMvc.perform(MockMvcRequestBuilders.get(URL + "/123e4567-e89b-12d3-a456-426614174000")
+                .header(HttpHeaders.IF_NONE_MATCH, "\"123e4567-e89b-12d3-a456-426614174000-1\"")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isNotModified())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, "\"123e4567-e89b-12d3-a456-426614174000-1\""))
+                .andExpect(MockMvcResultMatchers.content().string(""));
+
+        verify(orderItemInputPort, never()).getOrderItemById(any());
+    }
+
     @Test
     @DisplayName("Deve retornar erro ao buscar um item de pedido pelo id")
     void testReadError() throws Exception {
-        when(orderItemInputPort.getOrderItemById(UUID.fromString("123e4567-e89b-12d3-a456-426614174000")))
+        when(orderItemInputPort.getOrderItemVersion(UUID.fromString("123e4567-e89b-12d3-a456-426614174000")))
                 .thenThrow(new OrderNotFoundException(MessagesConstants.ERROR_ORDER_ITEM_NOT_FOUND));
 
         mockMvc.perform(MockMvcRequestBuilders.get(URL + "/123e4567-e89b-12d3-a456-426614174000")
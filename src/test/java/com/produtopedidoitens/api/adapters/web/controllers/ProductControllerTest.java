@@ -2,8 +2,11 @@ package com.produtopedidoitens.api.adapters.web.controllers;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.produtopedidoitens.api.adapters.web.projections.CatalogItemProjection;
+import com.produtopedidoitens.api.adapters.web.requests.CatalogItemFilterRequest;
 import com.produtopedidoitens.api.adapters.web.requests.CatalogItemRequest;
 import com.produtopedidoitens.api.adapters.web.responses.CatalogItemResponse;
+import com.produtopedidoitens.api.adapters.web.responses.CatalogItemSuggestionResponse;
+import com.produtopedidoitens.api.adapters.web.responses.CursorPageResponse;
 import com.produtopedidoitens.api.application.exceptions.BadRequestException;
 import com.produtopedidoitens.api.application.exceptions.ProductNotFoundException;
 import com.produtopedidoitens.api.application.port.CatalogItemInputPort;
@@ -18,6 +21,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
@@ -29,7 +33,11 @@ import java.math.BigDecimal;
 import java.util.List;
 import java.util.UUID;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @WebMvcTest(controllers = CatalogItemController.class)
@@ -136,9 +144,39 @@ class ProductControllerTest {
     @Test
     @DisplayName("Deve buscar um produto pelo id")
     void testRead() throws Exception {
+        when(catalogItemInputPort.getItemVersion(UUID.fromString("f7f6b1e3-4b7b-4b6b-8b7b-4b7b6b8b7b4b"))).thenReturn("1");
         when(catalogItemInputPort.getItemById(UUID.fromString("f7f6b1e3-4b7b-4b6b-8b7b-4b7b6b8b7b4b"))).thenReturn(catalogItemProjection);
 
         mockMvc.perform(MockMvcRequestBuilders.get(URL + "/f7f6b1e3-4b7b-4b6b-8b7b-4b7b6b8b7b4b")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, "\"f7f6b1e3-4b7b-4b6b-8b7b-4b7b6b8b7b4b-1\""))
+                .andExpect(MockMvcResultMatchers.content().json(objectMapper.writeValueAsString(catalogItemProjection)));
+    }
+
+    @Test
+    @DisplayName("Deve retornar 304 ao buscar um produto pelo id sem alteração desde a última versão")
+    void testReadNotModified() throws Exception {
+        when(catalogItemInputPort.getItemVersion(UUID.fromString("f7f6b1e3-4b7b-4b6b-8b7b-4b7b6b8b7b4b"))).thenReturn("1");
+
+        mockMvc.perform(MockMvcRequestBuilders.get(URL + "/f7f6b1e3-4b7b-4b6b-8b7b-4b7b6b8b7b4b")
+                .header(HttpHeaders.IF_NONE_MATCH, "\"f7f6b1e3-4b7b-4b6b-8b7b-4b7b6b8b7b4b-1\"")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isNotModified())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, "\"f7f6b1e3-4b7b-4b6b-8b7b-4b7b6b8b7b4b-1\""))
+                .andExpect(MockMvcResultMatchers.content().string(""));
+
+        verify(catalogItemInputPort, never()).getItemById(any());
+    }
+
+    @Test
+    @DisplayName("Deve buscar um produto pelo número do item")
+    void testReadByCatalogItemNumber() throws Exception {
+        when(catalogItemInputPort.getItemByCatalogItemNumber("1000000")).thenReturn(catalogItemProjection);
+
+        mockMvc.perform(MockMvcRequestBuilders.get(URL + "/number/1000000")
                 .contentType(MediaType.APPLICATION_JSON))
                 .andDo(MockMvcResultHandlers.print())
                 .andExpect(MockMvcResultMatchers.status().isOk())
@@ -148,7 +186,7 @@ class ProductControllerTest {
     @Test
     @DisplayName("Deve retornar um erro ao buscar um produto pelo id")
     void testReadError() throws Exception {
-        when(catalogItemInputPort.getItemById(UUID.fromString("f7f6b1e3-4b7b-4b6b-8b7b-4b7b6b8b7b4b")))
+        when(catalogItemInputPort.getItemVersion(UUID.fromString("f7f6b1e3-4b7b-4b6b-8b7b-4b7b6b8b7b4b")))
                 .thenThrow(new ProductNotFoundException(MessagesConstants.ERROR_PRODUCT_NOT_FOUND));
 
         mockMvc.perform(MockMvcRequestBuilders.get(URL + "/f7f6b1e3-4b7b-4b6b-8b7b-4b7b6b8b7b4b")
@@ -207,4 +245,86 @@ class ProductControllerTest {
                 .andExpect(MockMvcResultMatchers.content().json("{\"message\":\"Erro ao deletar produto/serviço\"}"));
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("Deve buscar produtos pelo nome ordenados por similaridade")
+    void testSearchItemsByName() throws Exception {
+        CursorPageResponse<CatalogItemProjection> page = new CursorPageResponse<>(List.of(catalogItemProjection), "cursor", 10, true);
+
+        when(catalogItemInputPort.searchItemsByName("prod", true, "anterior", 10)).thenReturn(page);
+
+        mockMvc.perform(MockMvcRequestBuilders.get(URL + "/search")
+                .param("q", "prod")
+                .param("isActive", "true")
+                .param("after", "anterior")
+                .param("limit", "10")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].id").value("f7f6b1e3-4b7b-4b6b-8b7b-4b7b6b8b7b4b"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.nextCursor").value("cursor"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.hasNext").value(true));
+    }
+
+    @Test
+    @DisplayName("Deve sugerir itens para autocompletar")
+    void testSuggestItems() throws Exception {
+        when(catalogItemInputPort.suggestItems("caf", 5)).thenReturn(List.of(CatalogItemSuggestionResponse.builder()
+                .id(catalogItemProjection.id())
+                .catalogItemName("Café")
+                .catalogItemNumber("1000100")
+                .build()));
+
+        mockMvc.perform(MockMvcRequestBuilders.get(URL + "/suggest")
+                .param("q", "caf")
+                .param("limit", "5")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].id").value("f7f6b1e3-4b7b-4b6b-8b7b-4b7b6b8b7b4b"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].catalogItemNumber").value("1000100"));
+    }
+
+    @Test
+    @DisplayName("Deve retornar os itens vinculados a itens de pedido")
+    void testFindReferencedItems() throws Exception {
+        List<UUID> ids = List.of(catalogItemProjection.id(), UUID.randomUUID());
+        when(catalogItemInputPort.findReferencedItems(ids)).thenReturn(List.of(catalogItemProjection.id()));
+
+        mockMvc.perform(MockMvcRequestBuilders.post(URL + "/referenced")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(ids)))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.length()").value(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0]").value("f7f6b1e3-4b7b-4b6b-8b7b-4b7b6b8b7b4b"));
+    }
+
+    @Test
+    @DisplayName("Deve buscar itens com filtros e paginação")
+    void testFilterItems() throws Exception {
+        CatalogItemFilterRequest filter = CatalogItemFilterRequest.builder()
+                .catalogItemName("prod")
+                .type("Produto")
+                .isActive(true)
+                .minPrice(new BigDecimal("10.00"))
+                .maxPrice(new BigDecimal("150.00"))
+                .build();
+        when(catalogItemInputPort.filterItems(eq(filter), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(catalogItemProjection), PageRequest.of(0, 10), 1));
+
+        mockMvc.perform(MockMvcRequestBuilders.get(URL + "/filter")
+                .param("catalogItemName", "prod")
+                .param("type", "Produto")
+                .param("isActive", "true")
+                .param("minPrice", "10.00")
+                .param("maxPrice", "150.00")
+                .param("page", "0")
+                .param("size", "10")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].id").value("f7f6b1e3-4b7b-4b6b-8b7b-4b7b6b8b7b4b"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.totalElements").value(1));
+    }
+
+}
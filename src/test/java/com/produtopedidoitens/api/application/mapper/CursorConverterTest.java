@@ -0,0 +1,76 @@
+package com.produtopedidoitens.api.application.mapper;
+
+import com.produtopedidoitens.api.adapters.web.requests.KeysetCursor;
+import com.produtopedidoitens.api.adapters.web.requests.SearchCursor;
+import com.produtopedidoitens.api.adapters.web.responses.CursorPageResponse;
+import com.produtopedidoitens.api.application.exceptions.BadRequestException;
+import com.produtopedidoitens.api.utils.MessagesConstants;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CursorConverterTest {
+
+    @Test
+    @DisplayName("Deve codificar e decodificar um cursor")
+    void testEncodeDecode() {
+        LocalDateTime dthreg = LocalDateTime.of(2024, 7, 1, 10, 30, 15, 123456000);
+        UUID id = UUID.fromString("f47b3b2b-4b0b-4b7e-8b3e-3b3e4b7b2b4f");
+
+        KeysetCursor cursor = CursorConverter.decode(CursorConverter.encode(dthreg, id));
+
+        assertEquals(dthreg, cursor.dthreg());
+        assertEquals(id, cursor.id());
+    }
+
+    @Test
+    @DisplayName("Deve retornar um erro ao decodificar um cursor inválido")
+    void testDecodeError() {
+        BadRequestException exception = assertThrows(BadRequestException.class, () -> CursorConverter.decode("cursor-invalido"));
+        assertEquals(MessagesConstants.ERROR_INVALID_CURSOR, exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Deve codificar e decodificar um cursor de busca preservando a distância exata")
+    void testEncodeDecodeSearch() {
+        double distance = 1 - 4.0 / 13;
+        UUID id = UUID.fromString("f47b3b2b-4b0b-4b7e-8b3e-3b3e4b7b2b4f");
+
+        SearchCursor cursor = CursorConverter.decodeSearch(CursorConverter.encodeSearch(distance, id));
+
+        assertEquals(new SearchCursor(distance, id), cursor);
+        assertThrows(BadRequestException.class, () -> CursorConverter.decodeSearch(CursorConverter.encode(LocalDateTime.now(), id)));
+    }
+
+    @Test
+    @DisplayName("Deve limitar o tamanho da página")
+    void testNormalizeLimit() {
+        assertEquals(CursorConverter.DEFAULT_LIMIT, CursorConverter.normalizeLimit(null));
+        assertEquals(1, CursorConverter.normalizeLimit(0));
+        assertEquals(CursorConverter.MAX_LIMIT, CursorConverter.normalizeLimit(1000));
+    }
+
+    @Test
+    @DisplayName("Deve montar a página e o próximo cursor a partir da linha excedente")
+    void testToCursorPage() {
+        LocalDateTime now = LocalDateTime.now();
+        List<UUID> rows = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+
+        CursorPageResponse<UUID> page = CursorConverter.toCursorPage(rows, 2, id -> now, Function.identity(), Function.identity());
+        assertEquals(2, page.content().size());
+        assertTrue(page.hasNext());
+        assertEquals(rows.get(1), CursorConverter.decode(page.nextCursor()).id());
+
+        CursorPageResponse<UUID> lastPage = CursorConverter.toCursorPage(rows, 3, id -> now, Function.identity(), Function.identity());
+        assertEquals(3, lastPage.content().size());
+        assertFalse(lastPage.hasNext());
+        assertNull(lastPage.nextCursor());
+    }
+
+}
@@ -0,0 +1,88 @@
+package com.produtopedidoitens.api.application.mapper;
+
+import com.produtopedidoitens.api.adapters.config.SequenceConfiguration;
+import com.produtopedidoitens.api.adapters.persistence.metrics.QueryCountDataSourceProxy;
+import com.produtopedidoitens.api.adapters.persistence.metrics.SlowQueryRecorder;
+import com.produtopedidoitens.api.adapters.persistence.metrics.StatementCountFixture;
+import com.produtopedidoitens.api.adapters.persistence.metrics.StatementCountFixture.Counted;
+import com.produtopedidoitens.api.adapters.persistence.repositories.CatalogItemRepository;
+import com.produtopedidoitens.api.adapters.persistence.repositories.OrderItemRepository;
+import com.produtopedidoitens.api.adapters.persistence.repositories.OrderRepository;
+import com.produtopedidoitens.api.adapters.web.projections.OrderProjection;
+import com.produtopedidoitens.api.application.domain.entities.OrderEntity;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({OrderConverter.class, SequenceConfiguration.class, QueryCountDataSourceProxy.class, SlowQueryRecorder.class})
+class OrderConverterStatementCountTest {
+
+    private static final int ORDERS = 30;
+    private static final int ITEMS_PER_ORDER = 3;
+
+    @Autowired
+    private OrderConverter orderConverter;
+    @Autowired
+    private OrderRepository orderRepository;
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+    @Autowired
+    private CatalogItemRepository catalogItemRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        StatementCountFixture.persistOrders(catalogItemRepository, orderRepository, orderItemRepository, entityManager,
+                ORDERS, ITEMS_PER_ORDER);
+    }
+
+    @Test
+    @DisplayName("Deve projetar uma página de pedidos com um número constante de comandos SQL")
+    void testConstantStatementCountRegardlessOfPageSize() {
+        long smallPage = statementsToProject(5);
+        long largePage = statementsToProject(ORDERS - 5);
+
+        assertEquals(smallPage, largePage);
+        assertTrue(largePage <= 3, "Esperado no máximo 3 comandos SQL, mas foram " + largePage);
+    }
+
+    @Test
+    @DisplayName("Deve agrupar os itens de cada pedido da página")
+    void testItemsGroupedByOrder() {
+        Page<OrderEntity> page = orderRepository.findAll(PageRequest.of(0, 10, Sort.by("dthreg", "id")));
+
+        List<OrderProjection> projections = orderConverter.toProjections(page.getContent());
+
+        assertEquals(10, projections.size());
+        projections.forEach(projection -> {
+            assertEquals(ITEMS_PER_ORDER, projection.items().size());
+            projection.items().forEach(item -> assertEquals(projection.orderNumber(), item.orderNumber()));
+        });
+    }
+
+    private long statementsToProject(int pageSize) {
+        entityManager.clear();
+
+        Counted<List<OrderProjection>> counted = StatementCountFixture.countStatements(() -> orderConverter.toProjections(
+                orderRepository.findAll(PageRequest.of(0, pageSize, Sort.by("dthreg", "id"))).getContent()));
+
+        assertEquals(pageSize, counted.result().size());
+        return counted.statements();
+    }
+
+}
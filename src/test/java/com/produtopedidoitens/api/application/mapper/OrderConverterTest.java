@@ -1,6 +1,8 @@
 package com.produtopedidoitens.api.application.mapper;
 
-import com.produtopedidoitens.api.adapters.persistence.repositories.OrderRepository;
+import com.produtopedidoitens.api.adapters.persistence.repositories.OrderItemRepository;
+import com.produtopedidoitens.api.adapters.persistence.sequences.OrderNumberGenerator;
+import com.produtopedidoitens.api.adapters.web.projections.OrderItemProjection;
 import com.produtopedidoitens.api.adapters.web.projections.OrderProjection;
 import com.produtopedidoitens.api.adapters.web.requests.OrderRequest;
 import com.produtopedidoitens.api.adapters.web.responses.OrderResponse;
@@ -18,9 +20,12 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class OrderConverterTest {
@@ -29,9 +34,9 @@ class OrderConverterTest {
     private OrderConverter orderConverter;
 
     @Mock
-    private OrderRepository orderRepository;
+    private OrderItemRepository orderItemRepository;
     @Mock
-    private OrderItemConverter orderItemConverter;
+    private OrderNumberGenerator orderNumberGenerator;
 
     private OrderEntity orderEntity;
 
@@ -60,10 +65,12 @@ class OrderConverterTest {
                 .discount("10.00")
                 .build();
 
+        when(orderNumberGenerator.next()).thenReturn("PED-1001-2024");
+
         OrderEntity result = assertDoesNotThrow(() -> orderConverter.toEntity(orderRequest));
 
         assertNotNull(result);
-        assertNotNull(result.getOrderNumber());
+        assertEquals("PED-1001-2024", result.getOrderNumber());
         assertEquals(EnumConverter.fromString(orderRequest.status(), EnumOrderStatus.class), result.getStatus());
         assertEquals(new BigDecimal("10.00"), result.getDiscount());
     }
@@ -95,4 +102,30 @@ class OrderConverterTest {
         assertEquals(orderEntity.getNetTotal(), response.netTotal());
     }
 
+    @Test
+    void testToProjections() {
+        OrderEntity otherOrder = OrderEntity.builder()
+                .id(UUID.fromString("7d3f0a1e-2b4c-4d5e-8f90-a1b2c3d4e5f6"))
+                .orderNumber("PED-989-2024")
+                .orderDate(LocalDate.now())
+                .status(EnumOrderStatus.OPEN)
+                .build();
+        OrderItemProjection item = OrderItemProjection.builder()
+                .id(UUID.fromString("06aa6986-ce44-485f-9eac-9ef944941e4e"))
+                .orderNumber(orderEntity.getOrderNumber())
+                .catalogItemName("Café")
+                .quantity(2)
+                .price(new BigDecimal("10.00"))
+                .build();
+        when(orderItemRepository.findItemProjectionsByOrderIds(List.of(orderEntity.getId(), otherOrder.getId())))
+                .thenReturn(Map.of(orderEntity.getId(), List.of(item)));
+
+        List<OrderProjection> response = assertDoesNotThrow(() -> orderConverter.toProjections(List.of(orderEntity, otherOrder)));
+
+        assertEquals(2, response.size());
+        assertEquals(List.of(item), response.get(0).items());
+        assertTrue(response.get(1).items().isEmpty());
+        verify(orderItemRepository, times(1)).findItemProjectionsByOrderIds(anyCollection());
+    }
+
 }
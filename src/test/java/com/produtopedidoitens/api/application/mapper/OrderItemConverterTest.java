@@ -15,6 +15,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
@@ -33,14 +34,16 @@ class OrderItemConverterTest {
 
     @BeforeEach
     void setUp() {
-        catalogItemEntity = CatalogItemEntity.builder().id(UUID.fromString("a4ecbe67-a74c-49b7-9662-862798ba34d4")).type(EnumCatalogItemType.PRODUCT).build();
-        orderEntity = OrderEntity.builder().id(UUID.fromString("03693fec-b9c2-4a2d-9f5e-092239b91d56")).status(EnumOrderStatus.OPEN).build();
+        catalogItemEntity = CatalogItemEntity.builder().id(UUID.fromString("a4ecbe67-a74c-49b7-9662-862798ba34d4")).price(new BigDecimal("10.05")).type(EnumCatalogItemType.PRODUCT).build();
+        orderEntity = OrderEntity.builder().id(UUID.fromString("03693fec-b9c2-4a2d-9f5e-092239b91d56")).status(EnumOrderStatus.OPEN).discount(BigDecimal.TEN).build();
 
         orderItemEntity = OrderItemEntity.builder()
                 .id(UUID.fromString("02419a68-8e55-4246-a99c-cfd817c9934d"))
                 .catalogItem(catalogItemEntity)
                 .order(orderEntity)
                 .quantity(1)
+                .price(new BigDecimal("10.05"))
+                .total(new BigDecimal("9.05"))
                 .dthreg(LocalDateTime.now())
                 .dthalt(LocalDateTime.now())
                 .version(0L)
@@ -60,6 +63,8 @@ class OrderItemConverterTest {
         assertEquals(Integer.parseInt(orderItemRequest.quantity()), response.getQuantity());
         assertEquals(catalogItemEntity.getId(), response.getCatalogItem().getId());
         assertEquals(orderEntity.getId(), response.getOrder().getId());
+        assertEquals(new BigDecimal("10.05"), response.getPrice());
+        assertEquals(new BigDecimal("9.05"), response.getTotal());
     }
 
     @Test
@@ -70,6 +75,8 @@ class OrderItemConverterTest {
         assertEquals(orderItemEntity.getId(), response.id());
         assertEquals(orderItemEntity.getQuantity(), response.quantity());
         assertEquals(orderItemEntity.getCatalogItem().getCatalogItemName(), response.catalogItemName());
+        assertEquals(orderItemEntity.getPrice(), response.price());
+        assertEquals(orderItemEntity.getTotal(), response.total());
     }
 
     @Test
@@ -1,5 +1,6 @@
 package com.produtopedidoitens.api.application.mapper;
 
+import com.produtopedidoitens.api.adapters.persistence.sequences.CatalogItemNumberGenerator;
 import com.produtopedidoitens.api.adapters.web.projections.CatalogItemProjection;
 import com.produtopedidoitens.api.adapters.web.requests.CatalogItemRequest;
 import com.produtopedidoitens.api.adapters.web.responses.CatalogItemResponse;
@@ -10,6 +11,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
+import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
@@ -17,6 +19,7 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
 
 @Slf4j
 @ExtendWith(MockitoExtension.class)
@@ -25,6 +28,9 @@ class ProductConverterTest {
     @InjectMocks
     private ProductConverter productConverter;
 
+    @Mock
+    private CatalogItemNumberGenerator catalogItemNumberGenerator;
+
     private CatalogItemEntity productEntity;
 
     @BeforeEach
@@ -50,9 +56,12 @@ class ProductConverterTest {
                 .isActive("true")
                 .build();
 
+        when(catalogItemNumberGenerator.next()).thenReturn("1000000");
+
         CatalogItemEntity response = assertDoesNotThrow(() -> productConverter.toEntity(catalogItemRequest));
 
         assertNotNull(response);
+        assertEquals("1000000", response.getCatalogItemNumber());
         assertEquals(productEntity.getCatalogItemName(), response.getCatalogItemName());
         assertEquals(productEntity.getPrice(), response.getPrice());
         assertEquals(productEntity.getType(), response.getType());
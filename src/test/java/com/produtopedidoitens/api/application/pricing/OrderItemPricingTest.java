@@ -0,0 +1,81 @@
+package com.produtopedidoitens.api.application.pricing;
+
+import com.produtopedidoitens.api.application.domain.entities.CatalogItemEntity;
+import com.produtopedidoitens.api.application.domain.entities.OrderItemEntity;
+import com.produtopedidoitens.api.application.domain.enums.EnumCatalogItemType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderItemPricingTest {
+
+    @Test
+    @DisplayName("Deve arredondar divisões inteiras para o par mais próximo")
+    void testRoundHalfEven() {
+        assertEquals(12L, OrderItemPricing.roundHalfEven(125L, 10L));
+        assertEquals(14L, OrderItemPricing.roundHalfEven(135L, 10L));
+        assertEquals(13L, OrderItemPricing.roundHalfEven(126L, 10L));
+        assertEquals(12L, OrderItemPricing.roundHalfEven(124L, 10L));
+        assertEquals(-12L, OrderItemPricing.roundHalfEven(-125L, 10L));
+        assertEquals(-14L, OrderItemPricing.roundHalfEven(-135L, 10L));
+    }
+
+    @Test
+    @DisplayName("Deve aplicar o desconto apenas aos produtos")
+    void testNetCents() {
+        assertEquals(113L, OrderItemPricing.netCents(125L, 1, EnumCatalogItemType.PRODUCT, 1000L));
+        assertEquals(1470L, OrderItemPricing.netCents(735L, 2, EnumCatalogItemType.SERVICE, 1000L));
+        assertEquals(1250L, OrderItemPricing.toBasisPoints(new BigDecimal("12.5")));
+        assertEquals(0L, OrderItemPricing.toBasisPoints(null));
+        assertEquals(new BigDecimal("1.13"), OrderItemPricing.fromCents(113L));
+    }
+
+    @Test
+    @DisplayName("Deve produzir os mesmos valores das regras de cálculo em BigDecimal")
+    void testSameResultsAsBigDecimalRules() {
+        List<BigDecimal> discounts = List.of(BigDecimal.ZERO, BigDecimal.TEN, new BigDecimal("12.5"), new BigDecimal("33.33"),
+                new BigDecimal("7.125"), new BigDecimal("100"));
+        for (BigDecimal discount : discounts) {
+            long discountBasisPoints = OrderItemPricing.toBasisPoints(discount);
+            for (long priceCents = 1; priceCents <= 2_000; priceCents += 7) {
+                BigDecimal price = BigDecimal.valueOf(priceCents, 2);
+                for (int quantity = 1; quantity <= 25; quantity++) {
+                    for (EnumCatalogItemType type : EnumCatalogItemType.values()) {
+                        BigDecimal expected = bigDecimalNetTotal(price, quantity, type, discount);
+                        BigDecimal actual = OrderItemPricing.fromCents(OrderItemPricing.netCents(priceCents, quantity, type, discountBasisPoints));
+                        assertEquals(expected, actual, () -> price + " x " + type + " com desconto " + discount);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Deve recalcular o total do item usando o preço do catálogo quando o item não tiver preço gravado")
+    void testReprice() {
+        OrderItemEntity entity = OrderItemEntity.builder()
+                .quantity(3)
+                .catalogItem(CatalogItemEntity.builder().price(new BigDecimal("21.90")).type(EnumCatalogItemType.PRODUCT).build())
+                .build();
+
+        OrderItemPricing.reprice(entity, 1000L);
+
+        assertEquals(new BigDecimal("21.90"), entity.getPrice());
+        assertEquals(new BigDecimal("59.13"), entity.getTotal());
+    }
+
+    private static BigDecimal bigDecimalNetTotal(BigDecimal price, int quantity, EnumCatalogItemType type, BigDecimal discount) {
+        BigDecimal discountPercent = discount.divide(BigDecimal.valueOf(100.00), 4, RoundingMode.HALF_EVEN);
+        BigDecimal netTotal = price.multiply(BigDecimal.valueOf(quantity)).setScale(2, RoundingMode.HALF_EVEN);
+        if (EnumCatalogItemType.PRODUCT.equals(type)) {
+            netTotal = netTotal.subtract(netTotal.multiply(discountPercent).setScale(2, RoundingMode.HALF_EVEN));
+        }
+        return netTotal;
+    }
+
+}
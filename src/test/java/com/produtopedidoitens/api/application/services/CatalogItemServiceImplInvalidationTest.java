@@ -0,0 +1,96 @@
+package com.produtopedidoitens.api.application.services;
+
+import com.produtopedidoitens.api.adapters.persistence.cache.CacheInvalidationBus;
+import com.produtopedidoitens.api.adapters.persistence.cache.CatalogItemCache;
+import com.produtopedidoitens.api.adapters.persistence.repositories.CatalogItemRepository;
+import com.produtopedidoitens.api.adapters.persistence.repositories.ReferentialUsageRepository;
+import com.produtopedidoitens.api.adapters.persistence.repositories.TrigramSearchRepository;
+import com.produtopedidoitens.api.adapters.persistence.search.CatalogItemSuggestIndex;
+import com.produtopedidoitens.api.adapters.persistence.search.SuggestIndex;
+import com.produtopedidoitens.api.adapters.persistence.sequences.CatalogItemNumberGenerator;
+import com.produtopedidoitens.api.adapters.web.requests.CatalogItemRequest;
+import com.produtopedidoitens.api.adapters.web.responses.CatalogItemResponse;
+import com.produtopedidoitens.api.application.domain.entities.CatalogItemEntity;
+import com.produtopedidoitens.api.application.domain.enums.EnumCatalogItemType;
+import com.produtopedidoitens.api.application.mapper.ProductConverter;
+import com.produtopedidoitens.api.application.validators.CatalogItemValidator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({CatalogItemServiceImpl.class, CatalogItemCache.class, ProductConverter.class, CatalogItemValidator.class,
+        ReferentialUsageRepository.class, TrigramSearchRepository.class, CatalogItemSuggestIndex.class})
+class CatalogItemServiceImplInvalidationTest {
+
+    @Autowired
+    private CatalogItemServiceImpl catalogItemServiceImpl;
+    @Autowired
+    private CatalogItemRepository catalogItemRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @MockBean
+    private CacheInvalidationBus cacheInvalidationBus;
+    @MockBean
+    private CatalogItemNumberGenerator catalogItemNumberGenerator;
+
+    private CatalogItemSuggestIndex otherNode;
+    private CatalogItemEntity coffee;
+
+    @BeforeEach
+    void setUp() {
+        coffee = catalogItemRepository.saveAndFlush(CatalogItemEntity.builder()
+                .catalogItemName("Café")
+                .catalogItemDescription("Café torrado")
+                .catalogItemNumber("1000100")
+                .price(BigDecimal.TEN)
+                .type(EnumCatalogItemType.PRODUCT)
+                .isActive(true)
+                .build());
+        otherNode = new CatalogItemSuggestIndex(jdbcTemplate, catalogItemRepository, cacheInvalidationBus);
+        otherNode.onInvalidation(coffee.getId(), coffee.getVersion());
+    }
+
+    @AfterEach
+    void tearDown() {
+        otherNode.shutdown();
+    }
+
+    @Test
+    @DisplayName("Deve publicar a nova versão do item atualizado para que as outras instâncias o reindexem")
+    void testUpdatePublishesNewVersion() {
+        long previousVersion = coffee.getVersion();
+        CatalogItemRequest request = CatalogItemRequest.builder()
+                .catalogItemName("Chá Mate")
+                .catalogItemDescription("Chá gelado")
+                .build();
+
+        CatalogItemResponse response = catalogItemServiceImpl.updateCatalogItem(coffee.getId(), request);
+
+        ArgumentCaptor<Long> version = ArgumentCaptor.forClass(Long.class);
+        verify(cacheInvalidationBus).publish(eq(CatalogItemCache.ENTITY), eq(coffee.getId()), version.capture());
+        assertEquals(previousVersion + 1, version.getValue());
+        assertEquals(version.getValue(), response.version());
+
+        otherNode.onInvalidation(coffee.getId(), version.getValue());
+
+        assertEquals(List.of(coffee.getId()), otherNode.suggest("cha", 10).stream().map(SuggestIndex.Suggestion::id).toList());
+        assertTrue(otherNode.suggest("caf", 10).isEmpty());
+    }
+
+}
@@ -1,17 +1,27 @@
 package com.produtopedidoitens.api.application.services;
 
+import com.produtopedidoitens.api.adapters.persistence.cache.CatalogItemCache;
 import com.produtopedidoitens.api.adapters.persistence.repositories.CatalogItemRepository;
-import com.produtopedidoitens.api.adapters.persistence.repositories.OrderItemRepository;
+import com.produtopedidoitens.api.adapters.persistence.repositories.ReferentialUsageRepository;
+import com.produtopedidoitens.api.adapters.persistence.repositories.TrigramSearchRepository;
+import com.produtopedidoitens.api.adapters.persistence.repositories.TrigramSearchRepository.SearchHit;
+import com.produtopedidoitens.api.adapters.persistence.search.CatalogItemSuggestIndex;
+import com.produtopedidoitens.api.adapters.persistence.search.SuggestIndex;
 import com.produtopedidoitens.api.adapters.web.projections.CatalogItemProjection;
+import com.produtopedidoitens.api.adapters.web.requests.CatalogItemFilterRequest;
 import com.produtopedidoitens.api.adapters.web.requests.CatalogItemRequest;
+import com.produtopedidoitens.api.adapters.web.requests.SearchCursor;
 import com.produtopedidoitens.api.adapters.web.responses.CatalogItemResponse;
+import com.produtopedidoitens.api.adapters.web.responses.CatalogItemSuggestionResponse;
+import com.produtopedidoitens.api.adapters.web.responses.CursorPageResponse;
 import com.produtopedidoitens.api.application.domain.entities.CatalogItemEntity;
 import com.produtopedidoitens.api.application.domain.enums.EnumCatalogItemType;
 import com.produtopedidoitens.api.application.exceptions.BadRequestException;
+import com.produtopedidoitens.api.application.exceptions.ProductNotFoundException;
+import com.produtopedidoitens.api.application.mapper.CursorConverter;
 import com.produtopedidoitens.api.application.mapper.ProductConverter;
 import com.produtopedidoitens.api.application.validators.CatalogItemValidator;
 import com.produtopedidoitens.api.utils.MessagesConstants;
-import com.querydsl.core.types.Predicate;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -19,8 +29,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -40,11 +54,17 @@ class CatalogItemServiceImplTest {
     @Mock
     private CatalogItemRepository catalogItemRepository;
     @Mock
+    private CatalogItemCache catalogItemCache;
+    @Mock
     private ProductConverter productConverter;
     @Mock
-    private OrderItemRepository orderItemRepository;
+    private ReferentialUsageRepository referentialUsageRepository;
     @Mock
     private CatalogItemValidator catalogItemValidator;
+    @Mock
+    private TrigramSearchRepository trigramSearchRepository;
+    @Mock
+    private CatalogItemSuggestIndex catalogItemSuggestIndex;
 
     private CatalogItemRequest catalogItemRequest;
     private CatalogItemResponse catalogItemResponse;
@@ -141,6 +161,19 @@ class CatalogItemServiceImplTest {
         assertEquals(MessagesConstants.ERROR_PRODUCT_NOT_FOUND, exception.getMessage());
     }
 
+    @Test
+    @DisplayName("Deve listar produtos por cursor")
+    void testListItemsAfter() {
+        when(catalogItemRepository.findFirstKeysetPage(Limit.of(CursorConverter.DEFAULT_LIMIT + 1))).thenReturn(List.of(productEntity));
+        when(productConverter.toProjection(productEntity)).thenReturn(catalogItemProjection);
+
+        CursorPageResponse<CatalogItemProjection> response = assertDoesNotThrow(() -> productServiceImpl.listItemsAfter(null, null));
+        assertEquals(List.of(catalogItemProjection), response.content());
+        assertEquals(CursorConverter.DEFAULT_LIMIT, response.limit());
+        assertFalse(response.hasNext());
+        assertNull(response.nextCursor());
+    }
+
     @Test
     @DisplayName("Deve retornar um produto pelo id")
     void testReadSuccess() {
@@ -157,6 +190,26 @@ class CatalogItemServiceImplTest {
         verify(productConverter).toProjection(productEntity);
     }
 
+    @Test
+    @DisplayName("Deve retornar um produto pelo número do item")
+    void testReadByCatalogItemNumber() {
+        when(catalogItemRepository.findByCatalogItemNumber("1000000")).thenReturn(Optional.of(productEntity));
+        when(productConverter.toProjection(productEntity)).thenReturn(catalogItemProjection);
+
+        CatalogItemProjection response = assertDoesNotThrow(() -> productServiceImpl.getItemByCatalogItemNumber("1000000"));
+        assertEquals(catalogItemProjection, response);
+        verify(catalogItemRepository).findByCatalogItemNumber("1000000");
+    }
+
+    @Test
+    @DisplayName("Deve retornar um erro ao buscar um produto pelo número do item")
+    void testReadByCatalogItemNumberError() {
+        when(catalogItemRepository.findByCatalogItemNumber("1000000")).thenReturn(Optional.empty());
+
+        Exception exception = assertThrows(ProductNotFoundException.class, () -> productServiceImpl.getItemByCatalogItemNumber("1000000"));
+        assertEquals(MessagesConstants.ERROR_PRODUCT_NOT_FOUND, exception.getMessage());
+    }
+
     @Test
     @DisplayName("Deve retornar um erro ao buscar um produto pelo id")
     void testReadError() {
@@ -166,11 +219,24 @@ class CatalogItemServiceImplTest {
         assertEquals(MessagesConstants.ERROR_PRODUCT_NOT_FOUND, exception.getMessage());
     }
 
+    @Test
+    @DisplayName("Deve retornar a versão de um produto pelo id")
+    void testGetItemVersion() {
+        when(catalogItemRepository.findVersionById(productEntity.getId())).thenReturn(Optional.of("1"));
+
+        assertEquals("1", assertDoesNotThrow(() -> productServiceImpl.getItemVersion(productEntity.getId())));
+
+        when(catalogItemRepository.findVersionById(productEntity.getId())).thenReturn(Optional.empty());
+
+        Exception exception = assertThrows(Exception.class, () -> productServiceImpl.getItemVersion(productEntity.getId()));
+        assertEquals(MessagesConstants.ERROR_PRODUCT_NOT_FOUND, exception.getMessage());
+    }
+
     @Test
     @DisplayName("Deve atualizar um produto com sucesso")
     void testUpdate() {
         when(catalogItemRepository.findById(productEntity.getId())).thenReturn(Optional.of(productEntity));
-        when(catalogItemRepository.save(productEntity)).thenReturn(productEntity);
+        when(catalogItemRepository.saveAndFlush(productEntity)).thenReturn(productEntity);
         when(productConverter.toResponse(productEntity)).thenReturn(catalogItemResponse);
 
         CatalogItemResponse response = assertDoesNotThrow(() -> productServiceImpl.updateCatalogItem(productEntity.getId(), catalogItemRequest));
@@ -180,7 +246,8 @@ class CatalogItemServiceImplTest {
         assertEquals(catalogItemResponse.type(), response.type());
         assertEquals(catalogItemResponse.isActive(), response.isActive());
         verify(catalogItemRepository).findById(productEntity.getId());
-        verify(catalogItemRepository).save(productEntity);
+        verify(catalogItemRepository).saveAndFlush(productEntity);
+        verify(catalogItemCache).invalidate(productEntity.getId(), productEntity.getVersion());
         verify(productConverter).toResponse(productEntity);
     }
 
@@ -193,7 +260,7 @@ class CatalogItemServiceImplTest {
         assertEquals(MessagesConstants.ERROR_PRODUCT_NOT_FOUND, exception.getMessage());
 
         when(catalogItemRepository.findById(productEntity.getId())).thenReturn(Optional.of(productEntity));
-        when(catalogItemRepository.save(productEntity)).thenThrow(new BadRequestException(MessagesConstants.ERROR_UPDATE_PRODUCT));
+        when(catalogItemRepository.saveAndFlush(productEntity)).thenThrow(new BadRequestException(MessagesConstants.ERROR_UPDATE_PRODUCT));
 
         exception = assertThrows(Exception.class, () -> productServiceImpl.updateCatalogItem(productEntity.getId(), catalogItemRequest));
         assertEquals(MessagesConstants.ERROR_UPDATE_PRODUCT, exception.getMessage());
@@ -207,6 +274,7 @@ class CatalogItemServiceImplTest {
         assertDoesNotThrow(() -> productServiceImpl.deleteCatalogItem(productEntity.getId()));
         verify(catalogItemRepository).findById(productEntity.getId());
         verify(catalogItemRepository).delete(productEntity);
+        verify(catalogItemCache).invalidate(productEntity.getId(), null);
     }
 
     @Test
@@ -225,16 +293,135 @@ class CatalogItemServiceImplTest {
     }
 
     @Test
-    @DisplayName("Deve buscar produtos com filtros")
-    void testGetItemsWithFilters() {
-        when(catalogItemRepository.findAll(any(Predicate.class))).thenReturn(List.of(productEntity));
+    @DisplayName("Deve impedir a exclusão de um produto vinculado a itens de pedido")
+    void testDeleteReferencedItem() {
+        when(catalogItemRepository.findById(productEntity.getId())).thenReturn(Optional.of(productEntity));
+        when(referentialUsageRepository.isCatalogItemReferenced(productEntity.getId())).thenReturn(true);
+
+        Exception exception = assertThrows(Exception.class, () -> productServiceImpl.deleteCatalogItem(productEntity.getId()));
+        assertEquals(MessagesConstants.ERROR_PRODUCT_ASSOCIATED_ORDER_ITEM, exception.getMessage());
+        verify(catalogItemRepository, never()).delete(productEntity);
+    }
+
+    @Test
+    @DisplayName("Deve retornar os produtos vinculados a itens de pedido")
+    void testFindReferencedItems() {
+        UUID other = UUID.randomUUID();
+        when(referentialUsageRepository.findReferencedCatalogItems(List.of(productEntity.getId(), other)))
+                .thenReturn(List.of(productEntity.getId()));
+
+        List<UUID> referenced = productServiceImpl.findReferencedItems(List.of(productEntity.getId(), other));
+
+        assertEquals(List.of(productEntity.getId()), referenced);
+    }
+
+    @Test
+    @DisplayName("Deve buscar produtos com filtros ordenando pelo preço por padrão")
+    void testFilterItems() {
+        CatalogItemFilterRequest filter = CatalogItemFilterRequest.builder()
+                .catalogItemName("prod")
+                .type("Produto")
+                .isActive(true)
+                .minPrice(BigDecimal.ONE)
+                .maxPrice(BigDecimal.valueOf(200))
+                .build();
+        Pageable expectedPageable = PageRequest.of(0, 10, Sort.by("price", "id"));
+        when(catalogItemRepository.findProjections(any(), eq(expectedPageable)))
+                .thenReturn(new PageImpl<>(List.of(catalogItemProjection), expectedPageable, 1));
+
+        Page<CatalogItemProjection> result = productServiceImpl.filterItems(filter, PageRequest.of(0, 10));
+
+        assertEquals(List.of(catalogItemProjection), result.getContent());
+        assertEquals(1, result.getTotalElements());
+        verify(catalogItemRepository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("Deve retornar um erro ao buscar produtos com intervalo de preço ou ordenação inválidos")
+    void testFilterItemsInvalid() {
+        CatalogItemFilterRequest invalidRange = CatalogItemFilterRequest.builder()
+                .minPrice(BigDecimal.TEN)
+                .maxPrice(BigDecimal.ONE)
+                .build();
+        CatalogItemFilterRequest empty = CatalogItemFilterRequest.builder().build();
+        PageRequest unsortable = PageRequest.of(0, 10, Sort.by("catalogItemDescription"));
+
+        BadRequestException rangeException = assertThrows(BadRequestException.class,
+                () -> productServiceImpl.filterItems(invalidRange, PageRequest.of(0, 10)));
+        BadRequestException sortException = assertThrows(BadRequestException.class,
+                () -> productServiceImpl.filterItems(empty, unsortable));
+
+        assertEquals(MessagesConstants.ERROR_INVALID_FILTER_RANGE, rangeException.getMessage());
+        assertEquals(MessagesConstants.ERROR_INVALID_SORT, sortException.getMessage());
+        verifyNoInteractions(catalogItemRepository);
+    }
+
+    @Test
+    @DisplayName("Deve buscar produtos pelo nome mantendo a ordem de similaridade")
+    void testSearchItemsByName() {
+        CatalogItemEntity otherEntity = CatalogItemEntity.builder()
+                .id(UUID.fromString("a47b3b2b-3b1b-4b3b-8b3b-3b1b3b1b3b1b"))
+                .catalogItemName("Product Plus")
+                .build();
+        CatalogItemProjection otherProjection = CatalogItemProjection.builder()
+                .id(otherEntity.getId())
+                .catalogItemName("Product Plus")
+                .build();
+        SearchCursor after = new SearchCursor(0.25, UUID.randomUUID());
+
+        when(trigramSearchRepository.searchCatalogItems("prod", true, after, 3))
+                .thenReturn(List.of(new SearchHit(productEntity.getId(), 0.5), new SearchHit(otherEntity.getId(), 0.75),
+                        new SearchHit(UUID.randomUUID(), 0.8)));
+        when(catalogItemRepository.findAllById(List.of(productEntity.getId(), otherEntity.getId())))
+                .thenReturn(List.of(otherEntity, productEntity));
+        when(productConverter.toProjection(productEntity)).thenReturn(catalogItemProjection);
+        when(productConverter.toProjection(otherEntity)).thenReturn(otherProjection);
+
+        CursorPageResponse<CatalogItemProjection> result = productServiceImpl.searchItemsByName("prod", true,
+                CursorConverter.encodeSearch(after.distance(), after.id()), 2);
+
+        assertEquals(List.of(catalogItemProjection, otherProjection), result.content());
+        assertTrue(result.hasNext());
+        assertEquals(new SearchCursor(0.75, otherEntity.getId()), CursorConverter.decodeSearch(result.nextCursor()));
+    }
+
+    @Test
+    @DisplayName("Deve retornar uma página vazia ao buscar produtos com termo muito curto")
+    void testSearchItemsByNameShortTerm() {
+        CursorPageResponse<CatalogItemProjection> result = productServiceImpl.searchItemsByName(" p ", null, null, 10);
+
+        assertTrue(result.content().isEmpty());
+        assertFalse(result.hasNext());
+        verifyNoInteractions(trigramSearchRepository);
+    }
+
+    @Test
+    @DisplayName("Deve sugerir produtos a partir do índice em memória sem consultar o banco")
+    void testSuggestItems() {
+        UUID id = UUID.randomUUID();
+        when(catalogItemSuggestIndex.isReady()).thenReturn(true);
+        when(catalogItemSuggestIndex.suggest("caf", 50)).thenReturn(List.of(new SuggestIndex.Suggestion(id, "Café", "1000100")));
+
+        List<CatalogItemSuggestionResponse> result = productServiceImpl.suggestItems("caf", 500);
+
+        assertEquals(List.of(new CatalogItemSuggestionResponse(id, "Café", "1000100")), result);
+        verifyNoInteractions(catalogItemRepository, trigramSearchRepository);
+    }
+
+    @Test
+    @DisplayName("Deve consultar o banco enquanto o índice de sugestões estiver em carregamento")
+    void testSuggestItemsIndexLoading() {
+        when(catalogItemSuggestIndex.isReady()).thenReturn(false);
+        when(trigramSearchRepository.searchCatalogItems("prod", true, null, 11))
+                .thenReturn(List.of(new SearchHit(productEntity.getId(), 0.0)));
+        when(catalogItemRepository.findAllById(List.of(productEntity.getId()))).thenReturn(List.of(productEntity));
+        when(productConverter.toProjection(productEntity)).thenReturn(catalogItemProjection);
 
-        List<CatalogItemEntity> result = productServiceImpl.getItemsWithFilters("Test", true);
+        List<CatalogItemSuggestionResponse> result = productServiceImpl.suggestItems("prod", null);
 
-        assertNotNull(result);
         assertEquals(1, result.size());
-        assertEquals("Product", result.get(0).getCatalogItemName());
-        assertEquals(true, result.get(0).getIsActive());
+        assertEquals(catalogItemProjection.id(), result.get(0).id());
+        verify(catalogItemSuggestIndex, never()).suggest(anyString(), anyInt());
     }
 
-}
\ No newline at end of file
+}
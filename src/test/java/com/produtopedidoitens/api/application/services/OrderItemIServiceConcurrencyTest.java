@@ -0,0 +1,144 @@
+package com.produtopedidoitens.api.application.services;
+
+import com.produtopedidoitens.api.adapters.persistence.cache.CacheInvalidationBus;
+import com.produtopedidoitens.api.adapters.persistence.cache.CatalogItemCache;
+import com.produtopedidoitens.api.adapters.persistence.repositories.CatalogItemRepository;
+import com.produtopedidoitens.api.adapters.persistence.repositories.OrderItemRepository;
+import com.produtopedidoitens.api.adapters.persistence.repositories.OrderRepository;
+import com.produtopedidoitens.api.adapters.persistence.repositories.OrderTotalsRepository;
+import com.produtopedidoitens.api.adapters.web.requests.OrderItemRequest;
+import com.produtopedidoitens.api.application.domain.entities.CatalogItemEntity;
+import com.produtopedidoitens.api.application.domain.entities.OrderEntity;
+import com.produtopedidoitens.api.application.domain.enums.EnumCatalogItemType;
+import com.produtopedidoitens.api.application.domain.enums.EnumOrderStatus;
+import com.produtopedidoitens.api.application.mapper.OrderItemConverter;
+import com.produtopedidoitens.api.application.validators.OrderItemValidator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({OrderItemIServiceImpl.class, OrderItemConverter.class, OrderItemValidator.class, CatalogItemCache.class,
+        CacheInvalidationBus.class, OrderTotalsRepository.class})
+class OrderItemIServiceConcurrencyTest {
+
+    private static final int THREADS = 64;
+
+    @Autowired
+    private OrderItemIServiceImpl orderItemIServiceImpl;
+    @Autowired
+    private OrderRepository orderRepository;
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+    @Autowired
+    private CatalogItemRepository catalogItemRepository;
+
+    private OrderEntity orderEntity;
+    private CatalogItemEntity productEntity;
+    private CatalogItemEntity serviceEntity;
+
+    @BeforeEach
+    void setUp() {
+        productEntity = catalogItemRepository.save(CatalogItemEntity.builder()
+                .catalogItemName("Café")
+                .catalogItemDescription("Café torrado e moído")
+                .price(BigDecimal.valueOf(21.90))
+                .type(EnumCatalogItemType.PRODUCT)
+                .isActive(true)
+                .build());
+        serviceEntity = catalogItemRepository.save(CatalogItemEntity.builder()
+                .catalogItemName("Entrega")
+                .catalogItemDescription("Entrega expressa")
+                .price(BigDecimal.valueOf(7.35))
+                .type(EnumCatalogItemType.SERVICE)
+                .isActive(true)
+                .build());
+        orderEntity = orderRepository.save(OrderEntity.builder()
+                .orderNumber("PED-CONC-2024")
+                .orderDate(LocalDate.now())
+                .status(EnumOrderStatus.OPEN)
+                .items(new ArrayList<>())
+                .grossTotal(BigDecimal.ZERO)
+                .discount(BigDecimal.TEN)
+                .netTotal(BigDecimal.ZERO)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderItemRepository.deleteAll();
+        orderRepository.deleteAll();
+        catalogItemRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Deve manter os totais do pedido exatos com inserções concorrentes de itens")
+    void testConcurrentCreateOrderItem() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < THREADS; i++) {
+                CatalogItemEntity catalogItem = i % 2 == 0 ? productEntity : serviceEntity;
+                OrderItemRequest request = OrderItemRequest.builder()
+                        .quantity(String.valueOf(i % 5 + 1))
+                        .catalogItemId(catalogItem.getId().toString())
+                        .orderId(orderEntity.getId().toString())
+                        .build();
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return orderItemIServiceImpl.createOrderItem(request);
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                assertDoesNotThrow(() -> future.get(60, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        BigDecimal expectedGross = BigDecimal.ZERO;
+        BigDecimal expectedNet = BigDecimal.ZERO;
+        for (int i = 0; i < THREADS; i++) {
+            BigDecimal quantity = BigDecimal.valueOf(i % 5 + 1);
+            if (i % 2 == 0) {
+                BigDecimal gross = productEntity.getPrice().multiply(quantity);
+                expectedGross = expectedGross.add(gross);
+                expectedNet = expectedNet.add(gross.subtract(gross.multiply(new BigDecimal("0.10"))));
+            } else {
+                BigDecimal gross = serviceEntity.getPrice().multiply(quantity);
+                expectedGross = expectedGross.add(gross);
+                expectedNet = expectedNet.add(gross);
+            }
+        }
+
+        OrderEntity saved = orderRepository.findById(orderEntity.getId()).orElseThrow();
+        assertEquals(THREADS, orderItemRepository.count());
+        assertEquals(0, expectedGross.compareTo(saved.getGrossTotal()));
+        assertEquals(0, expectedNet.compareTo(saved.getNetTotal()));
+        assertEquals(THREADS, saved.getVersion());
+    }
+
+}
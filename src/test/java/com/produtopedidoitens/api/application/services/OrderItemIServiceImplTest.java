@@ -1,10 +1,12 @@
 package com.produtopedidoitens.api.application.services;
 
-import com.produtopedidoitens.api.adapters.persistence.repositories.CatalogItemRepository;
+import com.produtopedidoitens.api.adapters.persistence.cache.CatalogItemCache;
 import com.produtopedidoitens.api.adapters.persistence.repositories.OrderItemRepository;
 import com.produtopedidoitens.api.adapters.persistence.repositories.OrderRepository;
+import com.produtopedidoitens.api.adapters.persistence.repositories.OrderTotalsRepository;
 import com.produtopedidoitens.api.adapters.web.projections.OrderByOrderNumber;
 import com.produtopedidoitens.api.adapters.web.projections.OrderItemProjection;
+import com.produtopedidoitens.api.adapters.web.requests.OrderItemBatchRequest;
 import com.produtopedidoitens.api.adapters.web.requests.OrderItemRequest;
 import com.produtopedidoitens.api.adapters.web.requests.OrderItemUpdateRequest;
 import com.produtopedidoitens.api.adapters.web.responses.CatalogItemResponse;
@@ -15,6 +17,7 @@ import com.produtopedidoitens.api.application.domain.entities.OrderItemEntity;
 import com.produtopedidoitens.api.application.domain.enums.EnumCatalogItemType;
 import com.produtopedidoitens.api.application.domain.enums.EnumOrderStatus;
 import com.produtopedidoitens.api.application.exceptions.BadRequestException;
+import com.produtopedidoitens.api.application.exceptions.ProductNotFoundException;
 import com.produtopedidoitens.api.application.mapper.OrderItemConverter;
 import com.produtopedidoitens.api.application.validators.OrderItemValidator;
 import com.produtopedidoitens.api.utils.MessagesConstants;
@@ -23,6 +26,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
@@ -33,8 +37,11 @@ import org.springframework.data.domain.PageRequest;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -50,12 +57,14 @@ class OrderItemIServiceImplTest {
     @Mock
     private OrderItemRepository orderItemRepository;
     @Mock
-    private CatalogItemRepository catalogItemRepository;
+    private CatalogItemCache catalogItemCache;
     @Mock
     private OrderItemConverter orderItemConverter;
     @Mock
     private OrderRepository orderRepository;
     @Mock
+    private OrderTotalsRepository orderTotalsRepository;
+    @Mock
     private OrderItemValidator orderItemValidator;
 
     private CatalogItemEntity productEntity;
@@ -113,6 +122,8 @@ class OrderItemIServiceImplTest {
                 .catalogItem(productEntity)
                 .order(orderEntity)
                 .quantity(10)
+                .price(BigDecimal.valueOf(100.0))
+                .total(BigDecimal.valueOf(900.00))
                 .dthreg(LocalDateTime.now())
                 .dthalt(LocalDateTime.now())
                 .version(0L)
@@ -150,19 +161,93 @@ class OrderItemIServiceImplTest {
     @Test
     @DisplayName("Deve criar um item do pedido")
     void testCreate() {
-        when(catalogItemRepository.findById(UUID.fromString(orderItemRequest.catalogItemId()))).thenReturn(Optional.of(productEntity));
+        when(catalogItemCache.findById(UUID.fromString(orderItemRequest.catalogItemId()))).thenReturn(Optional.of(productEntity));
         when(orderItemConverter.requestToEntity(orderItemRequest, productEntity, orderEntity)).thenReturn(orderItemEntity);
         when(orderItemRepository.save(orderItemEntity)).thenReturn(orderItemEntity);
         when(orderRepository.findById(UUID.fromString(orderItemRequest.orderId()))).thenReturn(Optional.of(orderEntity));
-        when(orderItemConverter.toResponse(orderItemEntity)).thenReturn(orderItemResponse);
+        when(orderRepository.refreshVersion(orderEntity.getId())).thenReturn(1L);
+        when(orderItemConverter.toResponse(orderItemEntity, 1L)).thenReturn(orderItemResponse);
 
         OrderItemResponse response = assertDoesNotThrow(() -> orderItemIServiceImpl.createOrderItem(orderItemRequest));
         assertNotNull(response);
         assertEquals(orderItemResponse, response);
-        verify(catalogItemRepository, times(2)).findById(UUID.fromString(orderItemRequest.catalogItemId()));
+        verify(catalogItemCache).findById(UUID.fromString(orderItemRequest.catalogItemId()));
         verify(orderItemConverter).requestToEntity(orderItemRequest, productEntity, orderEntity);
         verify(orderItemRepository).save(orderItemEntity);
-        verify(orderItemConverter).toResponse(orderItemEntity);
+        InOrder inOrder = inOrder(orderRepository, orderItemConverter);
+        inOrder.verify(orderRepository).addTotals(eq(orderEntity.getId()),
+                argThat(gross -> BigDecimal.valueOf(1000).compareTo(gross) == 0),
+                argThat(net -> BigDecimal.valueOf(900).compareTo(net) == 0));
+        inOrder.verify(orderRepository).refreshVersion(orderEntity.getId());
+        inOrder.verify(orderItemConverter).toResponse(orderItemEntity, 1L);
+    }
+
+    @Test
+    @DisplayName("Deve criar vários itens do pedido calculando os totais uma única vez")
+    void testCreateBatch() {
+        CatalogItemEntity serviceEntity = CatalogItemEntity.builder()
+                .id(UUID.fromString("7b1f6a0e-7b3c-4a55-9f0e-0c7c1d2b3a4f"))
+                .catalogItemName("Service 1")
+                .price(BigDecimal.valueOf(50.0))
+                .type(EnumCatalogItemType.SERVICE)
+                .isActive(true)
+                .build();
+        List<OrderItemBatchRequest> requests = List.of(
+                OrderItemBatchRequest.builder().quantity("10").catalogItemId(productEntity.getId().toString()).build(),
+                OrderItemBatchRequest.builder().quantity("2").catalogItemId(serviceEntity.getId().toString()).build());
+
+        when(orderRepository.findById(orderEntity.getId())).thenReturn(Optional.of(orderEntity));
+        when(catalogItemCache.findAllById(Set.of(productEntity.getId(), serviceEntity.getId())))
+                .thenReturn(Map.of(productEntity.getId(), productEntity, serviceEntity.getId(), serviceEntity));
+        when(orderItemConverter.requestToEntity(any(OrderItemRequest.class), any(CatalogItemEntity.class), eq(orderEntity)))
+                .thenAnswer(invocation -> new OrderItemConverter().requestToEntity(invocation.getArgument(0), invocation.getArgument(1), orderEntity));
+        when(orderItemRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(orderRepository.refreshVersion(orderEntity.getId())).thenReturn(1L);
+        when(orderItemConverter.toResponse(any(OrderItemEntity.class), eq(1L))).thenReturn(orderItemResponse);
+
+        List<OrderItemResponse> responses = assertDoesNotThrow(() -> orderItemIServiceImpl.createOrderItems(orderEntity.getId(), requests));
+        assertEquals(2, responses.size());
+        verify(orderRepository).addTotals(eq(orderEntity.getId()),
+                argThat(gross -> BigDecimal.valueOf(1100).compareTo(gross) == 0),
+                argThat(net -> BigDecimal.valueOf(1000).compareTo(net) == 0));
+        verify(orderItemValidator, times(2)).validate(any(OrderItemRequest.class), eq(orderEntity));
+        verify(orderRepository).findById(orderEntity.getId());
+        verify(catalogItemCache, never()).findById(any());
+        verify(orderItemRepository).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção ao criar vários itens com produto inexistente")
+    void testCreateBatchProductNotFound() {
+        List<OrderItemBatchRequest> requests = List.of(
+                OrderItemBatchRequest.builder().quantity("10").catalogItemId(productEntity.getId().toString()).build());
+
+        when(orderRepository.findById(orderEntity.getId())).thenReturn(Optional.of(orderEntity));
+        when(catalogItemCache.findAllById(Set.of(productEntity.getId()))).thenReturn(Map.of());
+
+        Exception exception = assertThrows(ProductNotFoundException.class, () -> orderItemIServiceImpl.createOrderItems(orderEntity.getId(), requests));
+        assertEquals(MessagesConstants.ERROR_PRODUCT_NOT_FOUND, exception.getMessage());
+        verify(orderItemRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção ao criar vários itens sem informar itens")
+    void testCreateBatchEmpty() {
+        UUID orderId = orderEntity.getId();
+        List<OrderItemBatchRequest> requests = List.of();
+        Exception exception = assertThrows(BadRequestException.class, () -> orderItemIServiceImpl.createOrderItems(orderId, requests));
+        assertEquals(MessagesConstants.ERROR_ORDER_ITEMS_EMPTY, exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção ao criar vários itens acima do limite do lote")
+    void testCreateBatchTooLarge() {
+        UUID orderId = orderEntity.getId();
+        List<OrderItemBatchRequest> requests = Collections.nCopies(OrderItemBatchRequest.MAX_ITEMS + 1,
+                OrderItemBatchRequest.builder().quantity("1").catalogItemId(productEntity.getId().toString()).build());
+        Exception exception = assertThrows(BadRequestException.class, () -> orderItemIServiceImpl.createOrderItems(orderId, requests));
+        assertEquals(MessagesConstants.ERROR_ORDER_ITEMS_BATCH_TOO_LARGE, exception.getMessage());
+        verify(orderRepository, never()).findById(any());
     }
 
     @Test
@@ -222,15 +307,20 @@ class OrderItemIServiceImplTest {
     @DisplayName("Deve atualizar um item do pedido")
     void testUpdate() {
         when(orderItemRepository.findById(UUID.fromString("5920e4a2-4105-4af0-beec-405fddb6dbaf"))).thenReturn(Optional.of(orderItemEntity));
-        when(orderItemRepository.save(orderItemEntity)).thenReturn(orderItemEntity);
-        when(orderItemConverter.toResponse(orderItemEntity)).thenReturn(orderItemResponse);
+        when(orderItemRepository.saveAndFlush(orderItemEntity)).thenReturn(orderItemEntity);
+        when(orderRepository.refreshVersion(orderItemEntity.getOrder().getId())).thenReturn(2L);
+        when(orderItemConverter.toResponse(orderItemEntity, 2L)).thenReturn(orderItemResponse);
 
         OrderItemResponse response = assertDoesNotThrow(() -> orderItemIServiceImpl
                 .updateOrderItem(UUID.fromString("5920e4a2-4105-4af0-beec-405fddb6dbaf"), orderItemUpdateRequest));
         assertNotNull(response);
         assertEquals(orderItemResponse, response);
         verify(orderItemRepository).findById(UUID.fromString("5920e4a2-4105-4af0-beec-405fddb6dbaf"));
-        verify(orderItemRepository).save(orderItemEntity);
+        verify(orderItemRepository).saveAndFlush(orderItemEntity);
+        verify(orderTotalsRepository).recompute(List.of(orderItemEntity.getOrder().getId()));
+        InOrder inOrder = inOrder(orderRepository);
+        inOrder.verify(orderRepository).incrementVersion(orderItemEntity.getOrder().getId());
+        inOrder.verify(orderRepository).refreshVersion(orderItemEntity.getOrder().getId());
     }
 
     @Test
@@ -243,7 +333,7 @@ class OrderItemIServiceImplTest {
         assertEquals(MessagesConstants.ERROR_ORDER_ITEM_NOT_FOUND, exception.getMessage());
 
         when(orderItemRepository.findById(UUID.fromString("5920e4a2-4105-4af0-beec-405fddb6dbaf"))).thenReturn(Optional.of(orderItemEntity));
-        when(orderItemRepository.save(orderItemEntity)).thenThrow(new BadRequestException(MessagesConstants.ERROR_UPDATE_ORDER_ITEM));
+        when(orderItemRepository.saveAndFlush(orderItemEntity)).thenThrow(new BadRequestException(MessagesConstants.ERROR_UPDATE_ORDER_ITEM));
 
         exception = assertThrows(Exception.class, () -> orderItemIServiceImpl
                 .updateOrderItem(UUID.fromString("5920e4a2-4105-4af0-beec-405fddb6dbaf"), orderItemUpdateRequest));
@@ -258,10 +348,27 @@ class OrderItemIServiceImplTest {
     @DisplayName("Deve deletar um item do pedido")
     void testDelete() {
         when(orderItemRepository.findById(UUID.fromString("5920e4a2-4105-4af0-beec-405fddb6dbaf"))).thenReturn(Optional.of(orderItemEntity));
+        when(orderTotalsRepository.recompute(List.of(orderItemEntity.getOrder().getId()))).thenReturn(1);
 
         assertDoesNotThrow(() -> orderItemIServiceImpl.deleteOrderItem(UUID.fromString("5920e4a2-4105-4af0-beec-405fddb6dbaf")));
         verify(orderItemRepository).findById(UUID.fromString("5920e4a2-4105-4af0-beec-405fddb6dbaf"));
         verify(orderItemRepository).delete(orderItemEntity);
+        verify(orderItemRepository).flush();
+        verify(orderRepository, never()).incrementVersion(any());
+        verify(orderRepository).refreshVersion(orderItemEntity.getOrder().getId());
+    }
+
+    @Test
+    @DisplayName("Deve retornar a versão de um item do pedido por id")
+    void testGetOrderItemVersion() {
+        when(orderItemRepository.findVersionById(orderItemEntity.getId())).thenReturn(Optional.of("1.0"));
+
+        assertEquals("1.0", assertDoesNotThrow(() -> orderItemIServiceImpl.getOrderItemVersion(orderItemEntity.getId())));
+
+        when(orderItemRepository.findVersionById(orderItemEntity.getId())).thenReturn(Optional.empty());
+
+        Exception exception = assertThrows(Exception.class, () -> orderItemIServiceImpl.getOrderItemVersion(orderItemEntity.getId()));
+        assertEquals(MessagesConstants.ERROR_ORDER_ITEM_NOT_FOUND, exception.getMessage());
     }
 
     @Test
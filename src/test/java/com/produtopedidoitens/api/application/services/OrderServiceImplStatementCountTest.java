@@ -0,0 +1,122 @@
+package com.produtopedidoitens.api.application.services;
+
+import com.produtopedidoitens.api.adapters.config.SequenceConfiguration;
+import com.produtopedidoitens.api.adapters.persistence.metrics.QueryCountDataSourceProxy;
+import com.produtopedidoitens.api.adapters.persistence.metrics.SlowQueryRecorder;
+import com.produtopedidoitens.api.adapters.persistence.metrics.StatementCountFixture;
+import com.produtopedidoitens.api.adapters.persistence.repositories.CatalogItemRepository;
+import com.produtopedidoitens.api.adapters.persistence.repositories.OrderExportRepository;
+import com.produtopedidoitens.api.adapters.persistence.repositories.OrderItemRepository;
+import com.produtopedidoitens.api.adapters.persistence.repositories.OrderRepository;
+import com.produtopedidoitens.api.adapters.persistence.repositories.OrderTotalsRepository;
+import com.produtopedidoitens.api.adapters.persistence.repositories.TrigramSearchRepository;
+import com.produtopedidoitens.api.adapters.web.projections.OrderProjection;
+import com.produtopedidoitens.api.adapters.web.requests.OrderRequest;
+import com.produtopedidoitens.api.adapters.web.responses.CursorPageResponse;
+import com.produtopedidoitens.api.adapters.web.responses.OrderResponse;
+import com.produtopedidoitens.api.application.domain.entities.OrderEntity;
+import com.produtopedidoitens.api.application.domain.entities.OrderItemEntity;
+import com.produtopedidoitens.api.application.mapper.OrderConverter;
+import com.produtopedidoitens.api.application.validators.OrderValidator;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({OrderServiceImpl.class, OrderConverter.class, OrderValidator.class, OrderExportRepository.class, OrderTotalsRepository.class,
+        SequenceConfiguration.class, QueryCountDataSourceProxy.class, SlowQueryRecorder.class,
+        TrigramSearchRepository.class})
+class OrderServiceImplStatementCountTest {
+
+    private static final int ORDERS = 60;
+    private static final int PAGE_SIZE = 50;
+    private static final int ITEMS_PER_ORDER = 3;
+
+    @Autowired
+    private OrderServiceImpl orderServiceImpl;
+    @Autowired
+    private OrderRepository orderRepository;
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+    @Autowired
+    private CatalogItemRepository catalogItemRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    private OrderEntity firstOrder;
+
+    @BeforeEach
+    void setUp() {
+        firstOrder = StatementCountFixture.persistOrders(catalogItemRepository, orderRepository, orderItemRepository, entityManager,
+                ORDERS, ITEMS_PER_ORDER).get(0);
+    }
+
+    @Test
+    @DisplayName("Deve listar uma página de 50 pedidos com no máximo 3 comandos SQL")
+    void testListAllOrdersStatementCount() {
+        Page<OrderProjection> page = StatementCountFixture.assertMaxStatements(() -> orderServiceImpl.listAllOrders(PageRequest.of(0, PAGE_SIZE)), 3);
+
+        assertEquals(PAGE_SIZE, page.getNumberOfElements());
+        assertEquals(ORDERS, page.getTotalElements());
+    }
+
+    @Test
+    @DisplayName("Deve listar uma página de 50 pedidos por cursor com no máximo 2 comandos SQL")
+    void testListOrdersAfterStatementCount() {
+        CursorPageResponse<OrderProjection> page = StatementCountFixture.assertMaxStatements(() -> orderServiceImpl.listOrdersAfter(null, PAGE_SIZE), 2);
+
+        assertEquals(PAGE_SIZE, page.content().size());
+    }
+
+    @Test
+    @DisplayName("Deve buscar um pedido com seus itens com no máximo 2 comandos SQL")
+    void testGetOrderByIdStatementCount() {
+        OrderProjection order = StatementCountFixture.assertMaxStatements(() -> orderServiceImpl.getOrderById(firstOrder.getId()), 2);
+
+        assertEquals(ITEMS_PER_ORDER, order.items().size());
+    }
+
+    @Test
+    @DisplayName("Deve atualizar o desconto do pedido incrementando a versão uma única vez")
+    void testUpdateOrderVersion() {
+        long previousVersion = firstOrder.getVersion();
+
+        OrderResponse response = orderServiceImpl.updateOrder(firstOrder.getId(), OrderRequest.builder().discount("20").build());
+        entityManager.flush();
+        entityManager.clear();
+        OrderEntity stored = orderRepository.findById(firstOrder.getId()).orElseThrow();
+
+        assertEquals(previousVersion + 1, response.version());
+        assertEquals(response.version(), stored.getVersion());
+        assertEquals(0, new BigDecimal("26.40").compareTo(stored.getNetTotal()));
+        assertEquals(0, new BigDecimal("33.00").compareTo(stored.getGrossTotal()));
+    }
+
+    @Test
+    @DisplayName("Deve alterar a versão dos itens ao atualizar o desconto do pedido")
+    void testUpdateOrderItemVersion() {
+        List<OrderItemEntity> loadedItems = orderRepository.findById(firstOrder.getId()).orElseThrow().getItems();
+        OrderItemEntity item = loadedItems.get(0);
+        String previousVersion = orderItemRepository.findVersionById(item.getId()).orElseThrow();
+
+        orderServiceImpl.updateOrder(firstOrder.getId(), OrderRequest.builder().discount("20").build());
+
+        assertNotEquals(previousVersion, orderItemRepository.findVersionById(item.getId()).orElseThrow());
+        assertEquals(1L, item.getVersion());
+        assertEquals(0, item.getTotal().compareTo(item.getPrice().multiply(new BigDecimal("0.80"))));
+    }
+
+}
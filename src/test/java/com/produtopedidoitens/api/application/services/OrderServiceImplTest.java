@@ -1,33 +1,49 @@
 package com.produtopedidoitens.api.application.services;
 
+import com.produtopedidoitens.api.adapters.persistence.repositories.OrderExportRepository;
 import com.produtopedidoitens.api.adapters.persistence.repositories.OrderRepository;
+import com.produtopedidoitens.api.adapters.persistence.repositories.OrderTotalsRepository;
+import com.produtopedidoitens.api.adapters.persistence.repositories.OrderTotalsRepository.OrderTotals;
+import com.produtopedidoitens.api.adapters.persistence.repositories.TrigramSearchRepository;
+import com.produtopedidoitens.api.adapters.persistence.repositories.TrigramSearchRepository.SearchHit;
 import com.produtopedidoitens.api.adapters.web.projections.OrderProjection;
+import com.produtopedidoitens.api.adapters.web.requests.OrderFilterRequest;
 import com.produtopedidoitens.api.adapters.web.requests.OrderRequest;
+import com.produtopedidoitens.api.adapters.web.responses.CursorPageResponse;
 import com.produtopedidoitens.api.adapters.web.responses.OrderResponse;
 import com.produtopedidoitens.api.application.domain.entities.OrderEntity;
 import com.produtopedidoitens.api.application.domain.enums.EnumOrderStatus;
 import com.produtopedidoitens.api.application.exceptions.BadRequestException;
+import com.produtopedidoitens.api.application.mapper.CursorConverter;
 import com.produtopedidoitens.api.application.mapper.OrderConverter;
 import com.produtopedidoitens.api.application.validators.OrderValidator;
 import com.produtopedidoitens.api.utils.MessagesConstants;
-import com.querydsl.core.types.Predicate;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -41,9 +57,15 @@ class OrderServiceImplTest {
     @Mock
     private OrderRepository orderRepository;
     @Mock
+    private OrderExportRepository orderExportRepository;
+    @Mock
+    private OrderTotalsRepository orderTotalsRepository;
+    @Mock
     private OrderConverter orderConverter;
     @Mock
     private OrderValidator orderValidator;
+    @Mock
+    private TrigramSearchRepository trigramSearchRepository;
 
     private OrderRequest orderRequest;
     private OrderResponse orderResponse;
@@ -123,8 +145,8 @@ class OrderServiceImplTest {
     @Test
     @DisplayName("Deve listar pedidos")
     void testList() {
-        when(orderRepository.findAll()).thenReturn(List.of(orderEntity));
-        when(orderConverter.toProjection(orderEntity)).thenReturn(orderProjection);
+        when(orderRepository.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(List.of(orderEntity)));
+        when(orderConverter.toProjections(List.of(orderEntity))).thenReturn(List.of(orderProjection));
 
         Page<OrderProjection> responseList = assertDoesNotThrow(() -> orderServiceImpl.listAllOrders(PageRequest.of(0, 10)));
         assertNotNull(responseList);
@@ -135,19 +157,76 @@ class OrderServiceImplTest {
         assertEquals(orderProjection.grossTotal(), responseList.toList().get(0).grossTotal());
         assertEquals(orderProjection.discount(), responseList.toList().get(0).discount());
         assertEquals(orderProjection.netTotal(), responseList.toList().get(0).netTotal());
-        verify(orderRepository).findAll();
-        verify(orderConverter).toProjection(orderEntity);
+        verify(orderRepository).findAll(PageRequest.of(0, 10, Sort.by("dthreg", "id")));
+        verify(orderRepository, never()).findAll();
+        verify(orderConverter).toProjections(List.of(orderEntity));
     }
 
     @Test
     @DisplayName("Deve retornar um erro ao listar pedidos")
     void testListError() {
-        when(orderRepository.findAll()).thenReturn(new ArrayList<>());
+        when(orderRepository.findAll(any(Pageable.class))).thenReturn(Page.empty());
 
         Exception exception = assertThrows(Exception.class, () -> orderServiceImpl.listAllOrders(PageRequest.of(0, 10)));
         assertEquals(MessagesConstants.ERROR_NOT_FOUND_ORDER, exception.getMessage());
     }
 
+    @Test
+    @DisplayName("Deve listar pedidos sem executar a contagem total")
+    void testListWithoutCount() {
+        PageRequest pageable = PageRequest.of(0, 10, Sort.by("orderDate"));
+        when(orderRepository.findAllBy(pageable)).thenReturn(new SliceImpl<>(List.of(orderEntity), pageable, false));
+        when(orderConverter.toProjections(List.of(orderEntity))).thenReturn(List.of(orderProjection));
+
+        Slice<OrderProjection> response = assertDoesNotThrow(() -> orderServiceImpl.listOrdersWithoutCount(pageable));
+        assertNotNull(response);
+        assertEquals(1, response.getNumberOfElements());
+        assertFalse(response.hasNext());
+        assertEquals(orderProjection, response.getContent().get(0));
+        verify(orderRepository).findAllBy(pageable);
+        verify(orderRepository, never()).count();
+    }
+
+    @Test
+    @DisplayName("Deve listar pedidos por cursor buscando uma linha a mais para detectar a próxima página")
+    void testListOrdersAfter() {
+        OrderEntity secondEntity = OrderEntity.builder()
+                .id(UUID.randomUUID())
+                .dthreg(LocalDateTime.now())
+                .build();
+        when(orderRepository.findFirstKeysetPage(Limit.of(2))).thenReturn(List.of(orderEntity, secondEntity));
+        when(orderConverter.toProjections(List.of(orderEntity))).thenReturn(List.of(orderProjection));
+
+        CursorPageResponse<OrderProjection> response = assertDoesNotThrow(() -> orderServiceImpl.listOrdersAfter(null, 1));
+        assertEquals(1, response.content().size());
+        assertTrue(response.hasNext());
+        assertEquals(orderEntity.getId(), CursorConverter.decode(response.nextCursor()).id());
+
+        when(orderRepository.findKeysetPageAfter(orderEntity.getDthreg(), orderEntity.getId(), Limit.of(2))).thenReturn(List.of(secondEntity));
+        when(orderConverter.toProjections(List.of(secondEntity))).thenReturn(List.of(orderProjection));
+
+        CursorPageResponse<OrderProjection> nextPage = assertDoesNotThrow(() -> orderServiceImpl.listOrdersAfter(response.nextCursor(), 1));
+        assertFalse(nextPage.hasNext());
+        assertNull(nextPage.nextCursor());
+    }
+
+    @Test
+    @DisplayName("Deve retornar um erro ao listar pedidos com cursor inválido")
+    void testListOrdersAfterError() {
+        Exception exception = assertThrows(BadRequestException.class, () -> orderServiceImpl.listOrdersAfter("invalido", 10));
+        assertEquals(MessagesConstants.ERROR_INVALID_CURSOR, exception.getMessage());
+        verifyNoInteractions(orderRepository);
+    }
+
+    @Test
+    @DisplayName("Deve retornar um erro ao listar pedidos sem contagem quando não houver registros")
+    void testListWithoutCountError() {
+        when(orderRepository.findAllBy(any(Pageable.class))).thenReturn(new SliceImpl<>(List.of()));
+
+        Exception exception = assertThrows(Exception.class, () -> orderServiceImpl.listOrdersWithoutCount(PageRequest.of(0, 10)));
+        assertEquals(MessagesConstants.ERROR_NOT_FOUND_ORDER, exception.getMessage());
+    }
+
     @Test
     @DisplayName("Deve buscar um pedido por id")
     void testRead() {
@@ -175,11 +254,27 @@ class OrderServiceImplTest {
         assertEquals(MessagesConstants.ERROR_NOT_FOUND_ORDER, exception.getMessage());
     }
 
+    @Test
+    @DisplayName("Deve retornar a versão de um pedido por id")
+    void testGetOrderVersion() {
+        when(orderRepository.findVersionById(orderEntity.getId())).thenReturn(Optional.of("2.3"));
+
+        assertEquals("2.3", assertDoesNotThrow(() -> orderServiceImpl.getOrderVersion(orderEntity.getId())));
+
+        when(orderRepository.findVersionById(orderEntity.getId())).thenReturn(Optional.empty());
+
+        Exception exception = assertThrows(Exception.class, () -> orderServiceImpl.getOrderVersion(orderEntity.getId()));
+        assertEquals(MessagesConstants.ERROR_NOT_FOUND_ORDER, exception.getMessage());
+        verify(orderRepository, never()).findById(orderEntity.getId());
+    }
+
     @Test
     @DisplayName("Deve atualizar um pedido")
     void testUpdate() {
         when(orderRepository.findById(orderEntity.getId())).thenReturn(Optional.of(orderEntity));
-        when(orderRepository.save(orderEntity)).thenReturn(orderEntity);
+        when(orderTotalsRepository.sumTotals(List.of(orderEntity.getId())))
+                .thenReturn(Map.of(orderEntity.getId(), new OrderTotals(new BigDecimal("150.00"), new BigDecimal("135.00"))));
+        when(orderRepository.saveAndFlush(orderEntity)).thenReturn(orderEntity);
         when(orderConverter.toResponse(orderEntity)).thenReturn(orderResponse);
 
         OrderResponse response = assertDoesNotThrow(() -> orderServiceImpl.updateOrder(orderEntity.getId(), orderRequest));
@@ -188,8 +283,40 @@ class OrderServiceImplTest {
         assertEquals(orderResponse.status(), response.status());
         assertEquals(orderResponse.discount(), response.discount());
         verify(orderRepository).findById(orderEntity.getId());
-        verify(orderRepository).save(orderEntity);
+        InOrder inOrder = inOrder(orderRepository, orderTotalsRepository);
+        inOrder.verify(orderTotalsRepository).sumTotals(List.of(orderEntity.getId()));
+        inOrder.verify(orderRepository).saveAndFlush(orderEntity);
+        verify(orderTotalsRepository, never()).repriceProductItems(any(), anyLong());
+        verify(orderRepository, never()).save(orderEntity);
         verify(orderConverter).toResponse(orderEntity);
+        assertEquals(new BigDecimal("150.00"), orderEntity.getGrossTotal());
+        assertEquals(new BigDecimal("135.00"), orderEntity.getNetTotal());
+    }
+
+    @Test
+    @DisplayName("Deve recalcular os itens no banco ao alterar o desconto do pedido")
+    void testUpdateDiscount() {
+        OrderRequest discountRequest = OrderRequest.builder()
+                .orderDate(LocalDate.now())
+                .status("Aberto")
+                .discount("12.5")
+                .build();
+        when(orderRepository.findById(orderEntity.getId())).thenReturn(Optional.of(orderEntity));
+        when(orderTotalsRepository.repriceProductItems(orderEntity.getId(), 1250L)).thenReturn(2);
+        when(orderTotalsRepository.sumTotals(List.of(orderEntity.getId())))
+                .thenReturn(Map.of(orderEntity.getId(), new OrderTotals(new BigDecimal("150.00"), new BigDecimal("131.25"))));
+        when(orderRepository.saveAndFlush(orderEntity)).thenReturn(orderEntity);
+        when(orderConverter.toResponse(orderEntity)).thenReturn(orderResponse);
+
+        assertDoesNotThrow(() -> orderServiceImpl.updateOrder(orderEntity.getId(), discountRequest));
+        InOrder inOrder = inOrder(orderRepository, orderTotalsRepository);
+        inOrder.verify(orderRepository).flush();
+        inOrder.verify(orderTotalsRepository).repriceProductItems(orderEntity.getId(), 1250L);
+        inOrder.verify(orderRepository).refreshItems(orderEntity);
+        inOrder.verify(orderTotalsRepository).sumTotals(List.of(orderEntity.getId()));
+        inOrder.verify(orderRepository).saveAndFlush(orderEntity);
+        assertEquals(0, new BigDecimal("12.5").compareTo(orderEntity.getDiscount()));
+        assertEquals(new BigDecimal("131.25"), orderEntity.getNetTotal());
     }
 
     @Test
@@ -201,7 +328,9 @@ class OrderServiceImplTest {
         assertEquals(MessagesConstants.ERROR_NOT_FOUND_ORDER, exception.getMessage());
 
         when(orderRepository.findById(orderEntity.getId())).thenReturn(Optional.of(orderEntity));
-        when(orderRepository.save(orderEntity)).thenThrow(new BadRequestException(MessagesConstants.ERROR_UPDATE_ORDER));
+        when(orderTotalsRepository.sumTotals(List.of(orderEntity.getId())))
+                .thenReturn(Map.of(orderEntity.getId(), new OrderTotals(BigDecimal.ZERO, BigDecimal.ZERO)));
+        when(orderRepository.saveAndFlush(orderEntity)).thenThrow(new BadRequestException(MessagesConstants.ERROR_UPDATE_ORDER));
 
         exception = assertThrows(Exception.class, () -> orderServiceImpl.updateOrder(orderEntity.getId(), orderRequest));
         assertEquals(MessagesConstants.ERROR_UPDATE_ORDER, exception.getMessage());
@@ -233,22 +362,95 @@ class OrderServiceImplTest {
     }
 
     @Test
-    @DisplayName("Deve buscar pedidos por filtro")
-    void testSearchOrders() {
-        List<OrderEntity> orderEntityList = List.of(orderEntity);
-        List<OrderProjection> expectedProjectionList = List.of(orderProjection);
+    @DisplayName("Deve buscar pedidos por filtro com projeção paginada e itens carregados em lote")
+    void testFilterOrders() {
+        OrderFilterRequest filter = OrderFilterRequest.builder()
+                .orderNumber("PED-123")
+                .status(EnumOrderStatus.OPEN)
+                .startDate(LocalDate.of(2024, 7, 1))
+                .endDate(LocalDate.of(2024, 7, 31))
+                .build();
+        Pageable expectedPageable = PageRequest.of(1, 5, Sort.by(Sort.Direction.DESC, "netTotal", "id"));
+        List<OrderProjection> rows = List.of(orderProjection);
+        when(orderRepository.findProjections(any(), eq(expectedPageable))).thenReturn(new PageImpl<>(rows, expectedPageable, 6));
+        when(orderConverter.withItems(rows)).thenReturn(rows);
 
-        when(orderRepository.findAll(any(Predicate.class))).thenReturn(orderEntityList);
-        when(orderConverter.toProjection(orderEntity)).thenReturn(orderProjection);
+        Page<OrderProjection> result = orderServiceImpl.filterOrders(filter, PageRequest.of(1, 5, Sort.by(Sort.Direction.DESC, "netTotal")));
+
+        assertEquals(rows, result.getContent());
+        assertEquals(6, result.getTotalElements());
+        verify(orderRepository, never()).findAll();
+        verify(orderConverter, never()).toProjections(anyList());
+    }
+
+    @Test
+    @DisplayName("Deve retornar um erro ao buscar pedidos com intervalo de datas inválido")
+    void testFilterOrdersInvalidRange() {
+        OrderFilterRequest filter = OrderFilterRequest.builder()
+                .startDate(LocalDate.of(2024, 8, 1))
+                .endDate(LocalDate.of(2024, 7, 1))
+                .build();
+        PageRequest pageable = PageRequest.of(0, 10);
 
-        List<OrderProjection> result = orderServiceImpl.searchOrders("PED-123-2024", EnumOrderStatus.OPEN);
+        BadRequestException exception = assertThrows(BadRequestException.class, () -> orderServiceImpl.filterOrders(filter, pageable));
 
-        assertNotNull(result);
-        assertEquals(expectedProjectionList.size(), result.size());
-        assertEquals(expectedProjectionList.get(0), result.get(0));
+        assertEquals(MessagesConstants.ERROR_INVALID_FILTER_RANGE, exception.getMessage());
+        verifyNoInteractions(orderRepository);
+    }
+
+    @Test
+    @DisplayName("Deve retornar um erro ao ordenar pedidos filtrados por campo sem índice")
+    void testFilterOrdersUnindexedSort() {
+        OrderFilterRequest filter = OrderFilterRequest.builder().build();
+        PageRequest pageable = PageRequest.of(0, 10, Sort.by("grossTotal"));
 
-        verify(orderRepository).findAll(any(Predicate.class));
-        verify(orderConverter, times(orderEntityList.size())).toProjection(orderEntity);
+        BadRequestException exception = assertThrows(BadRequestException.class, () -> orderServiceImpl.filterOrders(filter, pageable));
 
+        assertEquals(MessagesConstants.ERROR_INVALID_SORT, exception.getMessage());
+        verifyNoInteractions(orderRepository);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Deve exportar os pedidos repassando cada linha ao consumidor")
+    void testExportOrders() {
+        List<OrderProjection> exported = new ArrayList<>();
+        doAnswer(invocation -> {
+            Consumer<OrderProjection> consumer = invocation.getArgument(0);
+            consumer.accept(orderProjection);
+            return null;
+        }).when(orderExportRepository).streamOrders(any());
+
+        assertDoesNotThrow(() -> orderServiceImpl.exportOrders(exported::add));
+        assertEquals(List.of(orderProjection), exported);
+    }
+
+    @Test
+    @DisplayName("Deve buscar pedidos pelo número mantendo a ordem de similaridade")
+    void testSearchOrdersByNumber() {
+        OrderEntity otherEntity = OrderEntity.builder()
+                .id(UUID.fromString("a47b3b2b-4b0b-4b7e-8b3e-3b3e4b7b2b4f"))
+                .orderNumber("PED-1-2024-REV")
+                .build();
+        when(trigramSearchRepository.searchOrders("PED-1", EnumOrderStatus.OPEN, null, 11))
+                .thenReturn(List.of(new SearchHit(orderEntity.getId(), 0.0), new SearchHit(otherEntity.getId(), 0.2)));
+        when(orderRepository.findAllById(List.of(orderEntity.getId(), otherEntity.getId())))
+                .thenReturn(List.of(otherEntity, orderEntity));
+        when(orderConverter.toProjections(List.of(orderEntity, otherEntity))).thenReturn(List.of(orderProjection));
+
+        CursorPageResponse<OrderProjection> result = orderServiceImpl.searchOrdersByNumber("PED-1", EnumOrderStatus.OPEN, null, 10);
+
+        assertEquals(List.of(orderProjection), result.content());
+        assertFalse(result.hasNext());
+        assertNull(result.nextCursor());
+    }
+
+    @Test
+    @DisplayName("Deve retornar uma página vazia ao buscar pedidos com termo muito curto")
+    void testSearchOrdersByNumberShortTerm() {
+        CursorPageResponse<OrderProjection> result = orderServiceImpl.searchOrdersByNumber("PE", null, null, 10);
+
+        assertTrue(result.content().isEmpty());
+        verifyNoInteractions(trigramSearchRepository);
+    }
+
+}
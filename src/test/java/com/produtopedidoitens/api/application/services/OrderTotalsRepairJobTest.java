@@ -0,0 +1,103 @@
+package com.produtopedidoitens.api.application.services;
+
+import com.produtopedidoitens.api.adapters.persistence.repositories.OrderTotalsRepository;
+import com.produtopedidoitens.api.adapters.web.responses.OrderTotalsRepairResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderTotalsRepairJobTest {
+
+    @Mock
+    private OrderTotalsRepository orderTotalsRepository;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private OrderTotalsRepairJob orderTotalsRepairJob;
+
+    @BeforeEach
+    void setUp() {
+        orderTotalsRepairJob = new OrderTotalsRepairJob(orderTotalsRepository, transactionTemplate);
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderTotalsRepairJob.shutdown();
+    }
+
+    @Test
+    @DisplayName("Deve recalcular os totais em blocos, em segundo plano, e registrar o andamento")
+    void testRepair() throws InterruptedException {
+        List<UUID> firstChunk = List.of(UUID.randomUUID(), UUID.randomUUID());
+        List<UUID> secondChunk = List.of(UUID.randomUUID());
+        CountDownLatch release = new CountDownLatch(1);
+        when(orderTotalsRepository.findOrderIdsAfter(null, OrderTotalsRepairJob.CHUNK_SIZE)).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return firstChunk;
+        });
+        when(orderTotalsRepository.findOrderIdsAfter(firstChunk.get(1), OrderTotalsRepairJob.CHUNK_SIZE)).thenReturn(secondChunk);
+        when(orderTotalsRepository.findOrderIdsAfter(secondChunk.get(0), OrderTotalsRepairJob.CHUNK_SIZE)).thenReturn(List.of());
+        when(orderTotalsRepository.recompute(firstChunk)).thenReturn(1);
+        when(orderTotalsRepository.recompute(secondChunk)).thenReturn(0);
+
+        OrderTotalsRepairResponse started = orderTotalsRepairJob.start();
+        OrderTotalsRepairResponse again = orderTotalsRepairJob.start();
+        release.countDown();
+        OrderTotalsRepairResponse finished = awaitFinished();
+
+        assertEquals("Em execução", started.status());
+        assertNotNull(started.startedAt());
+        assertSame(started, again);
+        assertEquals("Concluído", finished.status());
+        assertEquals(3, finished.processedOrders());
+        assertEquals(1, finished.updatedOrders());
+        assertNotNull(finished.finishedAt());
+        verify(orderTotalsRepository, times(1)).findOrderIdsAfter(null, OrderTotalsRepairJob.CHUNK_SIZE);
+    }
+
+    @Test
+    @DisplayName("Deve registrar a falha do recálculo e permitir iniciá-lo novamente")
+    void testRepairFailure() throws InterruptedException {
+        when(orderTotalsRepository.findOrderIdsAfter(null, OrderTotalsRepairJob.CHUNK_SIZE))
+                .thenThrow(new IllegalStateException("falha"))
+                .thenReturn(List.of());
+
+        orderTotalsRepairJob.start();
+        OrderTotalsRepairResponse failed = awaitFinished();
+        orderTotalsRepairJob.start();
+        OrderTotalsRepairResponse completed = awaitFinished();
+
+        assertEquals("Falhou", failed.status());
+        assertEquals("Concluído", completed.status());
+        assertEquals(0, completed.processedOrders());
+    }
+
+    private OrderTotalsRepairResponse awaitFinished() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        OrderTotalsRepairResponse status = orderTotalsRepairJob.status();
+        while (status.finishedAt() == null && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            status = orderTotalsRepairJob.status();
+        }
+        return status;
+    }
+
+}
@@ -1,5 +1,6 @@
 package com.produtopedidoitens.api.application.validators;
 
+import com.produtopedidoitens.api.adapters.web.requests.CatalogItemFilterRequest;
 import com.produtopedidoitens.api.adapters.web.requests.CatalogItemRequest;
 import com.produtopedidoitens.api.application.exceptions.BadRequestException;
 import com.produtopedidoitens.api.utils.MessagesConstants;
@@ -45,6 +46,18 @@ class CatalogItemValidatorTest {
         assertDoesNotThrow(() -> catalogItemValidator.validate(catalogItemRequest));
     }
 
+    @Test
+    @DisplayName("Deve aceitar no filtro apenas os tipos Produto ou Serviço")
+    void testValidateFilter() {
+        CatalogItemFilterRequest service = CatalogItemFilterRequest.builder().type("Serviço").build();
+        CatalogItemFilterRequest constantName = CatalogItemFilterRequest.builder().type("PRODUCT").build();
+
+        assertDoesNotThrow(() -> catalogItemValidator.validateFilter(service));
+        assertDoesNotThrow(() -> catalogItemValidator.validateFilter(CatalogItemFilterRequest.builder().build()));
+        BadRequestException exception = assertThrows(BadRequestException.class, () -> catalogItemValidator.validateFilter(constantName));
+        assertEquals(MessagesConstants.PRODUCT_TYPE_PRODUCT_SERVICE, exception.getMessage());
+    }
+
     @ParameterizedTest
     @MethodSource("provideInvalidCatalogItemRequest")
     void testValidateInvalidCatalogItemRequest(
@@ -0,0 +1 @@
+CREATE SEQUENCE IF NOT EXISTS sq_tborder_ordernumber START WITH 1001 INCREMENT BY 50;
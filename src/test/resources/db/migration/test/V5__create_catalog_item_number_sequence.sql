@@ -0,0 +1 @@
+CREATE SEQUENCE IF NOT EXISTS sq_tbcatalogitem_catalogitemnumber START WITH 1000000 INCREMENT BY 100;